@@ -1,21 +0,0 @@
-package com.taskify.taskify.repository;
-
-import com.taskify.taskify.model.IdempotencyKey;
-import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
-import org.springframework.data.jpa.repository.Query;
-import org.springframework.stereotype.Repository;
-
-import java.time.LocalDateTime;
-import java.util.Optional;
-
-@Repository
-public interface IdempotencyKeyRepository extends JpaRepository<IdempotencyKey, Long> {
-
-    Optional<IdempotencyKey> findByIdempotencyKeyAndUserIdAndEndpoint(String idempotencyKey, Long userId,
-            String endpoint);
-
-    @Modifying
-    @Query("DELETE FROM IdempotencyKey i WHERE i.expiresAt < :now")
-    void deleteExpiredKeys(LocalDateTime now);
-}
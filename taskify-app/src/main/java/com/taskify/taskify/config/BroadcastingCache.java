@@ -0,0 +1,104 @@
+package com.taskify.taskify.config;
+
+import com.taskify.taskify.service.CacheInvalidationBus;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Local cache whose evictions are also published on the {@link CacheInvalidationBus},
+ * so other nodes drop the same entries. Reads and writes stay local.
+ */
+public class BroadcastingCache implements Cache {
+
+    private final Cache target;
+    private final ObjectProvider<CacheInvalidationBus> bus;
+
+    public BroadcastingCache(Cache target, ObjectProvider<CacheInvalidationBus> bus) {
+        this.target = target;
+        this.bus = bus;
+    }
+
+    /**
+     * The local cache, for applying invalidations that arrived from the bus
+     * without publishing them again.
+     */
+    public Cache getTargetCache() {
+        return target;
+    }
+
+    @Override
+    public String getName() {
+        return target.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return target.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return target.get(key);
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return target.get(key, type);
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        return target.get(key, valueLoader);
+    }
+
+    @Override
+    public CompletableFuture<?> retrieve(Object key) {
+        return target.retrieve(key);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+        return target.retrieve(key, valueLoader);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        target.put(key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        return target.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        target.evict(key);
+        bus.ifAvailable(b -> b.publishEviction(getName(), key));
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean evicted = target.evictIfPresent(key);
+        // Other nodes may hold the entry even when this one did not
+        bus.ifAvailable(b -> b.publishEviction(getName(), key));
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        target.clear();
+        bus.ifAvailable(b -> b.publishClear(getName()));
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean invalidated = target.invalidate();
+        bus.ifAvailable(b -> b.publishClear(getName()));
+        return invalidated;
+    }
+}
@@ -0,0 +1,147 @@
+package com.taskify.taskify.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.taskify.taskify.service.CacheInvalidationBus;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+        @Value("${app.cache.tasks.status.ttl:10}")
+        private int tasksStatusTtl;
+
+        @Value("${app.cache.tasks.status.max-size:500}")
+        private int tasksStatusMaxSize;
+
+        @Value("${app.cache.tasks.details.ttl:30}")
+        private int tasksDetailsTtl;
+
+        @Value("${app.cache.tasks.details.max-size:1000}")
+        private int tasksDetailsMaxSize;
+
+        @Value("${app.cache.aggregates.ttl-minutes:30}")
+        private int aggregatesTtlMinutes;
+
+        @Value("${app.cache.aggregates.refresh-after-seconds:60}")
+        private int aggregatesRefreshAfterSeconds;
+
+        @Value("${app.cache.weekly-review.refresh-after-seconds:600}")
+        private int weeklyReviewRefreshAfterSeconds;
+
+        // Background reloads for refresh-ahead caches; a full queue just serves stale a little longer
+        private final ThreadPoolExecutor refreshExecutor = newRefreshExecutor();
+
+        /**
+         * Every cache is wrapped in a {@link BroadcastingCache}, so evictions and
+         * clears also reach the other nodes through the invalidation bus.
+         */
+        @Bean
+        @SuppressWarnings("null")
+        public CacheManager cacheManager(ObjectProvider<CacheInvalidationBus> invalidationBus,
+                        PlatformTransactionManager transactionManager) {
+                // Aggregate views are refreshed ahead of expiry instead of recomputed on a miss
+                Map<String, Duration> refreshAfter = Map.of(
+                                "dailyCheckIn", Duration.ofSeconds(aggregatesRefreshAfterSeconds),
+                                "intentOverview", Duration.ofSeconds(aggregatesRefreshAfterSeconds),
+                                "weeklyReview", Duration.ofSeconds(weeklyReviewRefreshAfterSeconds));
+                TransactionTemplate reloadTransaction = new TransactionTemplate(transactionManager);
+                reloadTransaction.setReadOnly(true);
+
+                CaffeineCacheManager cacheManager = new CaffeineCacheManager() {
+                        @Override
+                        protected Cache adaptCaffeineCache(String name,
+                                        com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+                                Cache local = refreshAfter.containsKey(name)
+                                                ? new RefreshAheadCache(name, cache, refreshAfter.get(name),
+                                                                refreshExecutor, reloadTransaction)
+                                                : super.adaptCaffeineCache(name, cache);
+                                return new BroadcastingCache(local, invalidationBus);
+                        }
+                };
+                cacheManager.setCacheNames(List.of("tasks", "taskDetails", "intentOverview"));
+
+                cacheManager.registerCustomCache("tasks", Caffeine.newBuilder()
+                                .expireAfterWrite(tasksStatusTtl, TimeUnit.MINUTES)
+                                .maximumSize(tasksStatusMaxSize)
+                                .recordStats()
+                                .<Object, Object>build());
+
+                cacheManager.registerCustomCache("taskDetails", Caffeine.newBuilder()
+                                .expireAfterWrite(tasksDetailsTtl, TimeUnit.MINUTES)
+                                .maximumSize(tasksDetailsMaxSize)
+                                .recordStats()
+                                .<Object, Object>build());
+
+                cacheManager.registerCustomCache("focusTasks", Caffeine.newBuilder()
+                                .expireAfterWrite(5, TimeUnit.MINUTES)
+                                .maximumSize(5000)
+                                .recordStats()
+                                .<Object, Object>build());
+
+                cacheManager.registerCustomCache("weeklyReview", Caffeine.newBuilder()
+                                .expireAfterWrite(1, TimeUnit.HOURS)
+                                .maximumSize(5000)
+                                .<Object, Object>build());
+
+                cacheManager.registerCustomCache("dailyCheckIn", Caffeine.newBuilder()
+                                .expireAfterWrite(aggregatesTtlMinutes, TimeUnit.MINUTES)
+                                .maximumSize(5000)
+                                .<Object, Object>build());
+
+                cacheManager.registerCustomCache("intentOverview", Caffeine.newBuilder()
+                                .expireAfterWrite(aggregatesTtlMinutes, TimeUnit.MINUTES)
+                                .maximumSize(5000)
+                                .<Object, Object>build());
+
+                return cacheManager;
+        }
+
+        /**
+         * Inputs of the per-user aggregate caches. Their entries are evicted when an
+         * input changes, which is what lets them live for {@code app.cache.aggregates.ttl-minutes}.
+         */
+        @Bean
+        public CacheDependencyRegistry cacheDependencies(CacheManager cacheManager) {
+                return new CacheDependencyRegistry(cacheManager)
+                                // Today's view: a new day starts a new key
+                                .declare("dailyCheckIn", username -> username + "|" + LocalDate.now(),
+                                                CacheInput.TASKS, CacheInput.CHECK_INS)
+                                .declare("intentOverview", username -> username,
+                                                CacheInput.TASKS, CacheInput.INTENT_BUCKETS);
+        }
+
+        private static ThreadPoolExecutor newRefreshExecutor() {
+                AtomicInteger threadCount = new AtomicInteger();
+                return new ThreadPoolExecutor(2, 2, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(100),
+                                runnable -> {
+                                        Thread thread = new Thread(runnable, "cache-refresh-" + threadCount.incrementAndGet());
+                                        thread.setDaemon(true);
+                                        return thread;
+                                });
+        }
+
+        @PreDestroy
+        void shutdownRefreshExecutor() {
+                refreshExecutor.shutdownNow();
+        }
+}
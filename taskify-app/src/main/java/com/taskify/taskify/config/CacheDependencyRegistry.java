@@ -0,0 +1,100 @@
+package com.taskify.taskify.config;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Derived per-user caches and the inputs they are computed from. Each declared
+ * cache names its per-user key and its {@link CacheInput}s; a write reports the
+ * input and owner it touched and only those users' entries in the dependent caches
+ * are evicted. Caches keyed on the list generation (task pages, focus tasks, the
+ * weekly review) already follow task writes and are not declared here.
+ *
+ * <p>Cached reads take their key from {@link #currentUserKey}, so reads and
+ * evictions cannot disagree on it. Keys are strings, which the invalidation bus
+ * carries as single-key evictions.
+ */
+public class CacheDependencyRegistry {
+
+    private final CacheManager cacheManager;
+    private final Map<String, Function<String, String>> keys = new HashMap<>();
+    private final Map<CacheInput, List<String>> dependents = new EnumMap<>(CacheInput.class);
+
+    public CacheDependencyRegistry(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    /**
+     * Declares a derived cache whose entries, keyed per username, are computed from
+     * the given inputs.
+     */
+    public CacheDependencyRegistry declare(String cacheName, Function<String, String> keyForUser,
+            CacheInput... inputs) {
+        keys.put(cacheName, keyForUser);
+        for (CacheInput input : inputs) {
+            dependents.computeIfAbsent(input, i -> new ArrayList<>()).add(cacheName);
+        }
+        return this;
+    }
+
+    /**
+     * Key of the calling user's entry in a declared cache.
+     */
+    public String currentUserKey(String cacheName) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return keyFor(cacheName, authentication.getName());
+    }
+
+    /**
+     * Cache names that depend on the given input.
+     */
+    public List<String> dependentsOf(CacheInput input) {
+        return dependents.getOrDefault(input, List.of());
+    }
+
+    /**
+     * Evicts the user's entries built from the input. The eviction happens right
+     * away (and is published to the other nodes once the transaction commits), and
+     * is repeated locally after the commit, so a read that cached pre-commit rows
+     * in between does not outlive the write.
+     */
+    public void invalidate(CacheInput input, String username) {
+        for (String cacheName : dependentsOf(input)) {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache == null) {
+                continue;
+            }
+            String key = keyFor(cacheName, username);
+            cache.evict(key);
+
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                Cache local = cache instanceof BroadcastingCache broadcasting ? broadcasting.getTargetCache() : cache;
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        local.evict(key);
+                    }
+                });
+            }
+        }
+    }
+
+    private String keyFor(String cacheName, String username) {
+        Function<String, String> key = keys.get(cacheName);
+        if (key == null) {
+            throw new IllegalArgumentException("Cache '" + cacheName + "' has no declared dependencies");
+        }
+        return key.apply(username);
+    }
+}
@@ -0,0 +1,145 @@
+package com.taskify.taskify.config;
+
+import com.taskify.taskify.service.CacheInvalidationBus;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-user task list generations. A write to any of a user's tasks advances that
+ * user's counter (and the global counter that admin-wide listings are keyed on),
+ * so list cache keys and ETags built from an older generation stop matching.
+ *
+ * <p>Counters only move forward: they are never evicted, and every counter
+ * starts at an epoch taken from the wall clock (in microseconds) when the
+ * registry is created. A restarted instance therefore hands out generations
+ * above anything the previous one issued, unless a single user saw more than a
+ * million writes per second of its uptime. Users that have never written read
+ * the epoch itself, without creating an entry.
+ *
+ * <p>Task details have their own, separate counters. Single-task writes evict
+ * the one detail entry they touch; only writes that change many tasks in one
+ * statement (such as detaching a deleted intent bucket) advance the detail
+ * generation, so a single write does not throw away all of a user's details.
+ *
+ * <p>Advances made through {@link #advanceAfterCommit} and
+ * {@link #advanceDetailsAfterCommit} are also published on the
+ * {@link CacheInvalidationBus}. Each node applies them to its own counters, so
+ * generations differ between nodes but move forward together.
+ */
+@Component
+public class CacheGenerationRegistry {
+
+    private final long epoch;
+    private final AtomicLong global;
+    private final ConcurrentHashMap<Long, AtomicLong> generations = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, AtomicLong> detailGenerations = new ConcurrentHashMap<>();
+    private final ObjectProvider<CacheInvalidationBus> invalidationBus;
+
+    /**
+     * Standalone registry that does not publish its advances.
+     */
+    public CacheGenerationRegistry() {
+        this(null);
+    }
+
+    @Autowired
+    public CacheGenerationRegistry(ObjectProvider<CacheInvalidationBus> invalidationBus) {
+        this(TimeUnit.MILLISECONDS.toMicros(System.currentTimeMillis()), invalidationBus);
+    }
+
+    CacheGenerationRegistry(long epoch, ObjectProvider<CacheInvalidationBus> invalidationBus) {
+        this.epoch = epoch;
+        this.global = new AtomicLong(epoch);
+        this.invalidationBus = invalidationBus;
+    }
+
+    /**
+     * Current generation of the given user's task lists.
+     */
+    public long current(long userId) {
+        AtomicLong generation = generations.get(userId);
+        return generation != null ? generation.get() : epoch;
+    }
+
+    /**
+     * Current generation of the given user's cached task details.
+     */
+    public long currentDetails(long userId) {
+        AtomicLong generation = detailGenerations.get(userId);
+        return generation != null ? generation.get() : epoch;
+    }
+
+    /**
+     * Current generation of listings that span every user's tasks.
+     */
+    public long currentGlobal() {
+        return global.get();
+    }
+
+    /**
+     * Advances the user's generation and the global one on this node only,
+     * returning the user's new generation.
+     */
+    public long advance(long userId) {
+        global.incrementAndGet();
+        return generations.computeIfAbsent(userId, id -> new AtomicLong(epoch)).incrementAndGet();
+    }
+
+    /**
+     * Advances the user's detail generation on this node only, returning the new
+     * value.
+     */
+    public long advanceDetails(long userId) {
+        return detailGenerations.computeIfAbsent(userId, id -> new AtomicLong(epoch)).incrementAndGet();
+    }
+
+    /**
+     * Advances the user's generation once the surrounding transaction commits, or
+     * immediately when there is none. Advancing before the commit would let a
+     * concurrent reader cache pre-commit rows under the new generation, where they
+     * would outlive the write. The advance is published to the other nodes as well.
+     */
+    public void advanceAfterCommit(long userId) {
+        if (invalidationBus != null) {
+            // The bus defers its own publish to the commit
+            invalidationBus.ifAvailable(bus -> bus.publishGeneration(userId));
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            advance(userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                advance(userId);
+            }
+        });
+    }
+
+    /**
+     * Advances the user's detail generation after the commit, like
+     * {@link #advanceAfterCommit}, and publishes it to the other nodes.
+     */
+    public void advanceDetailsAfterCommit(long userId) {
+        if (invalidationBus != null) {
+            invalidationBus.ifAvailable(bus -> bus.publishDetailGeneration(userId));
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            advanceDetails(userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                advanceDetails(userId);
+            }
+        });
+    }
+}
@@ -0,0 +1,11 @@
+package com.taskify.taskify.config;
+
+/**
+ * Per-user data that derived caches are built from. Writes name the input they
+ * changed, and {@link CacheDependencyRegistry} evicts the entries built from it.
+ */
+public enum CacheInput {
+    TASKS,
+    INTENT_BUCKETS,
+    CHECK_INS
+}
@@ -0,0 +1,28 @@
+package com.taskify.taskify.config;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares which rate-limit bucket an endpoint draws from and how many tokens a
+ * call costs. May be placed on a controller class as the default for all of its
+ * handlers; a method-level annotation takes precedence. Endpoints without a
+ * policy cost one token from the {@code api} bucket.
+ */
+@Target({ ElementType.METHOD, ElementType.TYPE })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RateLimitPolicy {
+    /**
+     * Bucket name; its limits are read from {@code rate.limit.<bucket>.capacity},
+     * {@code .refill.tokens} and {@code .refill.seconds}.
+     */
+    String bucket() default "api";
+
+    /**
+     * Tokens consumed per request, roughly proportional to the database work the
+     * endpoint does.
+     */
+    int cost() default 1;
+}
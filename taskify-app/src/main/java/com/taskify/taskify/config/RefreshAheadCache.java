@@ -0,0 +1,170 @@
+package com.taskify.taskify.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.lang.NonNull;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Caffeine-backed cache for expensive aggregate views that refreshes ahead of
+ * expiry. Reads through {@link #get(Object, Callable)} (used by
+ * {@code @Cacheable(sync = true)}) behave as follows:
+ *
+ * <ul>
+ * <li>Cold miss: the loader runs on the calling thread, once per key; concurrent
+ * callers for the same key wait for that result.</li>
+ * <li>Hit older than the refresh interval: the stale value is returned at once and
+ * the loader is handed to a background executor, at most one reload per entry.
+ * The reload runs in a read-only transaction with the caller's security context,
+ * since the views are computed for the signed-in user.</li>
+ * </ul>
+ *
+ * <p>A reload only replaces the entry it was started from, so an eviction (or a
+ * newer load) that lands while it runs wins. A failed or rejected reload leaves
+ * the stale value in place until the next hit retries it or the entry expires.
+ */
+public class RefreshAheadCache extends AbstractValueAdaptingCache {
+
+    private static final Logger log = LoggerFactory.getLogger(RefreshAheadCache.class);
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<Object, Object> cache;
+    private final long refreshAfterNanos;
+    private final Executor reloadExecutor;
+    private final TransactionOperations reloadTransaction;
+
+    public RefreshAheadCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache,
+            Duration refreshAfter, Executor reloadExecutor, TransactionOperations reloadTransaction) {
+        super(true);
+        this.name = name;
+        this.cache = cache;
+        this.refreshAfterNanos = refreshAfter.toNanos();
+        this.reloadExecutor = reloadExecutor;
+        this.reloadTransaction = reloadTransaction;
+    }
+
+    @Override
+    @NonNull
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    @NonNull
+    public Object getNativeCache() {
+        return cache;
+    }
+
+    @Override
+    protected Object lookup(@NonNull Object key) {
+        Object entry = cache.getIfPresent(key);
+        return entry != null ? ((Entry) entry).storeValue : null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(@NonNull Object key, @NonNull Callable<T> valueLoader) {
+        boolean[] loaded = new boolean[1];
+        Entry entry = (Entry) cache.get(key, k -> {
+            loaded[0] = true;
+            return new Entry(toStoreValue(load(k, valueLoader)));
+        });
+        if (!loaded[0] && entry.isStale(refreshAfterNanos) && entry.refreshing.compareAndSet(false, true)) {
+            scheduleReload(key, entry, valueLoader);
+        }
+        return (T) fromStoreValue(entry.storeValue);
+    }
+
+    @Override
+    public void put(@NonNull Object key, Object value) {
+        cache.put(key, new Entry(toStoreValue(value)));
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(@NonNull Object key, Object value) {
+        Object existing = cache.asMap().putIfAbsent(key, new Entry(toStoreValue(value)));
+        return existing != null ? toValueWrapper(((Entry) existing).storeValue) : null;
+    }
+
+    @Override
+    public void evict(@NonNull Object key) {
+        cache.invalidate(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(@NonNull Object key) {
+        return cache.asMap().remove(key) != null;
+    }
+
+    @Override
+    public void clear() {
+        cache.invalidateAll();
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean notEmpty = !cache.asMap().isEmpty();
+        cache.invalidateAll();
+        return notEmpty;
+    }
+
+    private void scheduleReload(Object key, Entry stale, Callable<?> valueLoader) {
+        SecurityContext callerContext = SecurityContextHolder.createEmptyContext();
+        callerContext.setAuthentication(SecurityContextHolder.getContext().getAuthentication());
+        try {
+            reloadExecutor.execute(() -> {
+                SecurityContextHolder.setContext(callerContext);
+                try {
+                    Object value = reloadTransaction.execute(status -> load(key, valueLoader));
+                    // Only replace the entry this reload started from
+                    if (!cache.asMap().replace(key, stale, new Entry(toStoreValue(value)))) {
+                        log.debug("Discarded refresh of {} in cache '{}': entry changed while reloading", key, name);
+                    }
+                } catch (RuntimeException e) {
+                    log.warn("Refresh of {} in cache '{}' failed, serving the previous value: {}", key, name,
+                            e.getMessage());
+                    stale.refreshing.set(false);
+                } finally {
+                    SecurityContextHolder.clearContext();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            stale.refreshing.set(false);
+        }
+    }
+
+    private Object load(Object key, Callable<?> valueLoader) {
+        try {
+            return valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+    }
+
+    /**
+     * Compared by identity, so a reload can tell whether its entry is still current.
+     */
+    private static final class Entry {
+
+        final Object storeValue;
+        final long loadedAt = System.nanoTime();
+        final AtomicBoolean refreshing = new AtomicBoolean();
+
+        Entry(Object storeValue) {
+            this.storeValue = storeValue;
+        }
+
+        boolean isStale(long refreshAfterNanos) {
+            return System.nanoTime() - loadedAt >= refreshAfterNanos;
+        }
+    }
+}
@@ -2,7 +2,9 @@ package com.taskify.taskify.config;
 
 import com.taskify.taskify.security.CustomAccessDeniedHandler;
 import com.taskify.taskify.security.CustomAuthenticationEntryPoint;
+import com.taskify.taskify.security.IdempotencyFilter;
 import com.taskify.taskify.security.JwtAuthenticationFilter;
+import com.taskify.taskify.security.PreAuthRateLimitFilter;
 import com.taskify.taskify.security.RateLimitFilter;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -20,15 +22,21 @@ public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthFilter;
     private final RateLimitFilter rateLimitFilter;
+    private final PreAuthRateLimitFilter preAuthRateLimitFilter;
+    private final IdempotencyFilter idempotencyFilter;
     private final CustomAuthenticationEntryPoint authenticationEntryPoint;
     private final CustomAccessDeniedHandler accessDeniedHandler;
 
     public SecurityConfig(JwtAuthenticationFilter jwtAuthFilter,
             RateLimitFilter rateLimitFilter,
+            PreAuthRateLimitFilter preAuthRateLimitFilter,
+            IdempotencyFilter idempotencyFilter,
             CustomAuthenticationEntryPoint authenticationEntryPoint,
             CustomAccessDeniedHandler accessDeniedHandler) {
         this.jwtAuthFilter = jwtAuthFilter;
         this.rateLimitFilter = rateLimitFilter;
+        this.preAuthRateLimitFilter = preAuthRateLimitFilter;
+        this.idempotencyFilter = idempotencyFilter;
         this.authenticationEntryPoint = authenticationEntryPoint;
         this.accessDeniedHandler = accessDeniedHandler;
     }
@@ -44,13 +52,18 @@ public class SecurityConfig {
                         .requestMatchers("/v3/api-docs/**", "/swagger-ui/**", "/swagger-ui.html").permitAll()
                         .requestMatchers("/actuator/health", "/actuator/info").permitAll()
                         .requestMatchers("/actuator/metrics/**").hasRole("ADMIN")
+                        .requestMatchers("/api/v1/admin/**").hasRole("ADMIN")
                         .anyRequest().authenticated())
                 .exceptionHandling(exception -> exception
                         .authenticationEntryPoint(authenticationEntryPoint)
                         .accessDeniedHandler(accessDeniedHandler))
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class)
-                .addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class);
+                // Cheap per-IP check before any token parsing; per-user limits apply after auth
+                .addFilterBefore(preAuthRateLimitFilter, JwtAuthenticationFilter.class)
+                .addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class)
+                // Needs the authenticated user to scope keys; rate-limited requests never reserve one
+                .addFilterAfter(idempotencyFilter, RateLimitFilter.class);
 
         return http.build();
     }
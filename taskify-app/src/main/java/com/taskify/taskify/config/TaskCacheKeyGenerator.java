@@ -0,0 +1,100 @@
+package com.taskify.taskify.config;
+
+import com.taskify.taskify.model.Priority;
+import com.taskify.taskify.model.Status;
+import com.taskify.taskify.model.User;
+import com.taskify.taskify.repository.UserRepository;
+import com.taskify.taskify.security.SecurityConstants;
+import com.taskify.taskify.security.TaskifyUserDetails;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.time.LocalDateTime;
+
+/**
+ * Builds {@link TaskListCacheKey}s for {@code TaskService.getAllTasks}. The caller's
+ * list generation is read from {@link CacheGenerationRegistry} without writing to
+ * it. Admin listings span every user's tasks, so they are keyed on the global
+ * generation instead.
+ */
+@Component("taskCacheKeyGenerator")
+public class TaskCacheKeyGenerator implements KeyGenerator {
+
+    public static final int ROLE_USER_BIT = 1;
+    public static final int ROLE_ADMIN_BIT = 1 << 1;
+    public static final int ROLE_OTHER_BIT = 1 << 30;
+
+    private static final long ANONYMOUS_USER_ID = -1L;
+
+    private final CacheGenerationRegistry cacheGenerations;
+    private final UserRepository userRepository;
+
+    public TaskCacheKeyGenerator(CacheGenerationRegistry cacheGenerations, UserRepository userRepository) {
+        this.cacheGenerations = cacheGenerations;
+        this.userRepository = userRepository;
+    }
+
+    @Override
+    @SuppressWarnings("null")
+    public @org.springframework.lang.NonNull Object generate(@org.springframework.lang.NonNull Object target,
+            @org.springframework.lang.NonNull Method method, @org.springframework.lang.NonNull Object... params) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        long userId = resolveUserId(authentication);
+        int roleBits = roleBits(authentication);
+        long generation = (roleBits & ROLE_ADMIN_BIT) != 0
+                ? cacheGenerations.currentGlobal()
+                : cacheGenerations.current(userId);
+
+        Pageable pageable = (Pageable) params[9];
+        return new TaskListCacheKey(
+                userId,
+                roleBits,
+                generation,
+                (Status) params[0],
+                (Priority) params[1],
+                (LocalDateTime) params[2],
+                (LocalDateTime) params[3],
+                (LocalDateTime) params[4],
+                (LocalDateTime) params[5],
+                (Long) params[6],
+                (String) params[7],
+                (Boolean) params[8],
+                pageable.isPaged() ? pageable.getPageNumber() : -1,
+                pageable.isPaged() ? pageable.getPageSize() : -1,
+                pageable.getSortOr(Sort.unsorted()));
+    }
+
+    private long resolveUserId(Authentication authentication) {
+        if (authentication == null) {
+            return ANONYMOUS_USER_ID;
+        }
+        if (authentication.getPrincipal() instanceof TaskifyUserDetails principal) {
+            return principal.getId();
+        }
+        // Principals not built by UserDetailsServiceImpl (e.g. test users) carry no id
+        return userRepository.findByUsername(authentication.getName())
+                .map(User::getId)
+                .orElse(ANONYMOUS_USER_ID);
+    }
+
+    static int roleBits(Authentication authentication) {
+        if (authentication == null) {
+            return 0;
+        }
+        int bits = 0;
+        for (GrantedAuthority authority : authentication.getAuthorities()) {
+            bits |= switch (authority.getAuthority()) {
+                case SecurityConstants.ROLE_USER -> ROLE_USER_BIT;
+                case SecurityConstants.ROLE_ADMIN -> ROLE_ADMIN_BIT;
+                default -> ROLE_OTHER_BIT;
+            };
+        }
+        return bits;
+    }
+}
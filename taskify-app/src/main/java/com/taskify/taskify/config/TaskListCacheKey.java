@@ -0,0 +1,120 @@
+package com.taskify.taskify.config;
+
+import com.taskify.taskify.model.Priority;
+import com.taskify.taskify.model.Status;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Immutable cache key for a task list query. Filters are normalized (blank
+ * keywords dropped, keywords lower-cased as the query does) so equivalent requests
+ * share an entry, and the hash is computed once because Caffeine hashes the key on
+ * every lookup. A plain class rather than a record, since a record cannot hold the
+ * precomputed hash outside its components.
+ */
+public final class TaskListCacheKey {
+
+    private final long userId;
+    private final int roleBits;
+    private final long generation;
+    private final Status status;
+    private final Priority priority;
+    private final LocalDateTime fromDate;
+    private final LocalDateTime toDate;
+    private final LocalDateTime dueFrom;
+    private final LocalDateTime dueTo;
+    private final Long intentId;
+    private final String keyword;
+    private final boolean includeDeleted;
+    private final int page;
+    private final int size;
+    private final Sort sort;
+    private final int hash;
+
+    public TaskListCacheKey(long userId, int roleBits, long generation, Status status, Priority priority,
+            LocalDateTime fromDate, LocalDateTime toDate, LocalDateTime dueFrom, LocalDateTime dueTo,
+            Long intentId, String keyword, boolean includeDeleted, int page, int size, Sort sort) {
+        this.userId = userId;
+        this.roleBits = roleBits;
+        this.generation = generation;
+        this.status = status;
+        this.priority = priority;
+        this.fromDate = fromDate;
+        this.toDate = toDate;
+        this.dueFrom = dueFrom;
+        this.dueTo = dueTo;
+        this.intentId = intentId;
+        this.keyword = keyword == null || keyword.isBlank() ? null : keyword.toLowerCase();
+        this.includeDeleted = includeDeleted;
+        this.page = page;
+        this.size = size;
+        this.sort = sort;
+
+        int h = Long.hashCode(userId);
+        h = 31 * h + roleBits;
+        h = 31 * h + Long.hashCode(generation);
+        h = 31 * h + Objects.hashCode(status);
+        h = 31 * h + Objects.hashCode(priority);
+        h = 31 * h + Objects.hashCode(fromDate);
+        h = 31 * h + Objects.hashCode(toDate);
+        h = 31 * h + Objects.hashCode(dueFrom);
+        h = 31 * h + Objects.hashCode(dueTo);
+        h = 31 * h + Objects.hashCode(intentId);
+        h = 31 * h + Objects.hashCode(this.keyword);
+        h = 31 * h + Boolean.hashCode(includeDeleted);
+        h = 31 * h + page;
+        h = 31 * h + size;
+        h = 31 * h + Objects.hashCode(sort);
+        this.hash = h;
+    }
+
+    public long userId() {
+        return userId;
+    }
+
+    public int roleBits() {
+        return roleBits;
+    }
+
+    public long generation() {
+        return generation;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof TaskListCacheKey other) || hash != other.hash) {
+            return false;
+        }
+        return userId == other.userId
+                && roleBits == other.roleBits
+                && generation == other.generation
+                && includeDeleted == other.includeDeleted
+                && page == other.page
+                && size == other.size
+                && status == other.status
+                && priority == other.priority
+                && Objects.equals(intentId, other.intentId)
+                && Objects.equals(fromDate, other.fromDate)
+                && Objects.equals(toDate, other.toDate)
+                && Objects.equals(dueFrom, other.dueFrom)
+                && Objects.equals(dueTo, other.dueTo)
+                && Objects.equals(keyword, other.keyword)
+                && Objects.equals(sort, other.sort);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return "TaskListCacheKey[user=" + userId + ", roles=" + roleBits + ", generation=" + generation
+                + ", page=" + page + ", size=" + size + "]";
+    }
+}
@@ -0,0 +1,82 @@
+package com.taskify.taskify.controller.v1;
+
+import com.taskify.taskify.config.RateLimitPolicy;
+import com.taskify.taskify.dto.ApiError;
+import com.taskify.taskify.dto.AuditLogFilter;
+import com.taskify.taskify.dto.AuditLogPageResponse;
+import com.taskify.taskify.model.AuditAction;
+import com.taskify.taskify.model.AuditTargetType;
+import com.taskify.taskify.service.AuditQueryService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDateTime;
+
+@RestController
+@RequestMapping("/api/v1/admin/audit")
+@Tag(name = "Admin Audit", description = "Version 1 APIs for querying the audit trail (admin only)")
+@PreAuthorize("hasRole('ADMIN')")
+@ApiResponses({
+        @ApiResponse(responseCode = "400", description = "Bad Request - Invalid filter or cursor", content = @Content(schema = @Schema(implementation = ApiError.class))),
+        @ApiResponse(responseCode = "401", description = "Unauthenticated - Invalid or expired token", content = @Content(schema = @Schema(implementation = ApiError.class))),
+        @ApiResponse(responseCode = "403", description = "Forbidden - Admin role required", content = @Content(schema = @Schema(implementation = ApiError.class))),
+        @ApiResponse(responseCode = "429", description = "Too Many Requests - Rate limit exceeded", content = @Content(schema = @Schema(implementation = ApiError.class)))
+})
+public class AdminAuditController {
+
+    private final AuditQueryService auditQueryService;
+
+    public AdminAuditController(AuditQueryService auditQueryService) {
+        this.auditQueryService = auditQueryService;
+    }
+
+    @Operation(summary = "Query audit logs", description = "Returns audit entries newest first using cursor pagination on (timestamp, id)")
+    @ApiResponse(responseCode = "200", description = "Audit entries retrieved successfully")
+    @GetMapping
+    @RateLimitPolicy(cost = 2)
+    public ResponseEntity<AuditLogPageResponse> getAuditLogs(
+            @RequestParam(required = false) Long actorUserId,
+            @RequestParam(required = false) AuditAction action,
+            @RequestParam(required = false) AuditTargetType targetType,
+            @RequestParam(required = false) String targetId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+
+        AuditLogFilter filter = new AuditLogFilter(actorUserId, action, targetType, targetId, from, to);
+        return ResponseEntity.ok(auditQueryService.findLogs(filter, cursor, limit));
+    }
+
+    @Operation(summary = "Stream audit logs", description = "Streams every matching audit entry as newline-delimited JSON for bulk export")
+    @ApiResponse(responseCode = "200", description = "Audit entries streamed successfully")
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @RateLimitPolicy(bucket = "reporting", cost = 10)
+    public ResponseEntity<StreamingResponseBody> streamAuditLogs(
+            @RequestParam(required = false) Long actorUserId,
+            @RequestParam(required = false) AuditAction action,
+            @RequestParam(required = false) AuditTargetType targetType,
+            @RequestParam(required = false) String targetId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+
+        AuditLogFilter filter = new AuditLogFilter(actorUserId, action, targetType, targetId, from, to);
+        StreamingResponseBody body = out -> auditQueryService.streamLogs(filter, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+}
@@ -1,5 +1,6 @@
 package com.taskify.taskify.controller.v1;
 
+import com.taskify.taskify.config.RateLimitPolicy;
 import com.taskify.taskify.dto.AuthResponse;
 import com.taskify.taskify.dto.LoginRequest;
 import com.taskify.taskify.dto.RegisterRequest;
@@ -18,6 +19,7 @@ import org.springframework.web.bind.annotation.*;
 
 @RestController
 @RequestMapping("/api/v1/auth")
+@RateLimitPolicy(bucket = "auth")
 @Tag(name = "Authentication", description = "Version 1 APIs for user registration and login")
 @ApiResponses({
         @ApiResponse(responseCode = "400", description = "Bad Request - Invalid input or validation failure", content = @Content(schema = @Schema(implementation = ApiError.class))),
@@ -1,5 +1,7 @@
 package com.taskify.taskify.controller.v1;
 
+import com.taskify.taskify.config.RateLimitPolicy;
+import com.taskify.taskify.dto.CheckInHistoryResponse;
 import com.taskify.taskify.dto.DailyCheckInRequest;
 import com.taskify.taskify.dto.DailyCheckInResponse;
 import com.taskify.taskify.service.DailyCheckInService;
@@ -7,9 +9,12 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+
 @RestController
 @RequestMapping("/api/v1/day")
 @Tag(name = "Daily Check-in APIs", description = "Endpoints for capturing intent and preserving continuity")
@@ -38,4 +43,16 @@ public class DailyCheckInController {
     public ResponseEntity<DailyCheckInResponse> getToday() {
         return ResponseEntity.ok(dailyCheckInService.getTodayCheckIn());
     }
+
+    @Operation(summary = "Get check-in history", description = "Returns per-day planned, completed and carried-over counts with current and longest streaks. Defaults to the last 30 days; ranges are limited to 366 days")
+    @ApiResponse(responseCode = "200", description = "History retrieved successfully")
+    @ApiResponse(responseCode = "400", description = "Invalid or too long date range")
+    @ApiResponse(responseCode = "401", description = "Unauthorized access")
+    @GetMapping("/history")
+    @RateLimitPolicy(cost = 2)
+    public ResponseEntity<CheckInHistoryResponse> getHistory(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(dailyCheckInService.getHistory(from, to));
+    }
 }
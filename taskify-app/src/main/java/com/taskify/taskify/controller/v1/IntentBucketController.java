@@ -1,5 +1,6 @@
 package com.taskify.taskify.controller.v1;
 
+import com.taskify.taskify.config.RateLimitPolicy;
 import com.taskify.taskify.dto.IntentBucketRequest;
 import com.taskify.taskify.dto.IntentBucketResponse;
 import com.taskify.taskify.dto.IntentOverviewResponse;
@@ -58,6 +59,7 @@ public class IntentBucketController {
     }
 
     @GetMapping("/overview")
+    @RateLimitPolicy(cost = 2)
     @Operation(summary = "Get intent insights overview", description = "Returns aggregated insights about tasks, focus, and stagnation per intent")
     public IntentOverviewResponse getOverview() {
         return intentBucketService.getOverview();
@@ -1,16 +1,12 @@
 package com.taskify.taskify.controller.v1;
 
 import com.taskify.taskify.config.ApiDeprecated;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskify.taskify.config.RateLimitPolicy;
 import com.taskify.taskify.dto.TaskRequest;
 import com.taskify.taskify.dto.TaskResponse;
 import com.taskify.taskify.dto.TaskReviewResponse;
 import com.taskify.taskify.model.Priority;
 import com.taskify.taskify.model.Status;
-import com.taskify.taskify.model.IdempotencyKey;
-import com.taskify.taskify.model.User;
-import com.taskify.taskify.repository.UserRepository;
-import com.taskify.taskify.service.IdempotencyService;
 import com.taskify.taskify.service.TaskService;
 import com.taskify.taskify.dto.ApiError;
 import io.swagger.v3.oas.annotations.Operation;
@@ -24,15 +20,15 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/v1/tasks")
@@ -48,65 +44,25 @@ import java.util.Optional;
 public class TaskController {
 
     private final TaskService taskService;
-    private final IdempotencyService idempotencyService;
-    private final UserRepository userRepository;
-    private final ObjectMapper objectMapper;
 
     // Constructor injection — ensures immutability and easier testing
-    public TaskController(TaskService taskService, IdempotencyService idempotencyService,
-            UserRepository userRepository, ObjectMapper objectMapper) {
+    public TaskController(TaskService taskService) {
         this.taskService = taskService;
-        this.idempotencyService = idempotencyService;
-        this.userRepository = userRepository;
-        this.objectMapper = objectMapper;
     }
 
-    @Operation(summary = "Create a new task", description = "Creates a new task for the authenticated user")
+    @Operation(summary = "Create a new task", description = "Creates a new task for the authenticated user. Send an Idempotency-Key header to make retries safe")
     @ApiResponse(responseCode = "201", description = "Task created successfully")
     @ApiResponse(responseCode = "400", description = "Invalid input data")
     @ApiResponse(responseCode = "401", description = "Unauthorized access")
     @PostMapping
-    public ResponseEntity<TaskResponse> createTask(
-            @RequestBody @Valid TaskRequest request,
-            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
-
-        if (idempotencyKey == null || idempotencyKey.isBlank()) {
-            TaskResponse createdTask = taskService.createTask(request);
-            return new ResponseEntity<>(createdTask, HttpStatus.CREATED);
-        }
-
-        User currentUser = getCurrentUser();
-        String endpoint = "/api/v1/tasks";
-
-        Optional<IdempotencyKey> storedResponse = idempotencyService.getStoredResponse(
-                idempotencyKey, currentUser.getId(), endpoint, request);
-
-        if (storedResponse.isPresent()) {
-            try {
-                TaskResponse responseBody = objectMapper.readValue(
-                        storedResponse.get().getResponseBody(), TaskResponse.class);
-                return ResponseEntity.status(storedResponse.get().getResponseStatus()).body(responseBody);
-            } catch (Exception e) {
-                throw new RuntimeException("Error deserializing stored idempotency response", e);
-            }
-        }
-
+    public ResponseEntity<TaskResponse> createTask(@RequestBody @Valid TaskRequest request) {
         TaskResponse createdTask = taskService.createTask(request);
-
-        idempotencyService.saveResponse(
-                idempotencyKey, currentUser.getId(), endpoint, request, createdTask, HttpStatus.CREATED.value());
-
         return new ResponseEntity<>(createdTask, HttpStatus.CREATED);
     }
 
-    private User getCurrentUser() {
-        String username = SecurityContextHolder.getContext().getAuthentication().getName();
-        return userRepository.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("Authenticated user not found"));
-    }
-
-    @Operation(summary = "Get tasks with filters", description = "Returns a paginated list of tasks filtered by various criteria")
+    @Operation(summary = "Get tasks with filters", description = "Returns a paginated list of tasks filtered by various criteria. Responses carry a weak ETag; send it back in If-None-Match to get 304 while none of your tasks changed")
     @ApiResponse(responseCode = "200", description = "Tasks retrieved successfully")
+    @ApiResponse(responseCode = "304", description = "Not Modified - No task changed since the given ETag")
     @ApiResponse(responseCode = "401", description = "Unauthorized access")
     @GetMapping
     public ResponseEntity<Page<TaskResponse>> getTasks(
@@ -122,7 +78,14 @@ public class TaskController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "createdAt") String sortBy,
-            @RequestParam(defaultValue = "desc") String direction) {
+            @RequestParam(defaultValue = "desc") String direction,
+            WebRequest webRequest) {
+
+        // Read before the list so a concurrent write can only make the tag older than the body
+        String eTag = "W/\"" + taskService.getTaskListVersion() + "\"";
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
 
         if (direction == null)
             direction = "desc";
@@ -133,13 +96,17 @@ public class TaskController {
 
         Page<TaskResponse> tasks = taskService.getAllTasks(status, priority, fromDate, toDate, dueFrom, dueTo, intent,
                 keyword, includeDeleted, pageable);
-        return ResponseEntity.ok(tasks);
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(tasks);
     }
 
     @Operation(summary = "Get focus tasks", description = "Returns a small set of urgent and high-priority tasks for the authenticated user")
     @ApiResponse(responseCode = "200", description = "Focus tasks retrieved successfully")
     @ApiResponse(responseCode = "401", description = "Unauthorized access")
     @GetMapping("/focus")
+    @RateLimitPolicy(cost = 3)
     public ResponseEntity<List<TaskResponse>> getFocusTasks() {
         return ResponseEntity.ok(taskService.getFocusTasks());
     }
@@ -148,6 +115,7 @@ public class TaskController {
     @ApiResponse(responseCode = "200", description = "Stagnant tasks retrieved successfully")
     @ApiResponse(responseCode = "401", description = "Unauthorized access")
     @GetMapping("/stagnant")
+    @RateLimitPolicy(cost = 3)
     public ResponseEntity<List<TaskResponse>> getStagnantTasks() {
         return ResponseEntity.ok(taskService.getStagnantTasks());
     }
@@ -156,6 +124,7 @@ public class TaskController {
     @ApiResponse(responseCode = "200", description = "Task review retrieved successfully")
     @ApiResponse(responseCode = "401", description = "Unauthorized access")
     @GetMapping("/review")
+    @RateLimitPolicy(bucket = "reporting", cost = 5)
     public ResponseEntity<TaskReviewResponse> getTaskReview(
             @RequestParam(defaultValue = "weekly") String period) {
         return ResponseEntity.ok(taskService.getWeeklyReview());
@@ -166,6 +135,7 @@ public class TaskController {
     @ApiResponse(responseCode = "401", description = "Unauthorized access")
     @ApiResponse(responseCode = "404", description = "Task not found")
     @GetMapping("/{id}")
+    @RateLimitPolicy(cost = 1)
     @Deprecated
     @ApiDeprecated(sunsetDate = "2026-06-30T23:59:59Z", successorUrl = "/api/v1/tasks")
     public ResponseEntity<TaskResponse> getTaskById(@PathVariable Long id) {
@@ -0,0 +1,19 @@
+package com.taskify.taskify.dto;
+
+import com.taskify.taskify.model.AuditAction;
+import com.taskify.taskify.model.AuditTargetType;
+
+import java.time.LocalDateTime;
+
+/**
+ * Immutable set of optional filters for querying audit logs. Null fields are
+ * ignored.
+ */
+public record AuditLogFilter(
+        Long actorUserId,
+        AuditAction action,
+        AuditTargetType targetType,
+        String targetId,
+        LocalDateTime from,
+        LocalDateTime to) {
+}
@@ -0,0 +1,31 @@
+package com.taskify.taskify.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "A page of audit log entries with an opaque cursor for the next page")
+public class AuditLogPageResponse {
+
+    @Schema(description = "Audit entries, newest first")
+    private List<AuditLogResponse> items;
+
+    @Schema(description = "Cursor to pass as 'cursor' to fetch the next page; null when there are no more entries", example = "MjAyNi0wMS0xNFQyMzowNzozMXw0Mg")
+    private String nextCursor;
+
+    public AuditLogPageResponse() {
+    }
+
+    public AuditLogPageResponse(List<AuditLogResponse> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<AuditLogResponse> getItems() {
+        return items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+}
@@ -0,0 +1,91 @@
+package com.taskify.taskify.dto;
+
+import com.taskify.taskify.model.AuditAction;
+import com.taskify.taskify.model.AuditTargetType;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "Response object representing a single audit log entry")
+public class AuditLogResponse {
+
+    @Schema(description = "Unique identifier of the audit entry", example = "42")
+    private Long id;
+
+    @Schema(description = "ID of the user who performed the action", example = "7")
+    private Long actorUserId;
+
+    @Schema(description = "Roles held by the actor at the time of the action", example = "ROLE_USER")
+    private String actorRole;
+
+    @Schema(description = "Audited action", example = "TASK_UPDATE")
+    private AuditAction action;
+
+    @Schema(description = "Type of the affected resource", example = "TASK")
+    private AuditTargetType targetType;
+
+    @Schema(description = "Identifier of the affected resource", example = "15")
+    private String targetId;
+
+    @Schema(description = "Timestamp of the action", example = "2026-01-14T23:07:31")
+    private LocalDateTime timestamp;
+
+    @Schema(description = "Client IP address", example = "203.0.113.10")
+    private String ipAddress;
+
+    @Schema(description = "Additional JSON metadata captured with the event", example = "{\"adminAction\":true}")
+    private String metadata;
+
+    public AuditLogResponse() {
+    }
+
+    public AuditLogResponse(Long id, Long actorUserId, String actorRole, AuditAction action,
+            AuditTargetType targetType, String targetId, LocalDateTime timestamp, String ipAddress,
+            String metadata) {
+        this.id = id;
+        this.actorUserId = actorUserId;
+        this.actorRole = actorRole;
+        this.action = action;
+        this.targetType = targetType;
+        this.targetId = targetId;
+        this.timestamp = timestamp;
+        this.ipAddress = ipAddress;
+        this.metadata = metadata;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getActorUserId() {
+        return actorUserId;
+    }
+
+    public String getActorRole() {
+        return actorRole;
+    }
+
+    public AuditAction getAction() {
+        return action;
+    }
+
+    public AuditTargetType getTargetType() {
+        return targetType;
+    }
+
+    public String getTargetId() {
+        return targetId;
+    }
+
+    public LocalDateTime getTimestamp() {
+        return timestamp;
+    }
+
+    public String getIpAddress() {
+        return ipAddress;
+    }
+
+    public String getMetadata() {
+        return metadata;
+    }
+}
@@ -0,0 +1,20 @@
+package com.taskify.taskify.dto;
+
+import com.taskify.taskify.model.CacheInvalidationType;
+
+import java.time.LocalDateTime;
+
+/**
+ * One invalidation on the cache bus. {@code key} is only set for
+ * {@link CacheInvalidationType#EVICT} and is a {@link Long} or a {@link String};
+ * {@code userId} is only set for {@link CacheInvalidationType#GENERATION} and
+ * {@link CacheInvalidationType#DETAILS}.
+ */
+public record CacheInvalidationMessage(
+        String origin,
+        CacheInvalidationType type,
+        String cacheName,
+        Object key,
+        Long userId,
+        LocalDateTime publishedAt) {
+}
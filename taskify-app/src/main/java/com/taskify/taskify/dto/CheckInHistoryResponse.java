@@ -0,0 +1,96 @@
+package com.taskify.taskify.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDate;
+import java.util.List;
+
+@Schema(description = "Per-day check-in history with streaks")
+public class CheckInHistoryResponse {
+
+    @Schema(description = "First day of the range", example = "2026-01-01")
+    private LocalDate from;
+
+    @Schema(description = "Last day of the range", example = "2026-01-30")
+    private LocalDate to;
+
+    @Schema(description = "Consecutive check-in days ending today, or yesterday if today has no check-in yet")
+    private int currentStreak;
+
+    @Schema(description = "Longest run of consecutive check-in days ever")
+    private int longestStreak;
+
+    @Schema(description = "Days in the range that have a check-in, oldest first")
+    private List<DayStats> days;
+
+    public CheckInHistoryResponse() {
+    }
+
+    public CheckInHistoryResponse(LocalDate from, LocalDate to, int currentStreak, int longestStreak,
+            List<DayStats> days) {
+        this.from = from;
+        this.to = to;
+        this.currentStreak = currentStreak;
+        this.longestStreak = longestStreak;
+        this.days = days;
+    }
+
+    public LocalDate getFrom() {
+        return from;
+    }
+
+    public LocalDate getTo() {
+        return to;
+    }
+
+    public int getCurrentStreak() {
+        return currentStreak;
+    }
+
+    public int getLongestStreak() {
+        return longestStreak;
+    }
+
+    public List<DayStats> getDays() {
+        return days;
+    }
+
+    public static class DayStats {
+        private LocalDate date;
+        private int plannedTasks;
+        private int completedTasks;
+        private int carriedOverTasks;
+        private double carryoverRate; // share of planned tasks carried over from the day before
+
+        public DayStats() {
+        }
+
+        public DayStats(LocalDate date, int plannedTasks, int completedTasks, int carriedOverTasks,
+                double carryoverRate) {
+            this.date = date;
+            this.plannedTasks = plannedTasks;
+            this.completedTasks = completedTasks;
+            this.carriedOverTasks = carriedOverTasks;
+            this.carryoverRate = carryoverRate;
+        }
+
+        public LocalDate getDate() {
+            return date;
+        }
+
+        public int getPlannedTasks() {
+            return plannedTasks;
+        }
+
+        public int getCompletedTasks() {
+            return completedTasks;
+        }
+
+        public int getCarriedOverTasks() {
+            return carriedOverTasks;
+        }
+
+        public double getCarryoverRate() {
+            return carryoverRate;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.taskify.taskify.dto;
+
+import org.springframework.http.HttpHeaders;
+
+import java.time.LocalDateTime;
+
+/**
+ * A completed idempotent request, kept so retries can be answered with exactly
+ * the same status, headers and (gzip-compressed) body bytes.
+ */
+public record IdempotentResponse(
+        String endpoint,
+        String requestHash,
+        int status,
+        HttpHeaders headers,
+        byte[] compressedBody,
+        LocalDateTime expiresAt) {
+
+    public boolean isExpired() {
+        return LocalDateTime.now().isAfter(expiresAt);
+    }
+}
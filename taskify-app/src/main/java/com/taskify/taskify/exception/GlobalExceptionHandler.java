@@ -135,6 +135,15 @@ public class GlobalExceptionHandler {
                 return new ResponseEntity<>(error, HttpStatus.CONFLICT);
         }
 
+        @ExceptionHandler(org.springframework.web.HttpRequestMethodNotSupportedException.class)
+        public ResponseEntity<ApiError> handleMethodNotSupported(
+                        org.springframework.web.HttpRequestMethodNotSupportedException ex, WebRequest request) {
+                ApiError error = createApiError(HttpStatus.METHOD_NOT_ALLOWED, "Method Not Allowed", ex.getMessage(),
+                                request);
+                logger.warn("Method not allowed: {}", ex.getMessage());
+                return new ResponseEntity<>(error, HttpStatus.METHOD_NOT_ALLOWED);
+        }
+
         // 🧩 5️⃣ Catch any unexpected exception (fallback)
         @ExceptionHandler(Exception.class)
         public ResponseEntity<ApiError> handleGenericException(Exception ex, WebRequest request) {
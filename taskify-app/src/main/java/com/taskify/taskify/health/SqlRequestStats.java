@@ -0,0 +1,61 @@
+package com.taskify.taskify.health;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * SQL executed on behalf of one HTTP request: statement count, rows read or
+ * written, database time, and how often each distinct statement ran. Only the
+ * request's own thread writes to it.
+ */
+public class SqlRequestStats {
+
+    private final Map<String, Integer> executions = new LinkedHashMap<>();
+    private int statements;
+    private long rows;
+    private long elapsedMillis;
+    private String endpoint;
+
+    void recordStatement(String sql, long elapsedMillis, long rows) {
+        statements++;
+        this.elapsedMillis += elapsedMillis;
+        this.rows += rows;
+        executions.merge(sql, 1, Integer::sum);
+    }
+
+    void recordRows(long rows) {
+        this.rows += rows;
+    }
+
+    void setEndpoint(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    /**
+     * Method and matched path pattern, e.g. {@code GET /api/v1/tasks/{id}}, once
+     * the request has completed.
+     */
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    /**
+     * Execution count per distinct SQL string, in first-seen order.
+     */
+    public Map<String, Integer> getExecutions() {
+        return Collections.unmodifiableMap(executions);
+    }
+}
@@ -0,0 +1,124 @@
+package com.taskify.taskify.health;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Listens to every statement on the proxied {@code DataSource} and attributes it
+ * to the HTTP request running on the same thread, between {@link #begin()} and
+ * {@link #end()}. Statements on other threads (async audit writes, scheduled
+ * jobs, cache reloads) are only checked against the slow-statement threshold.
+ *
+ * <p>Rows are the update counts of writes plus every row a result set was
+ * advanced to.
+ */
+@Component
+@ConditionalOnProperty(name = "app.sql.metrics.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlStatementRecorder implements QueryExecutionListener, MethodExecutionListener {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlStatementRecorder.class);
+
+    private final ThreadLocal<SqlRequestStats> current = new ThreadLocal<>();
+    private final List<Consumer<SqlRequestStats>> completionListeners = new CopyOnWriteArrayList<>();
+    private final long slowStatementMillis;
+
+    public SqlStatementRecorder(@Value("${app.sql.slow-statement-ms:200}") long slowStatementMillis) {
+        this.slowStatementMillis = slowStatementMillis;
+    }
+
+    /**
+     * Starts attributing statements on this thread to a new request.
+     */
+    public SqlRequestStats begin() {
+        SqlRequestStats stats = new SqlRequestStats();
+        current.set(stats);
+        return stats;
+    }
+
+    /**
+     * Stops attributing statements on this thread and hands the finished request
+     * to the completion listeners.
+     */
+    public SqlRequestStats end(String endpoint) {
+        SqlRequestStats stats = current.get();
+        current.remove();
+        if (stats != null) {
+            stats.setEndpoint(endpoint);
+            completionListeners.forEach(listener -> listener.accept(stats));
+        }
+        return stats;
+    }
+
+    /**
+     * Registers a listener for completed requests; closing the returned handle
+     * removes it.
+     */
+    public AutoCloseable onRequestCompleted(Consumer<SqlRequestStats> listener) {
+        completionListeners.add(listener);
+        return () -> completionListeners.remove(listener);
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        String sql = queryInfoList.stream().map(QueryInfo::getQuery).collect(Collectors.joining("; "));
+        long elapsed = execInfo.getElapsedTime();
+        if (elapsed >= slowStatementMillis) {
+            log.warn("Slow SQL statement ({} ms{}): {}", elapsed,
+                    execInfo.isBatch() ? ", batch of " + execInfo.getBatchSize() : "", sql);
+        }
+
+        SqlRequestStats stats = current.get();
+        if (stats != null) {
+            stats.recordStatement(sql, elapsed, updateCount(execInfo.getResult()));
+        }
+    }
+
+    @Override
+    public void beforeMethod(MethodExecutionContext executionContext) {
+    }
+
+    @Override
+    public void afterMethod(MethodExecutionContext executionContext) {
+        if (executionContext.getTarget() instanceof ResultSet
+                && executionContext.getMethod().getName().equals("next")
+                && Boolean.TRUE.equals(executionContext.getResult())) {
+            SqlRequestStats stats = current.get();
+            if (stats != null) {
+                stats.recordRows(1);
+            }
+        }
+    }
+
+    private static long updateCount(Object result) {
+        if (result instanceof Number count) {
+            return Math.max(0, count.longValue());
+        }
+        if (result instanceof int[] counts) {
+            long total = 0;
+            for (int count : counts) {
+                total += Math.max(0, count);
+            }
+            return total;
+        }
+        // Queries report their rows as the result set is read
+        return 0;
+    }
+}
@@ -0,0 +1,109 @@
+package com.taskify.taskify.health;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Reports virtual threads that stay pinned to their carrier, typically by
+ * blocking inside a {@code synchronized} block or method, through the JDK's
+ * {@code jdk.VirtualThreadPinned} flight recorder event. Every event above the
+ * threshold is counted in {@code taskify.virtual_threads.pinned} and timed in
+ * {@code taskify.virtual_threads.pinned.duration}, tagged with the layer that
+ * holds the monitor (hibernate, jdbc, pool, application or other). The first
+ * event for each pinning frame is logged with its stack.
+ */
+@Component
+@ConditionalOnProperty(name = "app.virtual-threads.pinning.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    // Innermost match wins, so a driver frame called from Hibernate reports as jdbc
+    private static final List<String[]> SOURCES = List.of(
+            new String[] { "com.zaxxer.hikari.", "pool" },
+            new String[] { "com.mysql.", "jdbc" },
+            new String[] { "org.h2.", "jdbc" },
+            new String[] { "java.sql.", "jdbc" },
+            new String[] { "org.hibernate.", "hibernate" },
+            new String[] { "com.taskify.", "application" });
+
+    private static final int MAX_LOGGED_SITES = 100;
+    private static final int LOGGED_FRAMES = 12;
+
+    private final MeterRegistry meterRegistry;
+    private final RecordingStream stream;
+    private final Set<String> loggedSites = ConcurrentHashMap.newKeySet();
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry,
+            @Value("${app.virtual-threads.pinning.threshold-ms:20}") long thresholdMillis) {
+        this.meterRegistry = meterRegistry;
+        this.stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(Duration.ofMillis(thresholdMillis)).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+        log.info("Reporting virtual threads pinned for longer than {} ms", thresholdMillis);
+    }
+
+    void onPinned(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        List<RecordedFrame> frames = stackTrace != null ? stackTrace.getFrames() : List.of();
+        String source = classify(frames);
+
+        meterRegistry.counter("taskify.virtual_threads.pinned", "source", source).increment();
+        meterRegistry.timer("taskify.virtual_threads.pinned.duration", "source", source)
+                .record(event.getDuration());
+
+        String site = frames.stream()
+                .filter(RecordedFrame::isJavaFrame)
+                .map(VirtualThreadPinningMonitor::describe)
+                .filter(frame -> !frame.startsWith("java.") && !frame.startsWith("jdk."))
+                .findFirst()
+                .orElse("unknown");
+        if (loggedSites.size() < MAX_LOGGED_SITES && loggedSites.add(site)) {
+            log.warn("Virtual thread pinned for {} ms in {} code at {}:\n\t{}", event.getDuration().toMillis(),
+                    source, site, frames.stream()
+                            .limit(LOGGED_FRAMES)
+                            .map(VirtualThreadPinningMonitor::describe)
+                            .collect(Collectors.joining("\n\t")));
+        }
+    }
+
+    static String classify(List<RecordedFrame> frames) {
+        for (RecordedFrame frame : frames) {
+            String type = frame.getMethod().getType().getName();
+            for (String[] source : SOURCES) {
+                if (type.startsWith(source[0])) {
+                    return source[1];
+                }
+            }
+        }
+        return "other";
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + ":" + frame.getLineNumber();
+    }
+
+    @PreDestroy
+    public void close() {
+        stream.close();
+    }
+}
@@ -4,7 +4,12 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "audit_logs")
+@Table(name = "audit_logs", indexes = {
+        @Index(name = "idx_audit_ts", columnList = "timestamp, id"),
+        @Index(name = "idx_audit_actor_ts", columnList = "actorUserId, timestamp, id"),
+        @Index(name = "idx_audit_action_ts", columnList = "action, timestamp, id"),
+        @Index(name = "idx_audit_target_ts", columnList = "targetType, targetId, timestamp, id")
+})
 public class AuditLog {
 
     @Id
@@ -0,0 +1,87 @@
+package com.taskify.taskify.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Row in the cache invalidation change log. Nodes append one per local eviction
+ * and follow the log by id, applying other nodes' entries to their own caches.
+ */
+@Entity
+@Table(name = "cache_invalidation_events", indexes = {
+        @Index(name = "idx_cache_invalidation_created_at", columnList = "createdAt")
+})
+public class CacheInvalidationEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 128)
+    private String origin;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private CacheInvalidationType type;
+
+    @Column(length = 64)
+    private String cacheName;
+
+    private String cacheKey;
+
+    // Cache keys are either numeric ids or strings; remembers which to rebuild
+    @Column(nullable = false)
+    private boolean keyNumeric;
+
+    private Long userId;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    public CacheInvalidationEvent() {
+    }
+
+    public CacheInvalidationEvent(String origin, CacheInvalidationType type, String cacheName, String cacheKey,
+            boolean keyNumeric, Long userId, LocalDateTime createdAt) {
+        this.origin = origin;
+        this.type = type;
+        this.cacheName = cacheName;
+        this.cacheKey = cacheKey;
+        this.keyNumeric = keyNumeric;
+        this.userId = userId;
+        this.createdAt = createdAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getOrigin() {
+        return origin;
+    }
+
+    public CacheInvalidationType getType() {
+        return type;
+    }
+
+    public String getCacheName() {
+        return cacheName;
+    }
+
+    public String getCacheKey() {
+        return cacheKey;
+    }
+
+    public boolean isKeyNumeric() {
+        return keyNumeric;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
@@ -0,0 +1,12 @@
+package com.taskify.taskify.model;
+
+public enum CacheInvalidationType {
+    /** Drop one key from a named cache. */
+    EVICT,
+    /** Drop every entry of a named cache. */
+    CLEAR,
+    /** Advance a user's task list generation. */
+    GENERATION,
+    /** Advance a user's task detail generation. */
+    DETAILS
+}
@@ -0,0 +1,106 @@
+package com.taskify.taskify.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Per-user, per-day check-in counters, maintained as check-ins and task
+ * completions happen so history reads never join intents against tasks.
+ * {@code streak} is the length of the run of consecutive check-in days ending
+ * on this one.
+ */
+@Entity
+@Table(name = "daily_check_in_stats", uniqueConstraints = {
+        @UniqueConstraint(columnNames = { "userId", "date" })
+})
+public class DailyCheckInStats {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private LocalDate date;
+
+    @Column(nullable = false)
+    private int plannedTasks;
+
+    @Column(nullable = false)
+    private int completedTasks;
+
+    @Column(nullable = false)
+    private int carriedOverTasks;
+
+    @Column(nullable = false)
+    private int streak;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    public DailyCheckInStats() {
+    }
+
+    public DailyCheckInStats(Long userId, LocalDate date, int streak) {
+        this.userId = userId;
+        this.date = date;
+        this.streak = streak;
+    }
+
+    @PrePersist
+    @PreUpdate
+    protected void onWrite() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public int getPlannedTasks() {
+        return plannedTasks;
+    }
+
+    public void setPlannedTasks(int plannedTasks) {
+        this.plannedTasks = plannedTasks;
+    }
+
+    public int getCompletedTasks() {
+        return completedTasks;
+    }
+
+    public void setCompletedTasks(int completedTasks) {
+        this.completedTasks = completedTasks;
+    }
+
+    public int getCarriedOverTasks() {
+        return carriedOverTasks;
+    }
+
+    public void setCarriedOverTasks(int carriedOverTasks) {
+        this.carriedOverTasks = carriedOverTasks;
+    }
+
+    public int getStreak() {
+        return streak;
+    }
+
+    public void setStreak(int streak) {
+        this.streak = streak;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
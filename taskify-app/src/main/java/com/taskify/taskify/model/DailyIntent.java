@@ -22,9 +22,9 @@ public class DailyIntent {
     @Column(nullable = false)
     private LocalDate date;
 
-    @ElementCollection
-    @CollectionTable(name = "daily_intent_tasks", joinColumns = @JoinColumn(name = "daily_intent_id"))
-    @Column(name = "task_id")
+    // Room for 128 ids; a check-in picks at most three
+    @Convert(converter = PackedLongListConverter.class)
+    @Column(name = "task_ids", length = 1024)
     private List<Long> taskIds = new ArrayList<>();
 
     private String note;
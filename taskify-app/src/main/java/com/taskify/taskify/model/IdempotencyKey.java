@@ -1,11 +1,13 @@
 package com.taskify.taskify.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "idempotency_keys", indexes = {
-        @Index(name = "idx_idempotency_key_user", columnList = "idempotencyKey, user_id", unique = true)
+        @Index(name = "idx_idempotency_key_user", columnList = "idempotencyKey, user_id", unique = true),
+        @Index(name = "idx_idempotency_expires_at", columnList = "expiresAt")
 })
 public class IdempotencyKey {
 
@@ -25,12 +27,21 @@ public class IdempotencyKey {
     @Column(nullable = false)
     private String requestHash;
 
-    @Lob
+    // gzip-compressed response bytes, replayed verbatim
+    @Column(name = "response_payload", length = 1048576)
+    private byte[] responsePayload;
+
+    // One "Name: value" line per header
     @Column(columnDefinition = "TEXT")
-    private String responseBody;
+    private String responseHeaders;
 
     private int responseStatus;
 
+    @Enumerated(EnumType.STRING)
+    @ColumnDefault("'COMPLETED'")
+    @Column(nullable = false, length = 16)
+    private IdempotencyStatus status = IdempotencyStatus.COMPLETED;
+
     @Column(nullable = false)
     private LocalDateTime createdAt;
 
@@ -40,14 +51,16 @@ public class IdempotencyKey {
     public IdempotencyKey() {
     }
 
-    public IdempotencyKey(String idempotencyKey, Long userId, String endpoint, String requestHash,
-            String responseBody, int responseStatus, int ttlMinutes) {
+    /**
+     * Creates a reservation: the key is claimed before the operation runs and the
+     * response is filled in once it completes.
+     */
+    public IdempotencyKey(String idempotencyKey, Long userId, String endpoint, String requestHash, int ttlMinutes) {
         this.idempotencyKey = idempotencyKey;
         this.userId = userId;
         this.endpoint = endpoint;
         this.requestHash = requestHash;
-        this.responseBody = responseBody;
-        this.responseStatus = responseStatus;
+        this.status = IdempotencyStatus.IN_FLIGHT;
         this.createdAt = LocalDateTime.now();
         this.expiresAt = this.createdAt.plusMinutes(ttlMinutes);
     }
@@ -93,12 +106,20 @@ public class IdempotencyKey {
         this.requestHash = requestHash;
     }
 
-    public String getResponseBody() {
-        return responseBody;
+    public byte[] getResponsePayload() {
+        return responsePayload;
     }
 
-    public void setResponseBody(String responseBody) {
-        this.responseBody = responseBody;
+    public void setResponsePayload(byte[] responsePayload) {
+        this.responsePayload = responsePayload;
+    }
+
+    public String getResponseHeaders() {
+        return responseHeaders;
+    }
+
+    public void setResponseHeaders(String responseHeaders) {
+        this.responseHeaders = responseHeaders;
     }
 
     public int getResponseStatus() {
@@ -109,6 +130,14 @@ public class IdempotencyKey {
         this.responseStatus = responseStatus;
     }
 
+    public IdempotencyStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(IdempotencyStatus status) {
+        this.status = status;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -0,0 +1,6 @@
+package com.taskify.taskify.model;
+
+public enum IdempotencyStatus {
+    IN_FLIGHT,
+    COMPLETED
+}
@@ -0,0 +1,49 @@
+package com.taskify.taskify.model;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Stores a list of ids in a single binary column as consecutive 8-byte
+ * big-endian longs, keeping their order. Replacing the list rewrites one column
+ * of its row instead of a join table, and loading it needs no second query.
+ * A null column reads as an empty list.
+ */
+@Converter
+public class PackedLongListConverter implements AttributeConverter<List<Long>, byte[]> {
+
+    @Override
+    public byte[] convertToDatabaseColumn(List<Long> values) {
+        if (values == null) {
+            return new byte[0];
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(values.size() * Long.BYTES);
+        for (Long value : values) {
+            if (value == null) {
+                throw new IllegalArgumentException("Packed id lists cannot contain null");
+            }
+            buffer.putLong(value);
+        }
+        return buffer.array();
+    }
+
+    @Override
+    public List<Long> convertToEntityAttribute(byte[] column) {
+        if (column == null) {
+            return new ArrayList<>();
+        }
+        if (column.length % Long.BYTES != 0) {
+            throw new IllegalArgumentException("Packed id column has a partial value: " + column.length + " bytes");
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(column);
+        List<Long> values = new ArrayList<>(column.length / Long.BYTES);
+        while (buffer.hasRemaining()) {
+            values.add(buffer.getLong());
+        }
+        return values;
+    }
+}
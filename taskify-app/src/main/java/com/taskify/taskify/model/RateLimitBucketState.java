@@ -0,0 +1,52 @@
+package com.taskify.taskify.model;
+
+import jakarta.persistence.*;
+
+/**
+ * Shared Bucket4j state for the JDBC rate-limit store. Rows are read and written
+ * through plain JDBC by {@code JdbcBucketProxyManager}; the entity exists so the
+ * table is created with the rest of the schema and can be purged through JPA.
+ */
+@Entity
+@Table(name = "rate_limit_buckets", indexes = {
+        @Index(name = "idx_rate_limit_bucket_expires", columnList = "expiresAt")
+})
+public class RateLimitBucketState {
+
+    @Id
+    @Column(length = 255)
+    private String id;
+
+    @Column(length = 4096)
+    private byte[] state;
+
+    // Epoch millis after which the bucket is full again and the row can be dropped
+    private Long expiresAt;
+
+    public RateLimitBucketState() {
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public byte[] getState() {
+        return state;
+    }
+
+    public void setState(byte[] state) {
+        this.state = state;
+    }
+
+    public Long getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(Long expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+}
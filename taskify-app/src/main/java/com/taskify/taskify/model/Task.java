@@ -4,7 +4,10 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "tasks")
+@Table(name = "tasks", indexes = {
+        // Per-bucket aggregation of one owner's tasks (intent overview)
+        @Index(name = "idx_tasks_owner_intent", columnList = "user_id, intent_bucket_id")
+})
 public class Task {
 
     @Id
@@ -0,0 +1,58 @@
+package com.taskify.taskify.repository;
+
+import com.taskify.taskify.model.AuditAction;
+import com.taskify.taskify.model.AuditLog;
+import com.taskify.taskify.model.AuditTargetType;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+
+public class AuditLogSpecification {
+
+    public static Specification<AuditLog> withActor(Long actorUserId) {
+        return (root, query, cb) -> actorUserId == null ? null : cb.equal(root.get("actorUserId"), actorUserId);
+    }
+
+    public static Specification<AuditLog> withAction(AuditAction action) {
+        return (root, query, cb) -> action == null ? null : cb.equal(root.get("action"), action);
+    }
+
+    public static Specification<AuditLog> withTargetType(AuditTargetType targetType) {
+        return (root, query, cb) -> targetType == null ? null : cb.equal(root.get("targetType"), targetType);
+    }
+
+    public static Specification<AuditLog> withTargetId(String targetId) {
+        return (root, query, cb) -> targetId == null || targetId.isBlank() ? null
+                : cb.equal(root.get("targetId"), targetId);
+    }
+
+    public static Specification<AuditLog> withTimestampBetween(LocalDateTime start, LocalDateTime end) {
+        return (root, query, cb) -> {
+            if (start == null && end == null)
+                return null;
+            if (start != null && end != null)
+                return cb.between(root.get("timestamp"), start, end);
+            if (start != null)
+                return cb.greaterThanOrEqualTo(root.get("timestamp"), start);
+            return cb.lessThanOrEqualTo(root.get("timestamp"), end);
+        };
+    }
+
+    /**
+     * Keyset predicate for descending (timestamp, id) order: matches rows strictly
+     * after the given cursor position. The leading {@code timestamp <= ?} bound
+     * keeps the predicate sargable so the (…, timestamp, id) indexes drive a range
+     * scan instead of evaluating the OR for every row.
+     */
+    public static Specification<AuditLog> before(LocalDateTime timestamp, Long id) {
+        return (root, query, cb) -> {
+            if (timestamp == null || id == null)
+                return null;
+            return cb.and(
+                    cb.lessThanOrEqualTo(root.get("timestamp"), timestamp),
+                    cb.or(
+                            cb.lessThan(root.get("timestamp"), timestamp),
+                            cb.lessThan(root.get("id"), id)));
+        };
+    }
+}
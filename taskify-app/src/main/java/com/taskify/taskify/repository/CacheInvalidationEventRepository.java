@@ -0,0 +1,26 @@
+package com.taskify.taskify.repository;
+
+import com.taskify.taskify.model.CacheInvalidationEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface CacheInvalidationEventRepository extends JpaRepository<CacheInvalidationEvent, Long> {
+
+    List<CacheInvalidationEvent> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    @Query("SELECT MAX(e.id) FROM CacheInvalidationEvent e")
+    Long findMaxId();
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM CacheInvalidationEvent e WHERE e.createdAt < :cutoff")
+    int deleteCreatedBefore(LocalDateTime cutoff);
+}
@@ -0,0 +1,36 @@
+package com.taskify.taskify.repository;
+
+import com.taskify.taskify.model.DailyCheckInStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface DailyCheckInStatsRepository extends JpaRepository<DailyCheckInStats, Long> {
+
+    Optional<DailyCheckInStats> findByUserIdAndDate(Long userId, LocalDate date);
+
+    List<DailyCheckInStats> findByUserIdAndDateIn(Long userId, Collection<LocalDate> dates);
+
+    List<DailyCheckInStats> findByUserIdOrderByDateAsc(Long userId);
+
+    List<DailyCheckInStats> findByUserIdAndDateBetweenOrderByDateAsc(Long userId, LocalDate from, LocalDate to);
+
+    @Query("SELECT COALESCE(MAX(s.streak), 0) FROM DailyCheckInStats s WHERE s.userId = :userId")
+    int findLongestStreak(Long userId);
+
+    /**
+     * Adjusts the day's completed count in place, so concurrent completions do
+     * not overwrite each other.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE DailyCheckInStats s SET s.completedTasks = s.completedTasks + :delta, s.updatedAt = CURRENT_TIMESTAMP "
+            + "WHERE s.userId = :userId AND s.date = :date")
+    int adjustCompletedTasks(Long userId, LocalDate date, int delta);
+}
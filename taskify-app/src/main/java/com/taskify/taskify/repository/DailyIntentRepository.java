@@ -0,0 +1,30 @@
+package com.taskify.taskify.repository;
+
+import com.taskify.taskify.model.DailyIntent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface DailyIntentRepository extends JpaRepository<DailyIntent, Long> {
+    Optional<DailyIntent> findByUserIdAndDate(Long userId, LocalDate date);
+
+    List<DailyIntent> findByUserIdAndDateIn(Long userId, Collection<LocalDate> dates);
+
+    List<DailyIntent> findByUserIdOrderByDateAsc(Long userId);
+
+    /**
+     * Users after the given id with a check-in that has no stats row yet, in id
+     * order.
+     */
+    @Query("SELECT DISTINCT d.userId FROM DailyIntent d WHERE d.userId > :afterUserId AND d.taskIds IS NOT NULL "
+            + "AND NOT EXISTS (SELECT s.id FROM DailyCheckInStats s WHERE s.userId = d.userId AND s.date = d.date) "
+            + "ORDER BY d.userId")
+    List<Long> findUserIdsMissingCheckInStats(Long afterUserId, Pageable pageable);
+}
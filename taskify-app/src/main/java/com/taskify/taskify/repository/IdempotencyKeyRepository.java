@@ -0,0 +1,89 @@
+package com.taskify.taskify.repository;
+
+import com.taskify.taskify.model.IdempotencyKey;
+import com.taskify.taskify.model.IdempotencyStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface IdempotencyKeyRepository extends JpaRepository<IdempotencyKey, Long> {
+
+    Optional<IdempotencyKey> findByIdempotencyKeyAndUserIdAndEndpoint(String idempotencyKey, Long userId,
+            String endpoint);
+
+    /**
+     * Reads the reservation state as a projection rather than a managed entity, so
+     * repeated polls see other transactions' commits instead of a cached instance.
+     */
+    @Query("SELECT i.endpoint AS endpoint, i.requestHash AS requestHash, i.status AS status, "
+            + "i.responseStatus AS responseStatus, i.createdAt AS createdAt, i.expiresAt AS expiresAt "
+            + "FROM IdempotencyKey i WHERE i.idempotencyKey = :idempotencyKey AND i.userId = :userId")
+    Optional<ReservationState> findReservationState(String idempotencyKey, Long userId);
+
+    @Query("SELECT i.responsePayload AS responsePayload, i.responseHeaders AS responseHeaders "
+            + "FROM IdempotencyKey i WHERE i.idempotencyKey = :idempotencyKey AND i.userId = :userId")
+    Optional<StoredResponse> findStoredResponse(String idempotencyKey, Long userId);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE IdempotencyKey i SET i.status = :status, i.responseStatus = :responseStatus, "
+            + "i.responseHeaders = :responseHeaders, i.responsePayload = :responsePayload "
+            + "WHERE i.idempotencyKey = :idempotencyKey AND i.userId = :userId")
+    int markCompleted(String idempotencyKey, Long userId, int responseStatus, String responseHeaders,
+            byte[] responsePayload, IdempotencyStatus status);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM IdempotencyKey i WHERE i.idempotencyKey = :idempotencyKey AND i.userId = :userId")
+    int deleteReservation(String idempotencyKey, Long userId);
+
+    /**
+     * Removes an abandoned or expired reservation, guarded on its creation time so a
+     * fresh reservation taken over concurrently by another request is left alone.
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM IdempotencyKey i WHERE i.idempotencyKey = :idempotencyKey AND i.userId = :userId "
+            + "AND i.createdAt = :createdAt")
+    int deleteStaleReservation(String idempotencyKey, Long userId, LocalDateTime createdAt);
+
+    /**
+     * Oldest expired rows first, walking the expiresAt index; the page size bounds
+     * how many rows one cleanup chunk touches.
+     */
+    @Query("SELECT i.id FROM IdempotencyKey i WHERE i.expiresAt < :now ORDER BY i.expiresAt")
+    List<Long> findExpiredIds(LocalDateTime now, Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM IdempotencyKey i WHERE i.id IN :ids")
+    int deleteByIds(List<Long> ids);
+
+    interface ReservationState {
+        String getEndpoint();
+
+        String getRequestHash();
+
+        IdempotencyStatus getStatus();
+
+        int getResponseStatus();
+
+        LocalDateTime getCreatedAt();
+
+        LocalDateTime getExpiresAt();
+    }
+
+    interface StoredResponse {
+        byte[] getResponsePayload();
+
+        String getResponseHeaders();
+    }
+}
@@ -0,0 +1,28 @@
+package com.taskify.taskify.repository;
+
+import com.taskify.taskify.model.RateLimitBucketState;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Repository
+public interface RateLimitBucketRepository extends JpaRepository<RateLimitBucketState, String> {
+
+    /**
+     * Oldest expired buckets first, walking the expiresAt index; the page size
+     * bounds how many rows one cleanup chunk touches.
+     */
+    @Query("SELECT b.id FROM RateLimitBucketState b WHERE b.expiresAt < :nowMillis ORDER BY b.expiresAt")
+    List<String> findExpiredIds(long nowMillis, Pageable pageable);
+
+    // Re-checks expiry so a bucket refreshed since it was selected is kept
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM RateLimitBucketState b WHERE b.id IN :ids AND b.expiresAt < :nowMillis")
+    int deleteExpiredByIds(List<String> ids, long nowMillis);
+}
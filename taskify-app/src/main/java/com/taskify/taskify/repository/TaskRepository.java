@@ -0,0 +1,85 @@
+package com.taskify.taskify.repository;
+
+import com.taskify.taskify.model.Task;
+import com.taskify.taskify.model.Status;
+import com.taskify.taskify.model.User;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task> {
+
+    List<Task> findByStatusAndTitleContainingIgnoreCase(Status status, String title);
+
+    List<Task> findByOwner(User owner);
+
+    Page<Task> findByOwner(User owner, Pageable pageable);
+
+    List<Task> findByOwnerAndStatus(User owner, Status status);
+
+    List<Task> findByOwnerAndTitleContainingIgnoreCase(User owner, String title);
+
+    List<Task> findByOwnerAndStatusAndTitleContainingIgnoreCase(User owner, Status status, String title);
+
+    /**
+     * Loads the given tasks with their intent buckets in one query, for views
+     * that map many tasks at once.
+     */
+    @EntityGraph(attributePaths = "intentBucket")
+    List<Task> findWithIntentBucketByIdIn(Collection<Long> ids);
+
+    /**
+     * Loads one task with its intent bucket, which every task response includes.
+     */
+    @EntityGraph(attributePaths = "intentBucket")
+    Optional<Task> findWithIntentBucketById(Long id);
+
+    /**
+     * Detaches every task of the owner's bucket from it in one statement, bumping
+     * their versions so clients holding the previous state get a conflict. The
+     * persistence context is cleared afterwards, since managed tasks would still
+     * point at the bucket.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.intentBucket = NULL, t.version = t.version + 1 "
+            + "WHERE t.intentBucket.id = :bucketId AND t.owner.id = :userId")
+    int clearIntentBucket(Long bucketId, Long userId);
+
+    /**
+     * Total, completed and stagnant counts of the user's live tasks for every intent
+     * bucket that has any, in one grouped scan. The stagnant condition mirrors
+     * {@link TaskSpecification#isStagnant} and only counts tasks not completed.
+     */
+    @Query("SELECT t.intentBucket.id AS bucketId, COUNT(t) AS total, "
+            + "SUM(CASE WHEN t.status = :completed THEN 1 ELSE 0 END) AS completed, "
+            + "SUM(CASE WHEN t.status <> :completed AND ("
+            + "(t.dueDate < :now AND t.lastModifiedAt < :overdueThreshold) "
+            + "OR (t.status = :inProgress AND t.lastModifiedAt < :inProgressThreshold) "
+            + "OR (t.status = :pending AND t.lastModifiedAt < :pendingThreshold)) THEN 1 ELSE 0 END) AS stagnant "
+            + "FROM Task t WHERE t.owner.id = :userId AND t.deleted = false AND t.intentBucket IS NOT NULL "
+            + "GROUP BY t.intentBucket.id")
+    List<IntentBucketCounts> countByIntentBucket(Long userId, LocalDateTime now, LocalDateTime overdueThreshold,
+            LocalDateTime inProgressThreshold, LocalDateTime pendingThreshold, Status completed, Status inProgress,
+            Status pending);
+
+    interface IntentBucketCounts {
+        Long getBucketId();
+
+        long getTotal();
+
+        long getCompleted();
+
+        long getStagnant();
+    }
+}
@@ -0,0 +1,140 @@
+package com.taskify.taskify.security;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Gradient-based in-flight limit. A slow-moving average of request latency serves
+ * as the "no queueing" baseline; whenever the recent average rises above it (by
+ * more than the tolerance) the limit shrinks in proportion, and while latency
+ * matches the baseline it grows by roughly {@code sqrt(limit)} per window. This
+ * lets the limit track what the database can currently sustain instead of a
+ * fixed thread count.
+ *
+ * <p>
+ * Completions only add to striped counters; whichever thread closes a window of
+ * {@code sampleWindow} samples recomputes the limit under a {@code tryLock}, and
+ * everyone else moves on without waiting. A sample that lands while a window is
+ * being drained may count towards the next one, which the averaging absorbs.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double smoothing;
+    private final double rttTolerance;
+    private final int sampleWindow;
+    private final double longWindowFactor;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile int limit;
+
+    private final AtomicLong windowSamples = new AtomicLong();
+    private final LongAdder windowRttNanos = new LongAdder();
+    private final AtomicInteger windowPeakInFlight = new AtomicInteger();
+    private final ReentrantLock updateLock = new ReentrantLock();
+
+    // Guarded by updateLock
+    private double estimatedLimit;
+    private double shortRttNanos;
+    private double longRttNanos;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit,
+            double smoothing, double rttTolerance, int longWindow, int sampleWindow) {
+        if (minLimit < 1 || minLimit > maxLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Require 1 <= minLimit <= initialLimit <= maxLimit");
+        }
+        if (sampleWindow < 1) {
+            throw new IllegalArgumentException("Require sampleWindow >= 1");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.smoothing = smoothing;
+        this.rttTolerance = rttTolerance;
+        this.sampleWindow = sampleWindow;
+        // longWindow is in samples; the baseline moves once per window
+        this.longWindowFactor = 2.0 / (Math.max(1, longWindow / sampleWindow) + 1);
+        this.estimatedLimit = initialLimit;
+        this.limit = initialLimit;
+    }
+
+    /**
+     * Admits a request if fewer than {@code limit * headroom} are in flight. A
+     * headroom above 1 lets prioritized traffic through after regular requests
+     * are already being shed.
+     */
+    public boolean tryAcquire(double headroom) {
+        int allowed = (int) Math.ceil(limit * headroom);
+        while (true) {
+            int current = inFlight.get();
+            if (current >= allowed) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    public void release(long rttNanos) {
+        int inFlightBeforeRelease = inFlight.getAndDecrement();
+        onSample(rttNanos, inFlightBeforeRelease);
+    }
+
+    void onSample(long rttNanos, int inFlightAtCompletion) {
+        windowRttNanos.add(rttNanos);
+        windowPeakInFlight.accumulateAndGet(inFlightAtCompletion, Math::max);
+        if (windowSamples.incrementAndGet() < sampleWindow || !updateLock.tryLock()) {
+            return;
+        }
+
+        try {
+            // Another thread may have closed this window while we were acquiring the lock
+            long samples = windowSamples.getAndSet(0);
+            if (samples < sampleWindow) {
+                windowSamples.addAndGet(samples);
+                return;
+            }
+            long rttSum = windowRttNanos.sumThenReset();
+            int peakInFlight = windowPeakInFlight.getAndSet(0);
+            updateLimit((double) rttSum / samples, peakInFlight);
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    private void updateLimit(double windowRttNanos, int peakInFlight) {
+        shortRttNanos = windowRttNanos;
+        if (longRttNanos == 0) {
+            longRttNanos = windowRttNanos;
+        } else {
+            longRttNanos += (windowRttNanos - longRttNanos) * longWindowFactor;
+        }
+
+        // After a sustained slowdown ends the baseline is inflated; let it decay faster
+        if (longRttNanos / shortRttNanos > 2) {
+            longRttNanos *= 0.95;
+        }
+
+        // Far below the limit there is no signal about capacity either way
+        if (peakInFlight < estimatedLimit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, rttTolerance * longRttNanos / shortRttNanos));
+        double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        newLimit = estimatedLimit * (1 - smoothing) + newLimit * smoothing;
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+        limit = (int) estimatedLimit;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+}
@@ -0,0 +1,108 @@
+package com.taskify.taskify.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Sheds load when the backend slows down. Runs right after
+ * {@link CorrelationIdFilter}, ahead of the security chain and the rate limiters,
+ * so a rejected request costs no token parsing or database work.
+ *
+ * <p>
+ * Health checks are never shed, so orchestrators don't restart a node that is
+ * merely busy. Auth endpoints get extra headroom above the limit so users can
+ * still sign in while bulk traffic is being rejected.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final boolean enabled;
+    private final double priorityHeadroom;
+    private final Counter rejections;
+
+    @Autowired
+    public ConcurrencyLimitFilter(MeterRegistry meterRegistry,
+            @Value("${app.concurrency.enabled:true}") boolean enabled,
+            @Value("${app.concurrency.initial-limit:50}") int initialLimit,
+            @Value("${app.concurrency.min-limit:10}") int minLimit,
+            @Value("${app.concurrency.max-limit:200}") int maxLimit,
+            @Value("${app.concurrency.smoothing:0.2}") double smoothing,
+            @Value("${app.concurrency.rtt-tolerance:1.5}") double rttTolerance,
+            @Value("${app.concurrency.long-window:600}") int longWindow,
+            @Value("${app.concurrency.sample-window:10}") int sampleWindow,
+            @Value("${app.concurrency.priority-headroom:1.25}") double priorityHeadroom) {
+        this(new AdaptiveConcurrencyLimiter(initialLimit, minLimit, maxLimit, smoothing, rttTolerance, longWindow,
+                sampleWindow),
+                meterRegistry, enabled, priorityHeadroom);
+    }
+
+    ConcurrencyLimitFilter(AdaptiveConcurrencyLimiter limiter, MeterRegistry meterRegistry, boolean enabled,
+            double priorityHeadroom) {
+        this.limiter = limiter;
+        this.enabled = enabled;
+        this.priorityHeadroom = priorityHeadroom;
+        this.rejections = meterRegistry.counter("taskify.concurrency.rejections");
+        Gauge.builder("taskify.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                .description("Current adaptive in-flight request limit")
+                .register(meterRegistry);
+        Gauge.builder("taskify.concurrency.in_flight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                .description("Requests currently admitted by the concurrency limiter")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Share of the current limit taken by admitted requests; 0 when shedding is
+     * disabled. Optional background work checks this before adding to the load.
+     */
+    public double utilization() {
+        if (!enabled) {
+            return 0.0;
+        }
+        return (double) limiter.getInFlight() / limiter.getLimit();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !enabled || request.getRequestURI().startsWith("/actuator/health");
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+
+        double headroom = request.getRequestURI().startsWith("/api/v1/auth") ? priorityHeadroom : 1.0;
+        if (!limiter.tryAcquire(headroom)) {
+            rejections.increment();
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            response.setContentType("application/json");
+            response.setHeader("Retry-After", "1");
+            response.getWriter().write(
+                    "{ \"message\": \"Server is busy. Please retry shortly.\", \"status\": 503 }");
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            limiter.release(System.nanoTime() - start);
+        }
+    }
+}
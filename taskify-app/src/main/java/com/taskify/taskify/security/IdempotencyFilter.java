@@ -0,0 +1,326 @@
+package com.taskify.taskify.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskify.taskify.dto.ApiError;
+import com.taskify.taskify.dto.IdempotentResponse;
+import com.taskify.taskify.exception.IdempotencyException;
+import com.taskify.taskify.model.User;
+import com.taskify.taskify.repository.UserRepository;
+import com.taskify.taskify.service.IdempotencyService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Makes every authenticated POST and PATCH carrying an {@code Idempotency-Key}
+ * header safe to retry. The raw request body is hashed as it is read, the key is
+ * reserved before the handler runs, and a successful response is stored byte for
+ * byte (gzip compressed, with its status and headers) so retries get exactly the
+ * same answer.
+ *
+ * <p>
+ * Keys are scoped per user, so anonymous requests (login, register, token
+ * refresh) pass through untouched; replaying those would also mean persisting
+ * issued tokens. Bodies over {@code app.idempotency.max-body-bytes} are rejected
+ * with 413 before anything is buffered or hashed.
+ */
+@Component
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final Set<String> IDEMPOTENT_METHODS = Set.of("POST", "PATCH");
+
+    // Written per request by other filters or by the container; never replayed
+    private static final Set<String> VOLATILE_HEADERS = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+
+    static {
+        VOLATILE_HEADERS.addAll(Set.of(HttpHeaders.CONTENT_LENGTH, HttpHeaders.TRANSFER_ENCODING, HttpHeaders.DATE,
+                HttpHeaders.SET_COOKIE, HttpHeaders.CONTENT_TYPE, "X-Correlation-ID", HttpHeaders.RETRY_AFTER));
+    }
+
+    private final IdempotencyService idempotencyService;
+    private final UserRepository userRepository;
+    private final ObjectMapper objectMapper;
+    private final int maxBodyBytes;
+
+    public IdempotencyFilter(IdempotencyService idempotencyService, UserRepository userRepository,
+            ObjectMapper objectMapper,
+            @Value("${app.idempotency.max-body-bytes:1048576}") int maxBodyBytes) {
+        this.idempotencyService = idempotencyService;
+        this.userRepository = userRepository;
+        this.objectMapper = objectMapper;
+        this.maxBodyBytes = maxBodyBytes;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        String key = request.getHeader(IDEMPOTENCY_KEY_HEADER);
+        return key == null || key.isBlank() || !IDEMPOTENT_METHODS.contains(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+
+        Long userId = currentUserId();
+        if (userId == null) {
+            // Keys are scoped per user; anonymous calls are left to the security chain
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String key = request.getHeader(IDEMPOTENCY_KEY_HEADER);
+        String endpoint = endpointOf(request);
+        if (request.getContentLengthLong() > maxBodyBytes) {
+            writePayloadTooLarge(request, response);
+            return;
+        }
+        // Chunked bodies declare no length, so the read itself is bounded too
+        Optional<BufferedBody> buffered = readBody(request, maxBodyBytes);
+        if (buffered.isEmpty()) {
+            writePayloadTooLarge(request, response);
+            return;
+        }
+        BufferedBody body = buffered.get();
+
+        Optional<IdempotentResponse> stored;
+        try {
+            stored = idempotencyService.reserve(key, userId, endpoint, body.hash());
+        } catch (IdempotencyException e) {
+            writeConflict(request, response, e);
+            return;
+        }
+
+        if (stored.isPresent()) {
+            replay(response, stored.get());
+            return;
+        }
+
+        Set<String> headersBefore = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        headersBefore.addAll(response.getHeaderNames());
+        ContentCachingResponseWrapper capturing = new ContentCachingResponseWrapper(response);
+
+        boolean completed = false;
+        try {
+            filterChain.doFilter(new BufferedBodyRequest(request, body.bytes()), capturing);
+
+            // Only successes are kept; failures free the key so the client can retry
+            if (HttpStatusCode.valueOf(capturing.getStatus()).is2xxSuccessful()) {
+                idempotencyService.complete(key, userId, endpoint, body.hash(), capturing.getStatus(),
+                        handlerHeaders(capturing, headersBefore), gzip(capturing.getContentAsByteArray()));
+                completed = true;
+            }
+        } finally {
+            if (!completed) {
+                idempotencyService.release(key, userId);
+            }
+            capturing.copyBodyToResponse();
+        }
+    }
+
+    private Long currentUserId() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || !auth.isAuthenticated() || "anonymousUser".equals(auth.getPrincipal())) {
+            return null;
+        }
+        if (auth.getPrincipal() instanceof TaskifyUserDetails principal) {
+            return principal.getId();
+        }
+        return userRepository.findByUsername(auth.getName()).map(User::getId).orElse(null);
+    }
+
+    private static String endpointOf(HttpServletRequest request) {
+        String query = request.getQueryString();
+        return request.getMethod() + " " + request.getRequestURI() + (query == null ? "" : "?" + query);
+    }
+
+    /**
+     * Reads the body once, hashing the bytes as they stream past, so the handler
+     * can be given the same bytes without a second pass or re-serialization.
+     * Empty if the body is longer than {@code maxBytes}; at most one byte past the
+     * limit is read to find out.
+     */
+    static Optional<BufferedBody> readBody(HttpServletRequest request, int maxBytes) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+
+        byte[] bytes;
+        try (DigestInputStream in = new DigestInputStream(request.getInputStream(), digest)) {
+            bytes = in.readNBytes(maxBytes + 1);
+        }
+        if (bytes.length > maxBytes) {
+            return Optional.empty();
+        }
+        return Optional.of(new BufferedBody(bytes, Base64.getEncoder().encodeToString(digest.digest())));
+    }
+
+    private static HttpHeaders handlerHeaders(HttpServletResponse response, Set<String> headersBefore) {
+        HttpHeaders headers = new HttpHeaders();
+        if (response.getContentType() != null) {
+            headers.setContentType(MediaType.parseMediaType(response.getContentType()));
+        }
+        for (String name : response.getHeaderNames()) {
+            if (!headersBefore.contains(name) && !VOLATILE_HEADERS.contains(name) && !headers.containsKey(name)) {
+                headers.addAll(name, new ArrayList<>(response.getHeaders(name)));
+            }
+        }
+        return headers;
+    }
+
+    private static void replay(HttpServletResponse response, IdempotentResponse stored) throws IOException {
+        byte[] body = gunzip(stored.compressedBody());
+        response.setStatus(stored.status());
+        stored.headers().forEach((name, values) -> values.forEach(value -> response.addHeader(name, value)));
+        response.setHeader(REPLAYED_HEADER, "true");
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private void writeConflict(HttpServletRequest request, HttpServletResponse response, IdempotencyException e)
+            throws IOException {
+        writeError(request, response, HttpStatus.CONFLICT, "Idempotency Error", e.getMessage());
+    }
+
+    private void writePayloadTooLarge(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        writeError(request, response, HttpStatus.PAYLOAD_TOO_LARGE, "Payload Too Large",
+                "Request body exceeds " + maxBodyBytes + " bytes");
+    }
+
+    private void writeError(HttpServletRequest request, HttpServletResponse response, HttpStatus status,
+            String title, String message) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+
+        ApiError error = new ApiError(
+                LocalDateTime.now(),
+                status.value(),
+                title,
+                message,
+                request.getRequestURI(),
+                MDC.get("correlationId"));
+
+        response.getWriter().write(objectMapper.writeValueAsString(error));
+    }
+
+    static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(Math.max(32, bytes.length / 2));
+        try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+            out.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return compressed.toByteArray();
+    }
+
+    static byte[] gunzip(byte[] compressed) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return in.readAllBytes();
+        }
+    }
+
+    record BufferedBody(byte[] bytes, String hash) {
+    }
+
+    /**
+     * Hands the already-consumed body bytes to the rest of the chain.
+     */
+    private static class BufferedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        BufferedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    throw new UnsupportedOperationException("Async reads are not supported");
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+    }
+}
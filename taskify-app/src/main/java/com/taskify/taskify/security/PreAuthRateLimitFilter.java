@@ -0,0 +1,54 @@
+package com.taskify.taskify.security;
+
+import com.taskify.taskify.service.RateLimitService;
+import io.github.bucket4j.ConsumptionProbe;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * IP-keyed limiter that runs ahead of {@link JwtAuthenticationFilter}. Its limit is
+ * deliberately looser than the per-user one in {@link RateLimitFilter}: it only
+ * exists to stop token-spraying floods before they cost a signature check and a
+ * user lookup.
+ */
+@Component
+public class PreAuthRateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimitService rateLimitService;
+    private final Counter rejections;
+
+    public PreAuthRateLimitFilter(RateLimitService rateLimitService, MeterRegistry meterRegistry) {
+        this.rateLimitService = rateLimitService;
+        this.rejections = meterRegistry.counter("taskify.rate_limit.preauth.rejections");
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+
+        if (RateLimitFilter.isExcluded(request.getRequestURI())) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String clientIp = RateLimitFilter.getClientIp(request);
+        ConsumptionProbe probe = rateLimitService.resolvePreAuthBucket(clientIp).tryConsumeAndReturnRemaining(1);
+
+        if (probe.isConsumed()) {
+            filterChain.doFilter(request, response);
+        } else {
+            rejections.increment();
+            RateLimitFilter.handleRateLimitExceeded(response, probe);
+        }
+    }
+}
@@ -19,10 +19,13 @@ import java.io.IOException;
 public class RateLimitFilter extends OncePerRequestFilter {
 
     private final RateLimitService rateLimitService;
+    private final RateLimitPolicyResolver policyResolver;
     private final MeterRegistry meterRegistry;
 
-    public RateLimitFilter(RateLimitService rateLimitService, MeterRegistry meterRegistry) {
+    public RateLimitFilter(RateLimitService rateLimitService, RateLimitPolicyResolver policyResolver,
+            MeterRegistry meterRegistry) {
         this.rateLimitService = rateLimitService;
+        this.policyResolver = policyResolver;
         this.meterRegistry = meterRegistry;
     }
 
@@ -40,13 +43,13 @@ public class RateLimitFilter extends OncePerRequestFilter {
             return;
         }
 
-        // 2. Identify key and type
-        boolean isAuthEndpoint = path.startsWith("/api/v1/auth");
+        // 2. Identify key and the route's bucket/cost
+        RateLimitPolicyResolver.Policy policy = policyResolver.resolve(request);
         String key = resolveKey(request);
 
         // 3. Resolve bucket and consume
-        Bucket bucket = rateLimitService.resolveBucket(key, isAuthEndpoint);
-        ConsumptionProbe probe = bucket.tryConsumeAndReturnRemaining(1);
+        Bucket bucket = rateLimitService.resolveBucket(key, policy.bucket());
+        ConsumptionProbe probe = bucket.tryConsumeAndReturnRemaining(policy.cost());
 
         if (probe.isConsumed()) {
             filterChain.doFilter(request, response);
@@ -56,7 +59,7 @@ public class RateLimitFilter extends OncePerRequestFilter {
         }
     }
 
-    private boolean isExcluded(String path) {
+    static boolean isExcluded(String path) {
         return path.startsWith("/v3/api-docs") ||
                 path.startsWith("/swagger-ui") ||
                 path.startsWith("/actuator/health") ||
@@ -71,15 +74,17 @@ public class RateLimitFilter extends OncePerRequestFilter {
         return "ip:" + getClientIp(request);
     }
 
-    private String getClientIp(HttpServletRequest request) {
-        String xfHeader = request.getHeader("X-Forwarded-For");
-        if (xfHeader == null || xfHeader.isEmpty()) {
-            return request.getRemoteAddr();
-        }
-        return xfHeader.split(",")[0];
+    /**
+     * The connection's address. X-Forwarded-For is set by the client and would let
+     * it pick a new bucket per request; behind a proxy, Tomcat's RemoteIpValve
+     * ({@code server.forward-headers-strategy=native}) rewrites the remote address
+     * from that header only when the request comes from a trusted proxy.
+     */
+    static String getClientIp(HttpServletRequest request) {
+        return request.getRemoteAddr();
     }
 
-    private void handleRateLimitExceeded(HttpServletResponse response, ConsumptionProbe probe) throws IOException {
+    static void handleRateLimitExceeded(HttpServletResponse response, ConsumptionProbe probe) throws IOException {
         long waitForRefill = probe.getNanosToWaitForRefill() / 1_000_000_000;
         if (waitForRefill < 1)
             waitForRefill = 1;
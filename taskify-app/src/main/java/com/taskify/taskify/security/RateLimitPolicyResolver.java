@@ -0,0 +1,107 @@
+package com.taskify.taskify.security;
+
+import com.taskify.taskify.config.RateLimitPolicy;
+import com.taskify.taskify.service.RateLimitService;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.http.server.RequestPath;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerExecutionChain;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+import org.springframework.web.util.ServletRequestPathUtils;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Maps a request to the {@link RateLimitPolicy} of the controller method that will
+ * handle it. The filter runs before the DispatcherServlet, so the handler is looked
+ * up here; the annotation itself is read once per method and cached.
+ */
+@Component
+public class RateLimitPolicyResolver {
+
+    public record Policy(String bucket, int cost) {
+    }
+
+    static final Policy DEFAULT_API = new Policy("api", 1);
+    static final Policy DEFAULT_AUTH = new Policy("auth", 1);
+
+    // Resolved on use: the security filters are built before the MVC infrastructure
+    private final ObjectProvider<RequestMappingHandlerMapping> handlerMapping;
+    private final RateLimitService rateLimitService;
+    private final Map<Method, Policy> policies = new ConcurrentHashMap<>();
+
+    public RateLimitPolicyResolver(
+            @Qualifier("requestMappingHandlerMapping") ObjectProvider<RequestMappingHandlerMapping> handlerMapping,
+            RateLimitService rateLimitService) {
+        this.handlerMapping = handlerMapping;
+        this.rateLimitService = rateLimitService;
+    }
+
+    public Policy resolve(HttpServletRequest request) {
+        HandlerMethod handlerMethod = findHandler(request);
+        if (handlerMethod == null) {
+            // No matching route (404/405): fall back to the path-based default
+            return request.getRequestURI().startsWith("/api/v1/auth") ? DEFAULT_AUTH : DEFAULT_API;
+        }
+        return policies.computeIfAbsent(handlerMethod.getMethod(), method -> policyFor(handlerMethod));
+    }
+
+    /**
+     * Fails startup if a policy names a bucket with no configured limits, rather
+     * than on the first request to that endpoint.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void validatePolicies() {
+        handlerMapping.getObject().getHandlerMethods().values().forEach(handlerMethod -> {
+            Policy policy = policies.computeIfAbsent(handlerMethod.getMethod(), method -> policyFor(handlerMethod));
+            rateLimitService.validatePolicy(policy.bucket(), policy.cost());
+        });
+    }
+
+    private HandlerMethod findHandler(HttpServletRequest request) {
+        Object previousPath = request.getAttribute(ServletRequestPathUtils.PATH_ATTRIBUTE);
+        try {
+            if (previousPath == null) {
+                ServletRequestPathUtils.parseAndCache(request);
+            }
+            HandlerExecutionChain chain = handlerMapping.getObject().getHandler(request);
+            if (chain != null && chain.getHandler() instanceof HandlerMethod handlerMethod) {
+                return handlerMethod;
+            }
+            return null;
+        } catch (Exception ex) {
+            // Method/media-type mismatches surface as exceptions during lookup
+            return null;
+        } finally {
+            if (previousPath == null) {
+                ServletRequestPathUtils.clearParsedRequestPath(request);
+            } else {
+                request.setAttribute(ServletRequestPathUtils.PATH_ATTRIBUTE, (RequestPath) previousPath);
+            }
+        }
+    }
+
+    private static Policy policyFor(HandlerMethod handlerMethod) {
+        RateLimitPolicy annotation = AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getMethod(),
+                RateLimitPolicy.class);
+        if (annotation == null) {
+            annotation = AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getBeanType(),
+                    RateLimitPolicy.class);
+        }
+        if (annotation == null) {
+            return DEFAULT_API;
+        }
+        if (annotation.cost() < 1) {
+            throw new IllegalStateException("Rate limit cost must be positive on " + handlerMethod);
+        }
+        return new Policy(annotation.bucket(), annotation.cost());
+    }
+}
@@ -0,0 +1,80 @@
+package com.taskify.taskify.security;
+
+import com.taskify.taskify.health.SqlRequestStats;
+import com.taskify.taskify.health.SqlStatementRecorder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Attributes SQL to the request that caused it, security filters included, and
+ * records {@code taskify.http.sql.statements}, {@code taskify.http.sql.rows} and
+ * {@code taskify.http.sql.time} tagged with the method and matched path pattern.
+ * A statement that runs {@code app.sql.repeated-statement-threshold} times or
+ * more within one request is logged as a likely N+1.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+@ConditionalOnProperty(name = "app.sql.metrics.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlMetricsFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlMetricsFilter.class);
+
+    private final SqlStatementRecorder recorder;
+    private final MeterRegistry meterRegistry;
+    private final int repeatedStatementThreshold;
+
+    public SqlMetricsFilter(SqlStatementRecorder recorder, MeterRegistry meterRegistry,
+            @Value("${app.sql.repeated-statement-threshold:10}") int repeatedStatementThreshold) {
+        this.recorder = recorder;
+        this.meterRegistry = meterRegistry;
+        this.repeatedStatementThreshold = repeatedStatementThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+        recorder.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+            SqlRequestStats stats = recorder.end(request.getMethod() + " " + uri);
+            if (stats != null) {
+                record(request.getMethod(), uri, stats);
+            }
+        }
+    }
+
+    private void record(String method, String uri, SqlRequestStats stats) {
+        Tags tags = Tags.of("method", method, "uri", uri);
+        meterRegistry.summary("taskify.http.sql.statements", tags).record(stats.getStatements());
+        meterRegistry.summary("taskify.http.sql.rows", tags).record(stats.getRows());
+        meterRegistry.timer("taskify.http.sql.time", tags).record(stats.getElapsedMillis(), TimeUnit.MILLISECONDS);
+
+        for (Map.Entry<String, Integer> execution : stats.getExecutions().entrySet()) {
+            if (execution.getValue() >= repeatedStatementThreshold) {
+                log.warn("Repeated SQL statement: {} executions in {} (possible N+1): {}", execution.getValue(),
+                        stats.getEndpoint(), execution.getKey());
+            }
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.taskify.taskify.security;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collection;
+
+/**
+ * Authenticated principal that also carries the database id, so per-user work
+ * after authentication (cache keys, idempotency scoping) needs no username lookup.
+ */
+public class TaskifyUserDetails extends User {
+
+    private final Long id;
+
+    public TaskifyUserDetails(Long id, String username, String password,
+            Collection<? extends GrantedAuthority> authorities) {
+        super(username, password, authorities);
+        this.id = id;
+    }
+
+    public Long getId() {
+        return id;
+    }
+}
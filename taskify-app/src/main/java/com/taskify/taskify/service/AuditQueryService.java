@@ -0,0 +1,25 @@
+package com.taskify.taskify.service;
+
+import com.taskify.taskify.dto.AuditLogFilter;
+import com.taskify.taskify.dto.AuditLogPageResponse;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Read-side access to the audit trail for administrators.
+ */
+public interface AuditQueryService {
+
+    /**
+     * Returns one page of audit entries, newest first, starting after the given
+     * cursor (or from the newest entry when the cursor is null).
+     */
+    AuditLogPageResponse findLogs(AuditLogFilter filter, String cursor, int limit);
+
+    /**
+     * Writes every matching audit entry to the stream as newline-delimited JSON,
+     * newest first, fetching in fixed-size keyset batches.
+     */
+    void streamLogs(AuditLogFilter filter, OutputStream out) throws IOException;
+}
@@ -0,0 +1,154 @@
+package com.taskify.taskify.service;
+
+import com.taskify.taskify.config.BroadcastingCache;
+import com.taskify.taskify.config.CacheGenerationRegistry;
+import com.taskify.taskify.dto.CacheInvalidationMessage;
+import com.taskify.taskify.model.CacheInvalidationType;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Keeps the node-local caches of all replicas consistent. Local evictions, clears
+ * and list generation advances are published once the surrounding transaction
+ * commits; invalidations from other nodes are applied to this node's caches
+ * without being published again.
+ */
+@Service
+public class CacheInvalidationBus {
+
+    private static final Logger log = LoggerFactory.getLogger(CacheInvalidationBus.class);
+
+    private final CacheInvalidationTransport transport;
+    private final CacheManager cacheManager;
+    private final CacheGenerationRegistry cacheGenerations;
+    private final MeterRegistry meterRegistry;
+    private final Timer deliveryDelay;
+    private final String nodeId;
+
+    public CacheInvalidationBus(CacheInvalidationTransport transport, CacheManager cacheManager,
+            CacheGenerationRegistry cacheGenerations, MeterRegistry meterRegistry) {
+        this.transport = transport;
+        this.cacheManager = cacheManager;
+        this.cacheGenerations = cacheGenerations;
+        this.meterRegistry = meterRegistry;
+        this.deliveryDelay = meterRegistry.timer("taskify.cache.invalidation.delay");
+        this.nodeId = hostName() + ":" + UUID.randomUUID();
+
+        Gauge.builder("taskify.cache.invalidation.lag", transport, CacheInvalidationTransport::lag)
+                .description("Invalidations on the bus not yet applied by this node")
+                .register(meterRegistry);
+
+        transport.subscribe(this::apply);
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public void publishEviction(String cacheName, Object key) {
+        if (key instanceof Long || key instanceof String) {
+            publish(CacheInvalidationType.EVICT, cacheName, key, null);
+        } else {
+            // Composite keys cannot be rebuilt on the other side; drop the whole cache there
+            publish(CacheInvalidationType.CLEAR, cacheName, null, null);
+        }
+    }
+
+    public void publishClear(String cacheName) {
+        publish(CacheInvalidationType.CLEAR, cacheName, null, null);
+    }
+
+    public void publishGeneration(long userId) {
+        publish(CacheInvalidationType.GENERATION, null, null, userId);
+    }
+
+    public void publishDetailGeneration(long userId) {
+        publish(CacheInvalidationType.DETAILS, null, null, userId);
+    }
+
+    private void publish(CacheInvalidationType type, String cacheName, Object key, Long userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            send(type, cacheName, key, userId);
+            return;
+        }
+        // Other nodes must not reload the old rows before the write is visible to them
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                send(type, cacheName, key, userId);
+            }
+        });
+    }
+
+    private void send(CacheInvalidationType type, String cacheName, Object key, Long userId) {
+        CacheInvalidationMessage message = new CacheInvalidationMessage(nodeId, type, cacheName, key, userId,
+                LocalDateTime.now());
+        try {
+            transport.publish(message);
+            meterRegistry.counter("taskify.cache.invalidation.published", "type", type.name()).increment();
+        } catch (RuntimeException e) {
+            // The local eviction already happened; other nodes fall back to their TTLs
+            meterRegistry.counter("taskify.cache.invalidation.publish.failures").increment();
+            log.warn("Could not publish cache invalidation {} {}: {}", type, cacheName, e.getMessage());
+        }
+    }
+
+    void apply(CacheInvalidationMessage message) {
+        if (nodeId.equals(message.origin())) {
+            return;
+        }
+
+        switch (message.type()) {
+            case EVICT -> {
+                Cache cache = localCache(message.cacheName());
+                if (cache != null) {
+                    cache.evict(message.key());
+                }
+            }
+            case CLEAR -> {
+                Cache cache = localCache(message.cacheName());
+                if (cache != null) {
+                    cache.clear();
+                }
+            }
+            case GENERATION -> cacheGenerations.advance(message.userId());
+            case DETAILS -> cacheGenerations.advanceDetails(message.userId());
+        }
+
+        meterRegistry.counter("taskify.cache.invalidation.applied", "type", message.type().name()).increment();
+        Duration delay = Duration.between(message.publishedAt(), LocalDateTime.now());
+        if (!delay.isNegative()) {
+            deliveryDelay.record(delay);
+        }
+    }
+
+    private Cache localCache(String cacheName) {
+        Cache cache = cacheName != null ? cacheManager.getCache(cacheName) : null;
+        if (cache instanceof BroadcastingCache broadcasting) {
+            return broadcasting.getTargetCache();
+        }
+        return cache;
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown";
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.taskify.taskify.service;
+
+import com.taskify.taskify.repository.CacheInvalidationEventRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Trims the cache invalidation change log. Nodes only ever read the last few
+ * seconds of it, so anything past the retention window is dead weight.
+ */
+@Component
+@ConditionalOnProperty(name = "app.cache.invalidation.transport", havingValue = "jdbc", matchIfMissing = true)
+public class CacheInvalidationLogCleanupTask {
+
+    static final String LOCK_NAME = "cache-invalidation-log-cleanup";
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheInvalidationLogCleanupTask.class);
+    private static final Duration LOCK_LEASE = Duration.ofMinutes(5);
+
+    private final CacheInvalidationEventRepository repository;
+    private final SchedulerLockService lockService;
+    private final Duration retention;
+
+    public CacheInvalidationLogCleanupTask(CacheInvalidationEventRepository repository,
+            SchedulerLockService lockService,
+            @Value("${app.cache.invalidation.jdbc.retention-minutes:60}") long retentionMinutes) {
+        this.repository = repository;
+        this.lockService = lockService;
+        this.retention = Duration.ofMinutes(retentionMinutes);
+    }
+
+    @Scheduled(cron = "${app.cache.invalidation.jdbc.cleanup-cron:0 */10 * * * *}")
+    public void cleanup() {
+        if (!lockService.tryLock(LOCK_NAME, LOCK_LEASE)) {
+            return;
+        }
+        try {
+            int removed = repository.deleteCreatedBefore(LocalDateTime.now().minus(retention));
+            if (removed > 0) {
+                logger.info("Removed {} cache invalidation events", removed);
+            }
+        } finally {
+            lockService.unlock(LOCK_NAME);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.taskify.taskify.service;
+
+import com.taskify.taskify.dto.CacheInvalidationMessage;
+
+import java.util.function.Consumer;
+
+/**
+ * Delivers cache invalidations between nodes. Selected with
+ * {@code app.cache.invalidation.transport}: {@code jdbc} appends to a change-log
+ * table that every node polls, {@code loopback} hands messages straight to every
+ * subscriber in this JVM (tests and single-node runs).
+ */
+public interface CacheInvalidationTransport {
+
+    void publish(CacheInvalidationMessage message);
+
+    /**
+     * Registers the handler that receives every message on the bus, including
+     * the subscriber's own.
+     */
+    void subscribe(Consumer<CacheInvalidationMessage> handler);
+
+    /**
+     * Number of messages on the bus that have not been delivered to this node yet.
+     */
+    long lag();
+}
@@ -0,0 +1,163 @@
+package com.taskify.taskify.service;
+
+import com.taskify.taskify.model.DailyCheckInStats;
+import com.taskify.taskify.model.DailyIntent;
+import com.taskify.taskify.model.Status;
+import com.taskify.taskify.model.Task;
+import com.taskify.taskify.repository.DailyCheckInStatsRepository;
+import com.taskify.taskify.repository.DailyIntentRepository;
+import com.taskify.taskify.repository.TaskRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Builds {@link DailyCheckInStats} rows for check-ins saved before the stats
+ * table existed, so history and streaks cover them too. Runs at startup after the
+ * task id backfill; a user with any check-in lacking a stats row gets the missing
+ * days added and their streaks recomputed in date order, which also fixes the
+ * streaks of days already recorded since the deploy.
+ *
+ * <p>
+ * Planned and carried-over counts are exact. Completion times were never
+ * stored, so a past day counts the planned tasks that are still completed and
+ * were last modified by the end of that day.
+ */
+@Component
+@Order(2)
+public class CheckInStatsBackfill implements ApplicationRunner {
+
+    static final String LOCK_NAME = "check-in-stats-backfill";
+
+    private static final Logger logger = LoggerFactory.getLogger(CheckInStatsBackfill.class);
+    private static final Duration LOCK_LEASE = Duration.ofMinutes(10);
+    private static final int BATCH_SIZE = 100;
+
+    private final DailyIntentRepository dailyIntentRepository;
+    private final DailyCheckInStatsRepository statsRepository;
+    private final TaskRepository taskRepository;
+    private final SchedulerLockService lockService;
+    private final TransactionTemplate transaction;
+
+    public CheckInStatsBackfill(DailyIntentRepository dailyIntentRepository,
+            DailyCheckInStatsRepository statsRepository,
+            TaskRepository taskRepository,
+            SchedulerLockService lockService,
+            PlatformTransactionManager transactionManager) {
+        this.dailyIntentRepository = dailyIntentRepository;
+        this.statsRepository = statsRepository;
+        this.taskRepository = taskRepository;
+        this.lockService = lockService;
+        this.transaction = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        backfill();
+    }
+
+    /**
+     * Adds the missing stats rows; returns how many were created.
+     */
+    public int backfill() {
+        List<Long> userIds = dailyIntentRepository.findUserIdsMissingCheckInStats(0L, PageRequest.of(0, BATCH_SIZE));
+        if (userIds.isEmpty()) {
+            return 0;
+        }
+        if (!lockService.tryLock(LOCK_NAME, LOCK_LEASE)) {
+            logger.info("Check-in stats backfill is running on another node, skipping");
+            return 0;
+        }
+
+        try {
+            int total = 0;
+            while (!userIds.isEmpty()) {
+                for (Long userId : userIds) {
+                    total += backfillUser(userId);
+                }
+                userIds = dailyIntentRepository.findUserIdsMissingCheckInStats(userIds.get(userIds.size() - 1),
+                        PageRequest.of(0, BATCH_SIZE));
+            }
+            logger.info("Created {} check-in stats rows from earlier check-ins", total);
+            return total;
+        } finally {
+            lockService.unlock(LOCK_NAME);
+        }
+    }
+
+    private int backfillUser(Long userId) {
+        try {
+            Integer created = transaction.execute(status -> rebuildStats(userId));
+            return created != null ? created : 0;
+        } catch (DataIntegrityViolationException e) {
+            // The user checked in meanwhile; the next startup picks up what is left
+            logger.warn("Skipped check-in stats backfill for user {} after a concurrent check-in", userId);
+            return 0;
+        }
+    }
+
+    private int rebuildStats(Long userId) {
+        Map<LocalDate, DailyIntent> intents = dailyIntentRepository.findByUserIdOrderByDateAsc(userId).stream()
+                .filter(intent -> intent.getTaskIds() != null)
+                .collect(Collectors.toMap(DailyIntent::getDate, Function.identity(), (a, b) -> a, TreeMap::new));
+        Map<LocalDate, DailyCheckInStats> stats = statsRepository.findByUserIdOrderByDateAsc(userId).stream()
+                .collect(Collectors.toMap(DailyCheckInStats::getDate, Function.identity(), (a, b) -> a,
+                        TreeMap::new));
+
+        Set<Long> taskIds = intents.values().stream()
+                .flatMap(intent -> intent.getTaskIds().stream())
+                .collect(Collectors.toSet());
+        Map<Long, Task> tasks = taskRepository.findAllById(taskIds).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+
+        int created = 0;
+        for (DailyIntent intent : intents.values()) {
+            if (stats.containsKey(intent.getDate())) {
+                continue;
+            }
+            DailyIntent previousDay = intents.get(intent.getDate().minusDays(1));
+            List<Long> previousTaskIds = previousDay != null ? previousDay.getTaskIds() : Collections.emptyList();
+            LocalDateTime endOfDay = intent.getDate().plusDays(1).atStartOfDay();
+
+            DailyCheckInStats row = new DailyCheckInStats(userId, intent.getDate(), 1);
+            row.setPlannedTasks(intent.getTaskIds().size());
+            row.setCompletedTasks((int) intent.getTaskIds().stream()
+                    .map(tasks::get)
+                    .filter(task -> task != null && !task.isDeleted() && task.getStatus() == Status.COMPLETED
+                            && task.getLastModifiedAt() != null && task.getLastModifiedAt().isBefore(endOfDay))
+                    .count());
+            row.setCarriedOverTasks((int) intent.getTaskIds().stream()
+                    .filter(previousTaskIds::contains)
+                    .count());
+            stats.put(intent.getDate(), row);
+            created++;
+        }
+
+        DailyCheckInStats previous = null;
+        for (DailyCheckInStats row : stats.values()) {
+            boolean consecutive = previous != null && previous.getDate().equals(row.getDate().minusDays(1));
+            row.setStreak(consecutive ? previous.getStreak() + 1 : 1);
+            previous = row;
+        }
+        statsRepository.saveAll(stats.values());
+        return created;
+    }
+}
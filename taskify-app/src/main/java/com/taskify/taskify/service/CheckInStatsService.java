@@ -0,0 +1,32 @@
+package com.taskify.taskify.service;
+
+import com.taskify.taskify.dto.CheckInHistoryResponse;
+import com.taskify.taskify.model.Status;
+import com.taskify.taskify.model.Task;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+public interface CheckInStatsService {
+
+    /**
+     * Records the tasks planned for the user's check-in on the given day, given
+     * the task ids planned the day before (empty when there was no check-in).
+     */
+    void recordCheckIn(Long userId, LocalDate date, List<Task> plannedTasks, Collection<Long> previousDayTaskIds);
+
+    /**
+     * Counts a task entering or leaving {@link Status#COMPLETED} towards its
+     * owner's check-in for today, if the task was planned for it.
+     */
+    void recordStatusChange(Task task, Status previousStatus);
+
+    /**
+     * Takes a deleted task back out of its owner's completed count for today, if
+     * it was completed and planned for today's check-in.
+     */
+    void recordDeletion(Task task);
+
+    CheckInHistoryResponse getHistory(Long userId, LocalDate from, LocalDate to);
+}
@@ -1,10 +1,19 @@
 package com.taskify.taskify.service;
 
+import com.taskify.taskify.dto.CheckInHistoryResponse;
 import com.taskify.taskify.dto.DailyCheckInRequest;
 import com.taskify.taskify.dto.DailyCheckInResponse;
 
+import java.time.LocalDate;
+
 public interface DailyCheckInService {
     DailyCheckInResponse checkIn(DailyCheckInRequest request);
 
     DailyCheckInResponse getTodayCheckIn();
+
+    /**
+     * Per-day stats and streaks for the current user. Missing bounds default to
+     * the 30 days ending today.
+     */
+    CheckInHistoryResponse getHistory(LocalDate from, LocalDate to);
 }
@@ -0,0 +1,134 @@
+package com.taskify.taskify.service;
+
+import com.taskify.taskify.model.PackedLongListConverter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * One-time move of daily intent task ids from the old {@code daily_intent_tasks}
+ * join table into the packed {@code task_ids} column. Runs at startup while the
+ * join table still exists: intents whose column is still null get their rows
+ * packed in chunks, and the table is dropped once nothing is left to copy, so
+ * later startups only check for it.
+ *
+ * <p>
+ * Only null columns are written, so a check-in saved during the backfill keeps
+ * its newer ids. A lease in {@code scheduler_locks} keeps replicas that start
+ * together from copying the same rows.
+ */
+@Component
+@Order(1)
+public class DailyIntentTaskIdsBackfill implements ApplicationRunner {
+
+    static final String LOCK_NAME = "daily-intent-task-ids-backfill";
+    static final String LEGACY_TABLE = "daily_intent_tasks";
+
+    private static final Logger logger = LoggerFactory.getLogger(DailyIntentTaskIdsBackfill.class);
+    private static final Duration LOCK_LEASE = Duration.ofMinutes(10);
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final SchedulerLockService lockService;
+    private final PackedLongListConverter converter = new PackedLongListConverter();
+
+    public DailyIntentTaskIdsBackfill(JdbcTemplate jdbcTemplate, SchedulerLockService lockService) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.lockService = lockService;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        backfill();
+    }
+
+    /**
+     * Packs the remaining join rows and drops the join table; returns how many
+     * intents were filled in.
+     */
+    public int backfill() {
+        if (!legacyTableExists()) {
+            return 0;
+        }
+        if (!lockService.tryLock(LOCK_NAME, LOCK_LEASE)) {
+            logger.info("Daily intent task id backfill is running on another node, skipping");
+            return 0;
+        }
+
+        try {
+            int total = 0;
+            int packed;
+            do {
+                packed = packNextBatch();
+                total += packed;
+            } while (packed > 0);
+
+            jdbcTemplate.execute("DROP TABLE " + LEGACY_TABLE);
+            logger.info("Packed task ids of {} daily intents and dropped {}", total, LEGACY_TABLE);
+            return total;
+        } finally {
+            lockService.unlock(LOCK_NAME);
+        }
+    }
+
+    private int packNextBatch() {
+        List<Long> intentIds = jdbcTemplate.queryForList(
+                "SELECT DISTINCT t.daily_intent_id FROM " + LEGACY_TABLE + " t "
+                        + "JOIN daily_intents d ON d.id = t.daily_intent_id "
+                        + "WHERE d.task_ids IS NULL ORDER BY t.daily_intent_id LIMIT ?",
+                Long.class, BATCH_SIZE);
+        if (intentIds.isEmpty()) {
+            return 0;
+        }
+
+        // The join table had no order column; ids keep the order they are read in
+        Map<Long, List<Long>> taskIds = new LinkedHashMap<>();
+        intentIds.forEach(id -> taskIds.put(id, new ArrayList<>()));
+        namedJdbcTemplate.query(
+                "SELECT daily_intent_id, task_id FROM " + LEGACY_TABLE + " WHERE daily_intent_id IN (:ids)",
+                new MapSqlParameterSource("ids", intentIds),
+                row -> {
+                    taskIds.get(row.getLong("daily_intent_id")).add(row.getLong("task_id"));
+                });
+
+        List<Object[]> updates = new ArrayList<>(taskIds.size());
+        taskIds.forEach((intentId, ids) -> updates.add(new Object[] { converter.convertToDatabaseColumn(ids),
+                intentId }));
+        jdbcTemplate.batchUpdate("UPDATE daily_intents SET task_ids = ? WHERE id = ? AND task_ids IS NULL", updates);
+        return intentIds.size();
+    }
+
+    private boolean legacyTableExists() {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            // MySQL keeps the name as created; H2 upper-cases unquoted identifiers
+            for (String name : List.of(LEGACY_TABLE, LEGACY_TABLE.toUpperCase(Locale.ROOT))) {
+                try (ResultSet tables = metaData.getTables(connection.getCatalog(), null, name,
+                        new String[] { "TABLE" })) {
+                    if (tables.next()) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }));
+    }
+}
@@ -0,0 +1,18 @@
+package com.taskify.taskify.service;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Precomputes a user's first-screen reads (today's check-in, focus tasks, intent
+ * overview and the first task list page) into their caches right after they sign
+ * in, so the dashboard's first requests are cache hits.
+ */
+public interface DashboardWarmupService {
+
+    /**
+     * Queues a warm-up for the user and returns immediately. The future completes
+     * when the warm-up has run or was skipped (disabled, already queued, queue full
+     * or the system under load); it never completes exceptionally.
+     */
+    CompletableFuture<Void> warmUp(String username);
+}
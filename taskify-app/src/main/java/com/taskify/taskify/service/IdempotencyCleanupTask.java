@@ -0,0 +1,91 @@
+package com.taskify.taskify.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Continuously drains expired idempotency keys in small chunks, pausing between
+ * them so the table is never locked for long. A lease in {@code scheduler_locks}
+ * keeps the work on a single replica.
+ */
+@Component
+@ConditionalOnProperty(name = "app.idempotency.expiry.enabled", havingValue = "true", matchIfMissing = true)
+public class IdempotencyCleanupTask {
+
+    static final String LOCK_NAME = "idempotency-expiry";
+
+    private static final Logger logger = LoggerFactory.getLogger(IdempotencyCleanupTask.class);
+    private final IdempotencyService idempotencyService;
+    private final SchedulerLockService lockService;
+    private final int batchSize;
+    private final long pauseMillis;
+    private final Duration lockLease;
+    private final Counter deletedCounter;
+    private final Timer chunkTimer;
+
+    public IdempotencyCleanupTask(IdempotencyService idempotencyService, SchedulerLockService lockService,
+            MeterRegistry meterRegistry,
+            @Value("${app.idempotency.expiry.batch-size:500}") int batchSize,
+            @Value("${app.idempotency.expiry.pause-ms:100}") long pauseMillis,
+            @Value("${app.idempotency.expiry.lock-lease-seconds:300}") long lockLeaseSeconds) {
+        this.idempotencyService = idempotencyService;
+        this.lockService = lockService;
+        this.batchSize = batchSize;
+        this.pauseMillis = pauseMillis;
+        this.lockLease = Duration.ofSeconds(lockLeaseSeconds);
+        this.deletedCounter = meterRegistry.counter("taskify.idempotency.expired.deleted");
+        this.chunkTimer = meterRegistry.timer("taskify.idempotency.expiry.chunk");
+    }
+
+    @Scheduled(fixedDelayString = "${app.idempotency.expiry.interval-ms:60000}",
+            initialDelayString = "${app.idempotency.expiry.interval-ms:60000}")
+    public void cleanup() {
+        if (!lockService.tryLock(LOCK_NAME, lockLease)) {
+            logger.debug("Idempotency expiry is running on another node, skipping");
+            return;
+        }
+
+        try {
+            int removed = drainExpiredKeys();
+            if (removed > 0) {
+                logger.info("Removed {} expired idempotency keys", removed);
+            }
+        } finally {
+            lockService.unlock(LOCK_NAME);
+        }
+    }
+
+    private int drainExpiredKeys() {
+        // Stop well inside the lease so another node cannot take over mid-run
+        long runDeadline = System.nanoTime() + lockLease.toNanos() / 2;
+        int total = 0;
+
+        while (true) {
+            Timer.Sample sample = Timer.start();
+            int removed = idempotencyService.deleteExpiredKeys(batchSize);
+            sample.stop(chunkTimer);
+            deletedCounter.increment(removed);
+            total += removed;
+
+            if (removed < batchSize || System.nanoTime() >= runDeadline) {
+                return total;
+            }
+
+            try {
+                Thread.sleep(pauseMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return total;
+            }
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.taskify.taskify.service;
+
+import com.taskify.taskify.dto.IdempotentResponse;
+import org.springframework.http.HttpHeaders;
+
+import java.util.Optional;
+
+public interface IdempotencyService {
+
+    /**
+     * Claims the key for this request. An empty result means the caller owns the
+     * reservation and must finish it with {@link #complete} or {@link #release};
+     * otherwise the stored response of the original request is returned, waiting
+     * for it first if that request is still in flight.
+     */
+    Optional<IdempotentResponse> reserve(String key, Long userId, String endpoint, String requestHash);
+
+    void complete(String key, Long userId, String endpoint, String requestHash, int status, HttpHeaders headers,
+            byte[] compressedBody);
+
+    void release(String key, Long userId);
+
+    /**
+     * Deletes up to {@code batchSize} expired keys in one short transaction and
+     * returns how many were removed.
+     */
+    int deleteExpiredKeys(int batchSize);
+}
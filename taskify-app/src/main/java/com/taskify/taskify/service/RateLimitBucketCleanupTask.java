@@ -0,0 +1,91 @@
+package com.taskify.taskify.service;
+
+import com.taskify.taskify.service.impl.JdbcRateLimitBucketStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Drains expired rows from the shared {@code rate_limit_buckets} table in small
+ * chunks. Every replica schedules it, but a lease in {@code scheduler_locks} lets
+ * only one of them run the deletes.
+ */
+@Component
+@ConditionalOnProperty(name = "rate.limit.store", havingValue = "jdbc")
+public class RateLimitBucketCleanupTask {
+
+    static final String LOCK_NAME = "rate-limit-bucket-cleanup";
+
+    private static final Logger logger = LoggerFactory.getLogger(RateLimitBucketCleanupTask.class);
+    private final JdbcRateLimitBucketStore bucketStore;
+    private final SchedulerLockService lockService;
+    private final int batchSize;
+    private final long pauseMillis;
+    private final Duration lockLease;
+    private final Counter deletedCounter;
+    private final Timer chunkTimer;
+
+    public RateLimitBucketCleanupTask(JdbcRateLimitBucketStore bucketStore, SchedulerLockService lockService,
+            MeterRegistry meterRegistry,
+            @Value("${rate.limit.jdbc.cleanup.batch-size:500}") int batchSize,
+            @Value("${rate.limit.jdbc.cleanup.pause-ms:100}") long pauseMillis,
+            @Value("${rate.limit.jdbc.cleanup.lock-lease-seconds:300}") long lockLeaseSeconds) {
+        this.bucketStore = bucketStore;
+        this.lockService = lockService;
+        this.batchSize = batchSize;
+        this.pauseMillis = pauseMillis;
+        this.lockLease = Duration.ofSeconds(lockLeaseSeconds);
+        this.deletedCounter = meterRegistry.counter("taskify.rate_limit.expired.deleted");
+        this.chunkTimer = meterRegistry.timer("taskify.rate_limit.cleanup.chunk");
+    }
+
+    @Scheduled(cron = "${rate.limit.jdbc.cleanup-cron:0 */15 * * * *}") // Default: every 15 minutes
+    public void cleanup() {
+        if (!lockService.tryLock(LOCK_NAME, lockLease)) {
+            logger.debug("Rate limit bucket cleanup is running on another node, skipping");
+            return;
+        }
+
+        try {
+            int removed = drainExpiredBuckets();
+            if (removed > 0) {
+                logger.info("Removed {} expired rate limit buckets", removed);
+            }
+        } finally {
+            lockService.unlock(LOCK_NAME);
+        }
+    }
+
+    private int drainExpiredBuckets() {
+        // Stop well inside the lease so another node cannot take over mid-run
+        long runDeadline = System.nanoTime() + lockLease.toNanos() / 2;
+        int total = 0;
+
+        while (true) {
+            Timer.Sample sample = Timer.start();
+            int removed = bucketStore.deleteExpiredBuckets(batchSize);
+            sample.stop(chunkTimer);
+            deletedCounter.increment(removed);
+            total += removed;
+
+            if (removed < batchSize || System.nanoTime() >= runDeadline) {
+                return total;
+            }
+
+            try {
+                Thread.sleep(pauseMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return total;
+            }
+        }
+    }
+}
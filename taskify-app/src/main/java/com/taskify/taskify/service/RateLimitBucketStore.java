@@ -0,0 +1,18 @@
+package com.taskify.taskify.service;
+
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.BucketConfiguration;
+
+import java.util.function.Supplier;
+
+/**
+ * Backend holding rate-limit buckets. Selected with {@code rate.limit.store}:
+ * {@code local} keeps buckets in this JVM, {@code jdbc} shares them across
+ * replicas through the application database.
+ */
+public interface RateLimitBucketStore {
+
+    Bucket resolve(String key, Supplier<BucketConfiguration> configuration);
+
+    void clear();
+}
@@ -0,0 +1,79 @@
+package com.taskify.taskify.service;
+
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.BucketConfiguration;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves named rate-limit buckets per caller. Each bucket name maps to the
+ * {@code rate.limit.<name>.capacity}, {@code .refill.tokens} and
+ * {@code .refill.seconds} properties, so a new bucket for a route policy only
+ * needs configuration.
+ */
+@Service
+public class RateLimitService {
+
+    public static final String PRE_AUTH_BUCKET = "preauth";
+
+    private final RateLimitBucketStore bucketStore;
+    private final Environment environment;
+    private final Map<String, BucketConfiguration> configurations = new ConcurrentHashMap<>();
+
+    public RateLimitService(RateLimitBucketStore bucketStore, Environment environment) {
+        this.bucketStore = bucketStore;
+        this.environment = environment;
+    }
+
+    public Bucket resolveBucket(String key, String bucketName) {
+        // Each named bucket is tracked separately even for the same caller
+        BucketConfiguration configuration = configurationFor(bucketName);
+        return bucketStore.resolve(bucketName + ":" + key, () -> configuration);
+    }
+
+    /**
+     * Coarse per-IP bucket checked before the bearer token is parsed, so floods are
+     * rejected without signature verification or a user lookup.
+     */
+    public Bucket resolvePreAuthBucket(String clientIp) {
+        return resolveBucket("ip:" + clientIp, PRE_AUTH_BUCKET);
+    }
+
+    /**
+     * Checks that a route policy refers to a configured bucket and that its cost
+     * can ever be satisfied.
+     */
+    public void validatePolicy(String bucketName, int cost) {
+        long capacity = configurationFor(bucketName).getBandwidths()[0].getCapacity();
+        if (cost > capacity) {
+            throw new IllegalStateException("Rate limit cost " + cost + " exceeds capacity " + capacity
+                    + " of bucket '" + bucketName + "'");
+        }
+    }
+
+    public void clearBuckets() {
+        bucketStore.clear();
+    }
+
+    private BucketConfiguration configurationFor(String bucketName) {
+        return configurations.computeIfAbsent(bucketName, name -> createConfiguration(
+                environment.getRequiredProperty("rate.limit." + name + ".capacity", Integer.class),
+                environment.getRequiredProperty("rate.limit." + name + ".refill.tokens", Integer.class),
+                environment.getRequiredProperty("rate.limit." + name + ".refill.seconds", Integer.class)));
+    }
+
+    private static BucketConfiguration createConfiguration(int capacity, int refillTokens, int refillSeconds) {
+        Bandwidth limit = Bandwidth.builder()
+                .capacity(capacity)
+                .refillIntervally(refillTokens, Duration.ofSeconds(refillSeconds))
+                .build();
+        return BucketConfiguration.builder()
+                .addLimit(limit)
+                .build();
+    }
+}
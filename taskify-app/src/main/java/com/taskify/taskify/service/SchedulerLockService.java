@@ -0,0 +1,14 @@
+package com.taskify.taskify.service;
+
+import java.time.Duration;
+
+public interface SchedulerLockService {
+
+    /**
+     * Tries to take the named lease for this node. Returns {@code false} when
+     * another node holds an unexpired lease.
+     */
+    boolean tryLock(String name, Duration lease);
+
+    void unlock(String name);
+}
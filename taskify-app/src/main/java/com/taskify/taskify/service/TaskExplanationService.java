@@ -13,6 +13,12 @@ public interface TaskExplanationService {
      */
     String generateFocusExplanation(Task task, LocalDateTime now);
 
+    /**
+     * Same as {@link #generateFocusExplanation(Task, LocalDateTime)}, from the due
+     * date alone, so cached selections can be explained at read time.
+     */
+    String generateFocusExplanation(LocalDateTime dueDate, LocalDateTime now);
+
     /**
      * Generates an explanation for why a task is flagged as stagnant.
      */
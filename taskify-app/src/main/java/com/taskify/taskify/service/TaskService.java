@@ -23,6 +23,12 @@ public interface TaskService {
 
     List<TaskResponse> getFocusTasks();
 
+    /**
+     * The caller's focus selection, for views that suggest it without the user
+     * entering Focus Mode; no usage is recorded.
+     */
+    List<TaskResponse> suggestFocusTasks();
+
     Page<TaskResponse> getAllTasks(
             Status status,
             Priority priority,
@@ -35,6 +41,12 @@ public interface TaskService {
             boolean includeDeleted,
             Pageable pageable);
 
+    /**
+     * Opaque version of the current user's task lists. It changes whenever any
+     * task the user can list changes, so it can back list ETags.
+     */
+    String getTaskListVersion();
+
     List<TaskResponse> getStagnantTasks();
 
     TaskReviewResponse getWeeklyReview();
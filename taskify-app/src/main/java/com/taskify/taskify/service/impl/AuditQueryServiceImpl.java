@@ -0,0 +1,153 @@
+package com.taskify.taskify.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskify.taskify.dto.AuditLogFilter;
+import com.taskify.taskify.dto.AuditLogPageResponse;
+import com.taskify.taskify.dto.AuditLogResponse;
+import com.taskify.taskify.model.AuditLog;
+import com.taskify.taskify.repository.AuditLogRepository;
+import com.taskify.taskify.repository.AuditLogSpecification;
+import com.taskify.taskify.service.AuditQueryService;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+public class AuditQueryServiceImpl implements AuditQueryService {
+
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Order.desc("timestamp"), Sort.Order.desc("id"));
+    private static final byte[] NEWLINE = { '\n' };
+
+    private final AuditLogRepository auditLogRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final int maxLimit;
+    private final int streamBatchSize;
+
+    public AuditQueryServiceImpl(AuditLogRepository auditLogRepository, EntityManager entityManager,
+            ObjectMapper objectMapper,
+            @Value("${app.audit.query.max-limit:500}") int maxLimit,
+            @Value("${app.audit.stream.batch-size:500}") int streamBatchSize) {
+        this.auditLogRepository = auditLogRepository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.maxLimit = maxLimit;
+        this.streamBatchSize = streamBatchSize;
+    }
+
+    @Override
+    public AuditLogPageResponse findLogs(AuditLogFilter filter, String cursor, int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("limit must be at least 1");
+        }
+        int pageSize = Math.min(limit, maxLimit);
+
+        LocalDateTime cursorTimestamp = null;
+        Long cursorId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] position = decodeCursor(cursor);
+            cursorTimestamp = LocalDateTime.parse(position[0]);
+            cursorId = Long.valueOf(position[1]);
+        }
+
+        // Fetch one extra row to learn whether another page exists without a COUNT
+        List<AuditLog> rows = fetchBatch(filter, cursorTimestamp, cursorId, pageSize + 1);
+        boolean hasMore = rows.size() > pageSize;
+        List<AuditLog> page = hasMore ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = null;
+        if (hasMore) {
+            AuditLog last = page.get(page.size() - 1);
+            nextCursor = encodeCursor(last.getTimestamp(), last.getId());
+        }
+
+        return new AuditLogPageResponse(
+                page.stream().map(this::mapToResponse).collect(Collectors.toList()),
+                nextCursor);
+    }
+
+    @Override
+    public void streamLogs(AuditLogFilter filter, OutputStream out) throws IOException {
+        LocalDateTime cursorTimestamp = null;
+        Long cursorId = null;
+
+        while (true) {
+            List<AuditLog> batch = fetchBatch(filter, cursorTimestamp, cursorId, streamBatchSize);
+            for (AuditLog auditLog : batch) {
+                out.write(objectMapper.writeValueAsBytes(mapToResponse(auditLog)));
+                out.write(NEWLINE);
+            }
+            out.flush();
+
+            if (batch.size() < streamBatchSize) {
+                return;
+            }
+
+            AuditLog last = batch.get(batch.size() - 1);
+            cursorTimestamp = last.getTimestamp();
+            cursorId = last.getId();
+
+            // The request-scoped persistence context would otherwise keep every
+            // streamed entity reachable until the response completes.
+            entityManager.clear();
+        }
+    }
+
+    private List<AuditLog> fetchBatch(AuditLogFilter filter, LocalDateTime cursorTimestamp, Long cursorId,
+            int size) {
+        Specification<AuditLog> spec = Specification.allOf(
+                AuditLogSpecification.withActor(filter.actorUserId()),
+                AuditLogSpecification.withAction(filter.action()),
+                AuditLogSpecification.withTargetType(filter.targetType()),
+                AuditLogSpecification.withTargetId(filter.targetId()),
+                AuditLogSpecification.withTimestampBetween(filter.from(), filter.to()),
+                AuditLogSpecification.before(cursorTimestamp, cursorId));
+
+        return auditLogRepository.findBy(spec, query -> query.sortBy(NEWEST_FIRST).limit(size).all());
+    }
+
+    private String encodeCursor(LocalDateTime timestamp, Long id) {
+        String raw = timestamp + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String[] decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid cursor: " + cursor);
+            }
+            // Validate both halves eagerly so a tampered cursor surfaces as a 400
+            LocalDateTime.parse(parts[0]);
+            Long.parseLong(parts[1]);
+            return parts;
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+    }
+
+    private AuditLogResponse mapToResponse(AuditLog auditLog) {
+        return new AuditLogResponse(
+                auditLog.getId(),
+                auditLog.getActorUserId(),
+                auditLog.getActorRole(),
+                auditLog.getAction(),
+                auditLog.getTargetType(),
+                auditLog.getTargetId(),
+                auditLog.getTimestamp(),
+                auditLog.getIpAddress(),
+                auditLog.getMetadata());
+    }
+}
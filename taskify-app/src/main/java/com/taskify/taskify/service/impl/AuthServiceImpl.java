@@ -12,6 +12,7 @@ import com.taskify.taskify.repository.UserRepository;
 import com.taskify.taskify.security.JwtService;
 import com.taskify.taskify.security.SecurityConstants;
 import com.taskify.taskify.service.AuthService;
+import com.taskify.taskify.service.DashboardWarmupService;
 import com.taskify.taskify.service.RefreshTokenService;
 import com.taskify.taskify.service.AuditService;
 import com.taskify.taskify.model.AuditAction;
@@ -38,6 +39,7 @@ public class AuthServiceImpl implements AuthService {
     private final JwtService jwtService;
     private final RefreshTokenService refreshTokenService;
     private final AuditService auditService;
+    private final DashboardWarmupService dashboardWarmupService;
 
     public AuthServiceImpl(UserRepository userRepository,
             RoleRepository roleRepository,
@@ -45,7 +47,8 @@ public class AuthServiceImpl implements AuthService {
             AuthenticationManager authenticationManager,
             JwtService jwtService,
             RefreshTokenService refreshTokenService,
-            AuditService auditService) {
+            AuditService auditService,
+            DashboardWarmupService dashboardWarmupService) {
 
         this.userRepository = userRepository;
         this.roleRepository = roleRepository;
@@ -54,6 +57,7 @@ public class AuthServiceImpl implements AuthService {
         this.jwtService = jwtService;
         this.refreshTokenService = refreshTokenService;
         this.auditService = auditService;
+        this.dashboardWarmupService = dashboardWarmupService;
     }
 
     @Override
@@ -101,6 +105,9 @@ public class AuthServiceImpl implements AuthService {
 
         auditService.logEvent(AuditAction.LOGIN_SUCCESS, AuditTargetType.AUTH, null, userDetails.getUsername(), null);
 
+        // 5. Start filling the dashboard caches while the client stores its tokens
+        dashboardWarmupService.warmUp(userDetails.getUsername());
+
         return new AuthResponse(token, refreshToken.getToken());
     }
 
@@ -123,6 +130,8 @@ public class AuthServiceImpl implements AuthService {
                     auditService.logEvent(AuditAction.TOKEN_REFRESH, AuditTargetType.AUTH, null, user.getUsername(),
                             null);
 
+                    dashboardWarmupService.warmUp(user.getUsername());
+
                     return new AuthResponse(token, refreshToken.getToken());
                 })
                 .orElseThrow(() -> new TokenException("Refresh token is not in database!"));
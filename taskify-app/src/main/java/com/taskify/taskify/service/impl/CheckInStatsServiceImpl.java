@@ -0,0 +1,119 @@
+package com.taskify.taskify.service.impl;
+
+import com.taskify.taskify.dto.CheckInHistoryResponse;
+import com.taskify.taskify.model.DailyCheckInStats;
+import com.taskify.taskify.model.DailyIntent;
+import com.taskify.taskify.model.Status;
+import com.taskify.taskify.model.Task;
+import com.taskify.taskify.repository.DailyCheckInStatsRepository;
+import com.taskify.taskify.repository.DailyIntentRepository;
+import com.taskify.taskify.service.CheckInStatsService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps {@link DailyCheckInStats} current as check-ins and completions happen.
+ * A completion counts towards today's check-in only: once a day has passed its
+ * row no longer changes, so history is a plain range read.
+ */
+@Service
+public class CheckInStatsServiceImpl implements CheckInStatsService {
+
+    private final DailyCheckInStatsRepository statsRepository;
+    private final DailyIntentRepository dailyIntentRepository;
+
+    public CheckInStatsServiceImpl(DailyCheckInStatsRepository statsRepository,
+            DailyIntentRepository dailyIntentRepository) {
+        this.statsRepository = statsRepository;
+        this.dailyIntentRepository = dailyIntentRepository;
+    }
+
+    @Override
+    @Transactional
+    public void recordCheckIn(Long userId, LocalDate date, List<Task> plannedTasks,
+            Collection<Long> previousDayTaskIds) {
+        DailyCheckInStats stats = statsRepository.findByUserIdAndDate(userId, date)
+                .orElseGet(() -> new DailyCheckInStats(userId, date, statsRepository
+                        .findByUserIdAndDate(userId, date.minusDays(1))
+                        .map(previous -> previous.getStreak() + 1)
+                        .orElse(1)));
+
+        stats.setPlannedTasks(plannedTasks.size());
+        stats.setCompletedTasks((int) plannedTasks.stream()
+                .filter(task -> task.getStatus() == Status.COMPLETED)
+                .count());
+        stats.setCarriedOverTasks((int) plannedTasks.stream()
+                .filter(task -> previousDayTaskIds.contains(task.getId()))
+                .count());
+        statsRepository.save(stats);
+    }
+
+    @Override
+    @Transactional
+    public void recordStatusChange(Task task, Status previousStatus) {
+        boolean wasCompleted = previousStatus == Status.COMPLETED;
+        boolean isCompleted = task.getStatus() == Status.COMPLETED;
+        if (wasCompleted == isCompleted) {
+            return;
+        }
+
+        adjustIfPlannedToday(task, isCompleted ? 1 : -1);
+    }
+
+    @Override
+    @Transactional
+    public void recordDeletion(Task task) {
+        if (task.getStatus() == Status.COMPLETED) {
+            adjustIfPlannedToday(task, -1);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CheckInHistoryResponse getHistory(Long userId, LocalDate from, LocalDate to) {
+        List<CheckInHistoryResponse.DayStats> days = statsRepository
+                .findByUserIdAndDateBetweenOrderByDateAsc(userId, from, to).stream()
+                .map(stats -> new CheckInHistoryResponse.DayStats(
+                        stats.getDate(),
+                        stats.getPlannedTasks(),
+                        stats.getCompletedTasks(),
+                        stats.getCarriedOverTasks(),
+                        stats.getPlannedTasks() > 0
+                                ? (double) stats.getCarriedOverTasks() / stats.getPlannedTasks()
+                                : 0.0))
+                .collect(Collectors.toList());
+
+        return new CheckInHistoryResponse(from, to, currentStreak(userId), statsRepository.findLongestStreak(userId),
+                days);
+    }
+
+    private void adjustIfPlannedToday(Task task, int delta) {
+        Long ownerId = task.getOwner().getId();
+        LocalDate today = LocalDate.now();
+        boolean planned = dailyIntentRepository.findByUserIdAndDate(ownerId, today)
+                .map(DailyIntent::getTaskIds)
+                .filter(taskIds -> taskIds.contains(task.getId()))
+                .isPresent();
+        if (planned) {
+            statsRepository.adjustCompletedTasks(ownerId, today, delta);
+        }
+    }
+
+    private int currentStreak(Long userId) {
+        LocalDate today = LocalDate.now();
+        Map<LocalDate, DailyCheckInStats> recent = statsRepository
+                .findByUserIdAndDateIn(userId, List.of(today, today.minusDays(1))).stream()
+                .collect(Collectors.toMap(DailyCheckInStats::getDate, Function.identity()));
+
+        // A streak is still alive until the end of a day without a check-in
+        DailyCheckInStats latest = recent.getOrDefault(today, recent.get(today.minusDays(1)));
+        return latest != null ? latest.getStreak() : 0;
+    }
+}
@@ -0,0 +1,267 @@
+package com.taskify.taskify.service.impl;
+
+import com.taskify.taskify.config.CacheDependencyRegistry;
+import com.taskify.taskify.config.CacheInput;
+import com.taskify.taskify.dto.CheckInHistoryResponse;
+import com.taskify.taskify.dto.DailyCheckInRequest;
+import com.taskify.taskify.dto.DailyCheckInResponse;
+import com.taskify.taskify.dto.TaskResponse;
+import com.taskify.taskify.model.*;
+import com.taskify.taskify.repository.DailyIntentRepository;
+import com.taskify.taskify.repository.TaskRepository;
+import com.taskify.taskify.repository.UserRepository;
+import com.taskify.taskify.service.AuditService;
+import com.taskify.taskify.service.CheckInStatsService;
+import com.taskify.taskify.service.DailyCheckInService;
+import com.taskify.taskify.service.TaskService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+public class DailyCheckInServiceImpl implements DailyCheckInService {
+
+    private static final Logger log = LoggerFactory.getLogger(DailyCheckInServiceImpl.class);
+    private static final int DEFAULT_HISTORY_DAYS = 30;
+    private static final int MAX_HISTORY_DAYS = 366;
+
+    private final DailyIntentRepository dailyIntentRepository;
+    private final TaskRepository taskRepository;
+    private final UserRepository userRepository;
+    private final TaskService taskService;
+    private final AuditService auditService;
+    private final MeterRegistry meterRegistry;
+    private final CacheDependencyRegistry cacheDependencies;
+    private final CheckInStatsService checkInStats;
+    private final TransactionTemplate transaction;
+
+    public DailyCheckInServiceImpl(DailyIntentRepository dailyIntentRepository,
+            TaskRepository taskRepository,
+            UserRepository userRepository,
+            TaskService taskService,
+            AuditService auditService,
+            MeterRegistry meterRegistry,
+            CacheDependencyRegistry cacheDependencies,
+            CheckInStatsService checkInStats,
+            PlatformTransactionManager transactionManager) {
+        this.dailyIntentRepository = dailyIntentRepository;
+        this.taskRepository = taskRepository;
+        this.userRepository = userRepository;
+        this.taskService = taskService;
+        this.auditService = auditService;
+        this.meterRegistry = meterRegistry;
+        this.cacheDependencies = cacheDependencies;
+        this.checkInStats = checkInStats;
+        this.transaction = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * The first check-in of a day inserts the intent and stats rows. When two
+     * arrive together the later insert hits the unique (user, date) constraint, so
+     * the check-in is retried once in a new transaction, where it finds the rows
+     * the other one committed and updates them.
+     */
+    @Override
+    public DailyCheckInResponse checkIn(DailyCheckInRequest request) {
+        try {
+            return transaction.execute(status -> writeCheckIn(request));
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Concurrent first check-in of the day, retrying as an update");
+            return transaction.execute(status -> writeCheckIn(request));
+        }
+    }
+
+    private DailyCheckInResponse writeCheckIn(DailyCheckInRequest request) {
+        User currentUser = getCurrentUser();
+        LocalDate today = LocalDate.now();
+
+        List<Long> taskIds = request.getTaskIds();
+        if (taskIds == null) {
+            throw new IllegalArgumentException("Task IDs cannot be null");
+        }
+
+        // The chosen tasks and yesterday's are loaded together; the view below needs both
+        Map<LocalDate, DailyIntent> intents = loadIntents(currentUser.getId(), today);
+        DailyIntent yesterdayIntent = intents.get(today.minusDays(1));
+        Map<Long, Task> tasks = loadTasks(taskIds, yesterdayIntent);
+
+        // Validate task IDs existence and ownership
+        if (taskIds.stream().distinct().filter(tasks::containsKey).count() != taskIds.size()) {
+            throw new IllegalArgumentException("One or more invalid task IDs provided");
+        }
+        for (Long taskId : taskIds) {
+            Task task = tasks.get(taskId);
+            if (!task.getOwner().getId().equals(currentUser.getId())) {
+                throw new AccessDeniedException("You do not own task ID: " + task.getId());
+            }
+        }
+
+        DailyIntent intent = intents.get(today);
+        AuditAction action;
+
+        if (intent != null) {
+            intent.setTaskIds(taskIds);
+            intent.setNote(request.getNote());
+            action = AuditAction.DAILY_CHECK_IN_UPDATE;
+        } else {
+            intent = new DailyIntent();
+            intent.setUserId(currentUser.getId());
+            intent.setDate(today);
+            intent.setTaskIds(taskIds);
+            intent.setNote(request.getNote());
+            action = AuditAction.DAILY_CHECK_IN_CREATE;
+        }
+
+        DailyIntent saved = dailyIntentRepository.save(intent);
+        checkInStats.recordCheckIn(currentUser.getId(), today,
+                taskIds.stream().map(tasks::get).collect(Collectors.toList()),
+                yesterdayIntent != null ? yesterdayIntent.getTaskIds() : Collections.emptyList());
+        auditService.logEvent(action, AuditTargetType.TASK, String.valueOf(saved.getId()), null);
+        meterRegistry.counter("taskify.daily.checkins").increment();
+        cacheDependencies.invalidate(CacheInput.CHECK_INS, currentUser.getUsername());
+
+        log.debug("User {} checked in for {}. Intent ID: {}", currentUser.getUsername(), today, saved.getId());
+
+        return composeView(currentUser, today, saved, yesterdayIntent, tasks);
+    }
+
+    /**
+     * Both days' intents (task ids included) come from one query and all of their
+     * tasks from another; focus suggestions use the side-effect-free query, so
+     * reading the view records no focus mode usage.
+     */
+    @Override
+    @Cacheable(value = "dailyCheckIn", sync = true, key = "@cacheDependencies.currentUserKey('dailyCheckIn')")
+    public DailyCheckInResponse getTodayCheckIn() {
+        User currentUser = getCurrentUser();
+        LocalDate today = LocalDate.now();
+
+        Map<LocalDate, DailyIntent> intents = loadIntents(currentUser.getId(), today);
+        DailyIntent todayIntent = intents.get(today);
+        DailyIntent yesterdayIntent = intents.get(today.minusDays(1));
+        Map<Long, Task> tasks = loadTasks(todayIntent != null ? todayIntent.getTaskIds() : null, yesterdayIntent);
+
+        return composeView(currentUser, today, todayIntent, yesterdayIntent, tasks);
+    }
+
+    @Override
+    public CheckInHistoryResponse getHistory(LocalDate from, LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(DEFAULT_HISTORY_DAYS - 1);
+        if (start.isAfter(end)) {
+            throw new IllegalArgumentException("'from' must not be after 'to'");
+        }
+        if (start.plusDays(MAX_HISTORY_DAYS).isBefore(end.plusDays(1))) {
+            throw new IllegalArgumentException("History range cannot exceed " + MAX_HISTORY_DAYS + " days");
+        }
+        return checkInStats.getHistory(getCurrentUser().getId(), start, end);
+    }
+
+    private DailyCheckInResponse composeView(User currentUser, LocalDate today, DailyIntent todayIntent,
+            DailyIntent yesterdayIntent, Map<Long, Task> tasks) {
+        List<TaskResponse> todayTasks = todayIntent != null
+                ? mapToResponses(todayIntent.getTaskIds(), tasks)
+                : Collections.emptyList();
+
+        List<TaskResponse> carryoverTasks = yesterdayIntent != null
+                ? filterCarryover(yesterdayIntent.getTaskIds(), tasks, currentUser.getId())
+                : Collections.emptyList();
+
+        if (!carryoverTasks.isEmpty()) {
+            meterRegistry.counter("taskify.daily.carryovers").increment();
+            log.debug("User {} carried over {} tasks from yesterday.", currentUser.getUsername(),
+                    carryoverTasks.size());
+        }
+
+        List<TaskResponse> suggestedTasks = taskService.suggestFocusTasks();
+
+        return new DailyCheckInResponse(
+                today,
+                todayIntent != null ? todayIntent.getNote() : null,
+                todayTasks,
+                carryoverTasks,
+                suggestedTasks);
+    }
+
+    private Map<LocalDate, DailyIntent> loadIntents(Long userId, LocalDate today) {
+        return dailyIntentRepository.findByUserIdAndDateIn(userId, List.of(today, today.minusDays(1)))
+                .stream()
+                .collect(Collectors.toMap(DailyIntent::getDate, Function.identity()));
+    }
+
+    private Map<Long, Task> loadTasks(List<Long> todayTaskIds, DailyIntent yesterdayIntent) {
+        Set<Long> ids = new HashSet<>();
+        if (todayTaskIds != null) {
+            ids.addAll(todayTaskIds);
+        }
+        if (yesterdayIntent != null && yesterdayIntent.getTaskIds() != null) {
+            ids.addAll(yesterdayIntent.getTaskIds());
+        }
+        if (ids.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return taskRepository.findWithIntentBucketByIdIn(ids).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+    }
+
+    private List<TaskResponse> mapToResponses(List<Long> taskIds, Map<Long, Task> tasks) {
+        if (taskIds == null)
+            return Collections.emptyList();
+        return taskIds.stream()
+                .map(tasks::get)
+                .filter(Objects::nonNull)
+                .filter(task -> !task.isDeleted()) // Extra safety
+                .map(this::mapToResponse)
+                .collect(Collectors.toList());
+    }
+
+    private List<TaskResponse> filterCarryover(List<Long> taskIds, Map<Long, Task> tasks, Long userId) {
+        if (taskIds == null)
+            return Collections.emptyList();
+        return taskIds.stream()
+                .map(tasks::get)
+                .filter(Objects::nonNull)
+                .filter(task -> task.getOwner().getId().equals(userId))
+                .filter(task -> !task.isDeleted())
+                .filter(task -> task.getStatus() != Status.COMPLETED)
+                .map(this::mapToResponse)
+                .collect(Collectors.toList());
+    }
+
+    private User getCurrentUser() {
+        String username = SecurityContextHolder.getContext().getAuthentication().getName();
+        return userRepository.findByUsername(username)
+                .orElseThrow(() -> new RuntimeException("Authenticated user not found"));
+    }
+
+    private TaskResponse mapToResponse(Task task) {
+        return new TaskResponse(
+                task.getId(),
+                task.getTitle(),
+                task.getDescription(),
+                task.getRationale(),
+                task.getStatus(),
+                task.getPriority(),
+                task.getDueDate(),
+                task.getCreatedAt(),
+                task.getIntentBucket() != null ? task.getIntentBucket().getId() : null,
+                task.getIntentBucket() != null ? task.getIntentBucket().getName() : null);
+    }
+}
@@ -0,0 +1,187 @@
+package com.taskify.taskify.service.impl;
+
+import com.taskify.taskify.security.ConcurrencyLimitFilter;
+import com.taskify.taskify.service.DailyCheckInService;
+import com.taskify.taskify.service.DashboardWarmupService;
+import com.taskify.taskify.service.IntentBucketService;
+import com.taskify.taskify.service.TaskService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs warm-ups on a small pool of minimum-priority daemon threads with a bounded
+ * queue, so a login burst can neither grow the backlog without limit nor compete
+ * with request threads. Warm-ups are optional work: a full queue, a user already
+ * queued, or in-flight requests above {@code app.warmup.max-utilization} of the
+ * concurrency limit all skip it. Load is checked again before every view.
+ *
+ * <p>Each view is computed as the user, through the same service methods (and so
+ * the same cache keys) the controllers use, inside its own read-only transaction
+ * since there is no request-scoped session to load lazy associations from.
+ */
+@Service
+public class DashboardWarmupServiceImpl implements DashboardWarmupService {
+
+    private static final Logger log = LoggerFactory.getLogger(DashboardWarmupServiceImpl.class);
+
+    // Same page the task list serves without parameters
+    private static final Pageable FIRST_TASK_PAGE = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+    private final UserDetailsService userDetailsService;
+    private final DailyCheckInService dailyCheckInService;
+    private final TaskService taskService;
+    private final IntentBucketService intentBucketService;
+    private final ConcurrencyLimitFilter concurrencyLimitFilter;
+    private final TransactionTemplate readOnlyTransaction;
+    private final MeterRegistry meterRegistry;
+    private final Timer warmupTimer;
+    private final ThreadPoolExecutor executor;
+    private final Set<String> queued = ConcurrentHashMap.newKeySet();
+
+    private final boolean enabled;
+    private final double maxUtilization;
+
+    public DashboardWarmupServiceImpl(UserDetailsService userDetailsService,
+            DailyCheckInService dailyCheckInService,
+            TaskService taskService,
+            IntentBucketService intentBucketService,
+            ConcurrencyLimitFilter concurrencyLimitFilter,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${app.warmup.enabled:true}") boolean enabled,
+            @Value("${app.warmup.threads:2}") int threads,
+            @Value("${app.warmup.queue-capacity:100}") int queueCapacity,
+            @Value("${app.warmup.max-utilization:0.5}") double maxUtilization) {
+        this.userDetailsService = userDetailsService;
+        this.dailyCheckInService = dailyCheckInService;
+        this.taskService = taskService;
+        this.intentBucketService = intentBucketService;
+        this.concurrencyLimitFilter = concurrencyLimitFilter;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.meterRegistry = meterRegistry;
+        this.warmupTimer = Timer.builder("taskify.warmup.duration")
+                .description("Time spent precomputing a user's dashboard reads")
+                .register(meterRegistry);
+        this.enabled = enabled;
+        this.maxUtilization = maxUtilization;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "dashboard-warmup-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    thread.setPriority(Thread.MIN_PRIORITY);
+                    return thread;
+                });
+    }
+
+    @Override
+    public CompletableFuture<Void> warmUp(String username) {
+        if (!enabled) {
+            return CompletableFuture.completedFuture(null);
+        }
+        if (overloaded()) {
+            skipped("load");
+            return CompletableFuture.completedFuture(null);
+        }
+        if (!queued.add(username)) {
+            skipped("duplicate");
+            return CompletableFuture.completedFuture(null);
+        }
+
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        try {
+            executor.execute(() -> {
+                try {
+                    queued.remove(username);
+                    warmupTimer.record(() -> run(username));
+                } finally {
+                    done.complete(null);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            queued.remove(username);
+            skipped("queue_full");
+            done.complete(null);
+        }
+        return done;
+    }
+
+    private void run(String username) {
+        UserDetails user;
+        try {
+            user = userDetailsService.loadUserByUsername(username);
+        } catch (RuntimeException e) {
+            log.debug("Skipping dashboard warm-up for {}: {}", username, e.getMessage());
+            return;
+        }
+
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+        SecurityContextHolder.setContext(context);
+        try {
+            Map<String, Runnable> views = new LinkedHashMap<>();
+            views.put("dailyCheckIn", dailyCheckInService::getTodayCheckIn);
+            views.put("focusTasks", taskService::suggestFocusTasks);
+            views.put("intentOverview", intentBucketService::getOverview);
+            views.put("tasks", () -> taskService.getAllTasks(null, null, null, null, null, null, null, null,
+                    false, FIRST_TASK_PAGE));
+
+            for (Map.Entry<String, Runnable> view : views.entrySet()) {
+                if (overloaded()) {
+                    skipped("load");
+                    return;
+                }
+                try {
+                    readOnlyTransaction.executeWithoutResult(status -> view.getValue().run());
+                } catch (RuntimeException e) {
+                    // A failed view is computed again by the request that needs it
+                    log.warn("Dashboard warm-up of {} failed for {}: {}", view.getKey(), username, e.getMessage());
+                    meterRegistry.counter("taskify.warmup.failures", "view", view.getKey()).increment();
+                }
+            }
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    private boolean overloaded() {
+        return concurrencyLimitFilter.utilization() > maxUtilization;
+    }
+
+    private void skipped(String reason) {
+        meterRegistry.counter("taskify.warmup.skipped", "reason", reason).increment();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
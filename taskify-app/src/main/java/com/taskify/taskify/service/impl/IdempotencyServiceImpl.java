@@ -0,0 +1,266 @@
+package com.taskify.taskify.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.taskify.taskify.dto.IdempotentResponse;
+import com.taskify.taskify.exception.IdempotencyException;
+import com.taskify.taskify.model.IdempotencyKey;
+import com.taskify.taskify.model.IdempotencyStatus;
+import com.taskify.taskify.repository.IdempotencyKeyRepository;
+import com.taskify.taskify.repository.IdempotencyKeyRepository.ReservationState;
+import com.taskify.taskify.repository.IdempotencyKeyRepository.StoredResponse;
+import com.taskify.taskify.service.IdempotencyService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+@Service
+public class IdempotencyServiceImpl implements IdempotencyService {
+
+    static final String RESPONSE_CACHE_NAME = "idempotencyResponses";
+    private static final long MAX_POLL_INTERVAL_MS = 200;
+
+    private final IdempotencyKeyRepository repository;
+    private final int ttlMinutes;
+    private final MeterRegistry meterRegistry;
+    private final Duration waitTimeout;
+    private final Duration inFlightTimeout;
+
+    // Completed responses, so replays are answered without a database round trip
+    private final Cache<String, IdempotentResponse> recentResponses;
+
+    // Reservations owned by requests on this node; duplicates wait on the future
+    // instead of polling the database
+    private final ConcurrentMap<String, CompletableFuture<IdempotentResponse>> inFlight = new ConcurrentHashMap<>();
+
+    public IdempotencyServiceImpl(IdempotencyKeyRepository repository,
+            @Value("${app.idempotency.ttl-minutes:1440}") int ttlMinutes, MeterRegistry meterRegistry,
+            @Value("${app.idempotency.cache.max-size:10000}") long cacheMaxSize,
+            @Value("${app.idempotency.cache.ttl-minutes:10}") long cacheTtlMinutes,
+            @Value("${app.idempotency.wait-timeout-ms:5000}") long waitTimeoutMs,
+            @Value("${app.idempotency.in-flight-timeout-seconds:60}") long inFlightTimeoutSeconds) {
+        this.repository = repository;
+        this.ttlMinutes = ttlMinutes;
+        this.meterRegistry = meterRegistry;
+        this.waitTimeout = Duration.ofMillis(waitTimeoutMs);
+        this.inFlightTimeout = Duration.ofSeconds(inFlightTimeoutSeconds);
+
+        this.recentResponses = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterWrite(Duration.ofMinutes(Math.min(cacheTtlMinutes, ttlMinutes)))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, recentResponses, RESPONSE_CACHE_NAME);
+    }
+
+    @Override
+    public Optional<IdempotentResponse> reserve(String key, Long userId, String endpoint, String requestHash) {
+        String cacheKey = cacheKey(key, userId);
+        long deadline = System.nanoTime() + waitTimeout.toNanos();
+
+        while (true) {
+            IdempotentResponse cached = recentResponses.getIfPresent(cacheKey);
+            if (cached != null && !cached.isExpired()) {
+                verifySameRequest(cached.endpoint(), cached.requestHash(), endpoint, requestHash);
+                meterRegistry.counter("taskify.idempotency.replays", "source", "cache").increment();
+                return Optional.of(cached);
+            }
+
+            CompletableFuture<IdempotentResponse> claim = new CompletableFuture<>();
+            CompletableFuture<IdempotentResponse> running = inFlight.putIfAbsent(cacheKey, claim);
+            if (running != null) {
+                // A duplicate on this node owns the key. Once it finishes, the next
+                // iteration replays its cached response or, if it released, claims the key.
+                awaitLocal(running, deadline);
+                continue;
+            }
+
+            boolean inserted;
+            try {
+                inserted = tryInsert(new IdempotencyKey(key, userId, endpoint, requestHash, ttlMinutes));
+            } catch (RuntimeException e) {
+                // The caller never gets to release the key; free the claim so duplicates can retry
+                inFlight.remove(cacheKey, claim);
+                claim.complete(null);
+                throw e;
+            }
+            if (inserted) {
+                return Optional.empty();
+            }
+
+            // Held in the database by an earlier request or another node
+            inFlight.remove(cacheKey, claim);
+            IdempotentResponse stored;
+            try {
+                stored = awaitStored(key, userId, endpoint, requestHash, deadline);
+            } catch (RuntimeException e) {
+                claim.complete(null);
+                throw e;
+            }
+            claim.complete(stored);
+            if (stored != null) {
+                return Optional.of(stored);
+            }
+        }
+    }
+
+    @Override
+    public void complete(String key, Long userId, String endpoint, String requestHash, int status,
+            HttpHeaders headers, byte[] compressedBody) {
+        repository.markCompleted(key, userId, status, encodeHeaders(headers), compressedBody,
+                IdempotencyStatus.COMPLETED);
+
+        IdempotentResponse completed = new IdempotentResponse(endpoint, requestHash, status, headers,
+                compressedBody, LocalDateTime.now().plusMinutes(ttlMinutes));
+        String cacheKey = cacheKey(key, userId);
+        recentResponses.put(cacheKey, completed);
+
+        CompletableFuture<IdempotentResponse> claim = inFlight.remove(cacheKey);
+        if (claim != null) {
+            claim.complete(completed);
+        }
+    }
+
+    @Override
+    public void release(String key, Long userId) {
+        repository.deleteReservation(key, userId);
+
+        CompletableFuture<IdempotentResponse> claim = inFlight.remove(cacheKey(key, userId));
+        if (claim != null) {
+            claim.complete(null);
+        }
+    }
+
+    @Override
+    public int deleteExpiredKeys(int batchSize) {
+        List<Long> expiredIds = repository.findExpiredIds(LocalDateTime.now(), PageRequest.of(0, batchSize));
+        if (expiredIds.isEmpty()) {
+            return 0;
+        }
+        return repository.deleteByIds(expiredIds);
+    }
+
+    private boolean tryInsert(IdempotencyKey reservation) {
+        try {
+            repository.saveAndFlush(reservation);
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            // The unique (idempotencyKey, user_id) index rejected a concurrent claim
+            return false;
+        }
+    }
+
+    private void awaitLocal(CompletableFuture<IdempotentResponse> running, long deadline) {
+        try {
+            running.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            throw stillInFlight();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw stillInFlight();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Idempotent request failed", e.getCause());
+        }
+    }
+
+    /**
+     * Polls the stored reservation with backoff until it completes. Returns
+     * {@code null} when the reservation is gone (released, expired or abandoned) so
+     * the caller can claim it again.
+     */
+    private IdempotentResponse awaitStored(String key, Long userId, String endpoint, String requestHash,
+            long deadline) {
+        long pollIntervalMs = 10;
+        while (true) {
+            Optional<ReservationState> found = repository.findReservationState(key, userId);
+            if (found.isEmpty()) {
+                return null;
+            }
+
+            ReservationState state = found.get();
+            verifySameRequest(state.getEndpoint(), state.getRequestHash(), endpoint, requestHash);
+
+            LocalDateTime now = LocalDateTime.now();
+            boolean abandoned = state.getStatus() == IdempotencyStatus.IN_FLIGHT
+                    && state.getCreatedAt().plus(inFlightTimeout).isBefore(now);
+            if (abandoned || state.getExpiresAt().isBefore(now)) {
+                repository.deleteStaleReservation(key, userId, state.getCreatedAt());
+                return null;
+            }
+
+            if (state.getStatus() == IdempotencyStatus.COMPLETED) {
+                Optional<StoredResponse> response = repository.findStoredResponse(key, userId);
+                if (response.isEmpty()) {
+                    return null;
+                }
+                IdempotentResponse completed = new IdempotentResponse(endpoint, requestHash,
+                        state.getResponseStatus(), decodeHeaders(response.get().getResponseHeaders()),
+                        response.get().getResponsePayload(), state.getExpiresAt());
+                recentResponses.put(cacheKey(key, userId), completed);
+                meterRegistry.counter("taskify.idempotency.replays", "source", "database").increment();
+                return completed;
+            }
+
+            if (System.nanoTime() >= deadline) {
+                throw stillInFlight();
+            }
+            try {
+                Thread.sleep(pollIntervalMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw stillInFlight();
+            }
+            pollIntervalMs = Math.min(pollIntervalMs * 2, MAX_POLL_INTERVAL_MS);
+        }
+    }
+
+    private void verifySameRequest(String storedEndpoint, String storedHash, String endpoint, String requestHash) {
+        if (!storedEndpoint.equals(endpoint) || !storedHash.equals(requestHash)) {
+            throw new IdempotencyException("Idempotency key reused with a different request payload.");
+        }
+    }
+
+    private IdempotencyException stillInFlight() {
+        return new IdempotencyException("A request with this Idempotency-Key is still being processed.");
+    }
+
+    private String cacheKey(String key, Long userId) {
+        return userId + ":" + key;
+    }
+
+    private static String encodeHeaders(HttpHeaders headers) {
+        StringBuilder encoded = new StringBuilder();
+        headers.forEach((name, values) -> values.forEach(
+                value -> encoded.append(name).append(": ").append(value).append('\n')));
+        return encoded.toString();
+    }
+
+    private static HttpHeaders decodeHeaders(String encoded) {
+        HttpHeaders headers = new HttpHeaders();
+        if (encoded == null) {
+            return headers;
+        }
+        for (String line : encoded.split("\n")) {
+            int separator = line.indexOf(": ");
+            if (separator > 0) {
+                headers.add(line.substring(0, separator), line.substring(separator + 2));
+            }
+        }
+        return headers;
+    }
+}
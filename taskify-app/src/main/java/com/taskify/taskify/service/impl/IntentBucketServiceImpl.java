@@ -1,5 +1,8 @@
 package com.taskify.taskify.service.impl;
 
+import com.taskify.taskify.config.CacheDependencyRegistry;
+import com.taskify.taskify.config.CacheGenerationRegistry;
+import com.taskify.taskify.config.CacheInput;
 import com.taskify.taskify.dto.IntentBucketRequest;
 import com.taskify.taskify.dto.IntentBucketResponse;
 import com.taskify.taskify.dto.IntentOverviewResponse;
@@ -13,9 +16,7 @@ import com.taskify.taskify.service.IntentBucketService;
 import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.Caching;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -27,6 +28,8 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -39,17 +42,23 @@ public class IntentBucketServiceImpl implements IntentBucketService {
         private final UserRepository userRepository;
         private final AuditService auditService;
         private final MeterRegistry meterRegistry;
+        private final CacheGenerationRegistry cacheGenerations;
+        private final CacheDependencyRegistry cacheDependencies;
 
         public IntentBucketServiceImpl(IntentBucketRepository intentBucketRepository,
                         TaskRepository taskRepository,
                         UserRepository userRepository,
                         AuditService auditService,
-                        MeterRegistry meterRegistry) {
+                        MeterRegistry meterRegistry,
+                        CacheGenerationRegistry cacheGenerations,
+                        CacheDependencyRegistry cacheDependencies) {
                 this.intentBucketRepository = intentBucketRepository;
                 this.taskRepository = taskRepository;
                 this.userRepository = userRepository;
                 this.auditService = auditService;
                 this.meterRegistry = meterRegistry;
+                this.cacheGenerations = cacheGenerations;
+                this.cacheDependencies = cacheDependencies;
         }
 
         @Override
@@ -73,6 +82,7 @@ public class IntentBucketServiceImpl implements IntentBucketService {
                                 String.valueOf(saved.getId()),
                                 null);
                 meterRegistry.counter("taskify.intents.created").increment();
+                cacheDependencies.invalidate(CacheInput.INTENT_BUCKETS, currentUser.getUsername());
 
                 return mapToResponse(saved);
         }
@@ -87,38 +97,27 @@ public class IntentBucketServiceImpl implements IntentBucketService {
 
         @Override
         @Transactional
-        @Caching(evict = {
-                        @CacheEvict(value = "tasks", allEntries = true)
-        })
         public void deleteIntent(Long id) {
                 User currentUser = getCurrentUser();
                 IntentBucket bucket = intentBucketRepository.findByIdAndUserId(id, currentUser.getId())
                                 .orElseThrow(() -> new IllegalArgumentException(
                                                 "Intent bucket not found or access denied"));
 
-                // Association management is handled by Task relationship (tasks keep null
-                // intentBucket)
-                // No explicit dissociating needed if we rely on JPA defaults or if we want to
-                // be safe:
-                // However, the requirement says "Tasks should simply lose the association".
-                // In JPA, removing the IntentBucket will set task.intent_bucket_id to NULL if
-                // properly configured.
-                // Actually, since Task @ManyToOne refers to IntentBucket, we should clear the
-                // references first
-                // to avoid foreign key violations OR rely on ON DELETE SET NULL.
-                // Let's clear them explicitly for safety and deterministic behavior.
-
-                taskRepository.findAll(TaskSpecification.withIntent(id)).forEach(task -> {
-                        task.setIntentBucket(null);
-                        taskRepository.save(task);
-                });
+                // Tasks simply lose the association; one statement however large the bucket
+                taskRepository.clearIntentBucket(id, currentUser.getId());
 
                 intentBucketRepository.delete(bucket);
+                // Unassigned tasks change the owner's list pages and their ETags, and
+                // every cached detail that still names the bucket
+                cacheGenerations.advanceAfterCommit(currentUser.getId());
+                cacheGenerations.advanceDetailsAfterCommit(currentUser.getId());
+                cacheDependencies.invalidate(CacheInput.INTENT_BUCKETS, currentUser.getUsername());
+                cacheDependencies.invalidate(CacheInput.TASKS, currentUser.getUsername());
                 auditService.logEvent(AuditAction.INTENT_BUCKET_DELETE, AuditTargetType.TASK, String.valueOf(id), null);
         }
 
         @Override
-        @Cacheable(value = "intentOverview", key = "T(org.springframework.security.core.context.SecurityContextHolder).getContext().getAuthentication().getName()")
+        @Cacheable(value = "intentOverview", sync = true, key = "@cacheDependencies.currentUserKey('intentOverview')")
         public IntentOverviewResponse getOverview() {
                 User currentUser = getCurrentUser();
                 List<IntentBucket> buckets = intentBucketRepository.findAllByUserId(currentUser.getId());
@@ -138,29 +137,23 @@ public class IntentBucketServiceImpl implements IntentBucketService {
                                 Sort.by(Sort.Order.asc("dueDate"), Sort.Order.desc("priority")));
                 List<Task> focusTasks = taskRepository.findAll(focusSpec, focusPageable).getContent();
 
+                // One grouped scan instead of three counts per bucket
+                Map<Long, TaskRepository.IntentBucketCounts> countsByBucket = taskRepository
+                                .countByIntentBucket(currentUser.getId(), now, overdueThreshold, inProgressThreshold,
+                                                pendingThreshold, Status.COMPLETED, Status.IN_PROGRESS, Status.PENDING)
+                                .stream()
+                                .collect(Collectors.toMap(TaskRepository.IntentBucketCounts::getBucketId,
+                                                Function.identity()));
+
                 for (IntentBucket bucket : buckets) {
                         if (bucket == null)
                                 continue;
                         Long bid = bucket.getId();
 
-                        long total = taskRepository.count(Specification.allOf(
-                                        TaskSpecification.withOwner(currentUser),
-                                        TaskSpecification.isNotDeleted(),
-                                        TaskSpecification.withIntent(bid)));
-
-                        long completed = taskRepository.count(Specification.allOf(
-                                        TaskSpecification.withOwner(currentUser),
-                                        TaskSpecification.isNotDeleted(),
-                                        TaskSpecification.withIntent(bid),
-                                        TaskSpecification.withStatus(Status.COMPLETED)));
-
-                        long stagnant = taskRepository.count(Specification.allOf(
-                                        TaskSpecification.withOwner(currentUser),
-                                        TaskSpecification.isNotDeleted(),
-                                        TaskSpecification.withIntent(bid),
-                                        TaskSpecification.isNotStatus(Status.COMPLETED),
-                                        TaskSpecification.isStagnant(now, overdueThreshold, inProgressThreshold,
-                                                        pendingThreshold)));
+                        TaskRepository.IntentBucketCounts counts = countsByBucket.get(bid);
+                        long total = counts != null ? counts.getTotal() : 0;
+                        long completed = counts != null ? counts.getCompleted() : 0;
+                        long stagnant = counts != null ? counts.getStagnant() : 0;
 
                         long focusCount = focusTasks.stream()
                                         .filter(t -> t.getIntentBucket() != null
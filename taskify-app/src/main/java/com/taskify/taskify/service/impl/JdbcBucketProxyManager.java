@@ -0,0 +1,166 @@
+package com.taskify.taskify.service.impl;
+
+import io.github.bucket4j.distributed.ExpirationAfterWriteStrategy;
+import io.github.bucket4j.distributed.proxy.ClientSideConfig;
+import io.github.bucket4j.distributed.proxy.generic.select_for_update.AbstractSelectForUpdateBasedProxyManager;
+import io.github.bucket4j.distributed.proxy.generic.select_for_update.LockAndGetResult;
+import io.github.bucket4j.distributed.proxy.generic.select_for_update.SelectForUpdateBasedTransaction;
+import io.github.bucket4j.distributed.remote.RemoteBucketState;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Optional;
+
+/**
+ * Bucket4j proxy manager over the {@code rate_limit_buckets} table using
+ * {@code SELECT ... FOR UPDATE}.
+ *
+ * <p>
+ * The {@code bucket4j-mysql} and {@code bucket4j-h2} modules each hard-code one
+ * dialect, so production and tests would exercise different proxy managers. This
+ * one issues the same portable statements on both, writes the {@code expires_at}
+ * column that {@code RateLimitBucketCleanupTask} purges by, and takes its
+ * connections from the application {@link DataSource}, so bucket traffic shows up
+ * in the pool and SQL metrics like any other query.
+ */
+public class JdbcBucketProxyManager extends AbstractSelectForUpdateBasedProxyManager<String> {
+
+    private static final String SELECT_FOR_UPDATE = "SELECT state FROM rate_limit_buckets WHERE id = ? FOR UPDATE";
+    private static final String INSERT_EMPTY = "INSERT INTO rate_limit_buckets(id, state, expires_at) VALUES(?, NULL, NULL)";
+    private static final String UPDATE_STATE = "UPDATE rate_limit_buckets SET state = ?, expires_at = ? WHERE id = ?";
+    private static final String DELETE = "DELETE FROM rate_limit_buckets WHERE id = ?";
+
+    private final DataSource dataSource;
+
+    public JdbcBucketProxyManager(DataSource dataSource, ClientSideConfig clientSideConfig) {
+        super(clientSideConfig);
+        this.dataSource = dataSource;
+    }
+
+    @Override
+    protected SelectForUpdateBasedTransaction allocateTransaction(String key, Optional<Long> requestTimeoutNanos) {
+        Connection connection;
+        try {
+            connection = dataSource.getConnection();
+        } catch (SQLException e) {
+            throw new IllegalStateException("Unable to obtain connection for rate limit bucket " + key, e);
+        }
+
+        return new SelectForUpdateBasedTransaction() {
+            @Override
+            public void begin(Optional<Long> timeoutNanos) {
+                try {
+                    connection.setAutoCommit(false);
+                } catch (SQLException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+
+            @Override
+            public LockAndGetResult tryLockAndGet(Optional<Long> timeoutNanos) {
+                try (PreparedStatement statement = connection.prepareStatement(SELECT_FOR_UPDATE)) {
+                    applyTimeout(statement, timeoutNanos);
+                    statement.setString(1, key);
+                    try (ResultSet rs = statement.executeQuery()) {
+                        if (!rs.next()) {
+                            return LockAndGetResult.notLocked();
+                        }
+                        return LockAndGetResult.locked(rs.getBytes(1));
+                    }
+                } catch (SQLException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+
+            @Override
+            public boolean tryInsertEmptyData(Optional<Long> timeoutNanos) {
+                try (PreparedStatement statement = connection.prepareStatement(INSERT_EMPTY)) {
+                    applyTimeout(statement, timeoutNanos);
+                    statement.setString(1, key);
+                    return statement.executeUpdate() > 0;
+                } catch (SQLException e) {
+                    // Another node inserted the row first; Bucket4j rolls back and retries the lock
+                    if (e.getSQLState() != null && e.getSQLState().startsWith("23")) {
+                        return false;
+                    }
+                    throw new IllegalStateException(e);
+                }
+            }
+
+            @Override
+            public void update(byte[] data, RemoteBucketState newState, Optional<Long> timeoutNanos) {
+                try (PreparedStatement statement = connection.prepareStatement(UPDATE_STATE)) {
+                    applyTimeout(statement, timeoutNanos);
+                    statement.setBytes(1, data);
+                    Long expiresAt = calculateExpiresAt(newState);
+                    if (expiresAt == null) {
+                        statement.setNull(2, Types.BIGINT);
+                    } else {
+                        statement.setLong(2, expiresAt);
+                    }
+                    statement.setString(3, key);
+                    statement.executeUpdate();
+                } catch (SQLException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+
+            @Override
+            public void commit(Optional<Long> timeoutNanos) {
+                try {
+                    connection.commit();
+                } catch (SQLException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+
+            @Override
+            public void rollback() {
+                try {
+                    connection.rollback();
+                } catch (SQLException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+
+            @Override
+            public void release() {
+                try {
+                    connection.close();
+                } catch (SQLException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        };
+    }
+
+    @Override
+    public void removeProxy(String key) {
+        try (Connection connection = dataSource.getConnection();
+                PreparedStatement statement = connection.prepareStatement(DELETE)) {
+            statement.setString(1, key);
+            statement.executeUpdate();
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public boolean isExpireAfterWriteSupported() {
+        return true;
+    }
+
+    private Long calculateExpiresAt(RemoteBucketState state) {
+        Optional<ExpirationAfterWriteStrategy> strategy = getClientSideConfig().getExpirationAfterWriteStrategy();
+        if (strategy.isEmpty()) {
+            return null;
+        }
+        long nowNanos = getClientSideTime();
+        long ttlMillis = strategy.get().calculateTimeToLiveMillis(state, nowNanos);
+        return ttlMillis <= 0 ? null : nowNanos / 1_000_000 + ttlMillis;
+    }
+}
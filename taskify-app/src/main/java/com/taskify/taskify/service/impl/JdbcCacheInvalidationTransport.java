@@ -0,0 +1,158 @@
+package com.taskify.taskify.service.impl;
+
+import com.taskify.taskify.dto.CacheInvalidationMessage;
+import com.taskify.taskify.model.CacheInvalidationEvent;
+import com.taskify.taskify.repository.CacheInvalidationEventRepository;
+import com.taskify.taskify.service.CacheInvalidationTransport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Change-log transport: invalidations are appended to
+ * {@code cache_invalidation_events} and every node follows the table with an id
+ * cursor, so each node evicts within one poll interval of the commit.
+ *
+ * <p>Identity ids are handed out at insert time but become visible at commit, so a
+ * smaller id can appear after a larger one has been read. Ids skipped by the cursor
+ * are remembered as gaps and looked up again on every poll until they show up or
+ * the grace period runs out (the insert rolled back).
+ */
+@Service
+@ConditionalOnProperty(name = "app.cache.invalidation.transport", havingValue = "jdbc", matchIfMissing = true)
+public class JdbcCacheInvalidationTransport implements CacheInvalidationTransport {
+
+    private static final Logger log = LoggerFactory.getLogger(JdbcCacheInvalidationTransport.class);
+
+    // A jump larger than this (e.g. after a sequence reset) is not worth tracking id by id
+    private static final int MAX_TRACKED_GAPS = 1000;
+
+    private final CacheInvalidationEventRepository repository;
+    private final TransactionTemplate newTransaction;
+    private final int batchSize;
+    private final long gapGraceNanos;
+
+    private volatile Consumer<CacheInvalidationMessage> handler;
+    private volatile long lag;
+
+    // Guarded by pollLock; a lock rather than synchronized, which would pin a
+    // virtual carrier thread for the length of the queries
+    private final ReentrantLock pollLock = new ReentrantLock();
+    private long cursor = -1;
+    private final TreeMap<Long, Long> gaps = new TreeMap<>();
+
+    public JdbcCacheInvalidationTransport(CacheInvalidationEventRepository repository,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.cache.invalidation.jdbc.batch-size:500}") int batchSize,
+            @Value("${app.cache.invalidation.jdbc.gap-grace-ms:5000}") long gapGraceMillis) {
+        this.repository = repository;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.batchSize = batchSize;
+        this.gapGraceNanos = Duration.ofMillis(gapGraceMillis).toNanos();
+    }
+
+    @Override
+    public void publish(CacheInvalidationMessage message) {
+        Object key = message.key();
+        CacheInvalidationEvent event = new CacheInvalidationEvent(message.origin(), message.type(),
+                message.cacheName(), key != null ? key.toString() : null, key instanceof Long,
+                message.userId(), message.publishedAt());
+        // Publishing runs after the writer's commit, where the old transaction is still bound
+        newTransaction.executeWithoutResult(status -> repository.save(event));
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidationMessage> handler) {
+        this.handler = handler;
+    }
+
+    /**
+     * Events that were already in the log when the latest poll started.
+     */
+    @Override
+    public long lag() {
+        return lag;
+    }
+
+    @Scheduled(fixedDelayString = "${app.cache.invalidation.jdbc.poll-interval-ms:1000}")
+    public void poll() {
+        Consumer<CacheInvalidationMessage> target = handler;
+        if (target == null) {
+            return;
+        }
+
+        pollLock.lock();
+        try {
+            Long head = repository.findMaxId();
+            if (cursor < 0) {
+                // Start at the head: older events concern entries this node never cached
+                cursor = head != null ? head : 0L;
+            }
+            lag = head != null ? Math.max(0L, head - cursor) + gaps.size() : 0L;
+
+            List<CacheInvalidationEvent> events;
+            do {
+                events = repository.findByIdGreaterThanOrderByIdAsc(cursor, PageRequest.of(0, batchSize));
+                long now = System.nanoTime();
+                for (CacheInvalidationEvent event : events) {
+                    trackGaps(event.getId(), now);
+                    deliver(target, event);
+                    cursor = event.getId();
+                }
+            } while (events.size() == batchSize);
+
+            fillGaps(target);
+        } catch (DataAccessException e) {
+            log.warn("Polling cache invalidations failed: {}", e.getMessage());
+        } finally {
+            pollLock.unlock();
+        }
+    }
+
+    private void trackGaps(long id, long now) {
+        long missing = Math.max(cursor + 1, id - MAX_TRACKED_GAPS);
+        for (; missing < id; missing++) {
+            gaps.putIfAbsent(missing, now);
+        }
+    }
+
+    private void fillGaps(Consumer<CacheInvalidationMessage> target) {
+        if (gaps.isEmpty()) {
+            return;
+        }
+        for (CacheInvalidationEvent event : repository.findAllById(gaps.keySet())) {
+            gaps.remove(event.getId());
+            deliver(target, event);
+        }
+        long now = System.nanoTime();
+        gaps.values().removeIf(noticedAt -> now - noticedAt > gapGraceNanos);
+    }
+
+    private void deliver(Consumer<CacheInvalidationMessage> target, CacheInvalidationEvent event) {
+        Object key = event.getCacheKey();
+        if (key != null && event.isKeyNumeric()) {
+            key = Long.valueOf(event.getCacheKey());
+        }
+        try {
+            target.accept(new CacheInvalidationMessage(event.getOrigin(), event.getType(), event.getCacheName(),
+                    key, event.getUserId(), event.getCreatedAt()));
+        } catch (RuntimeException e) {
+            log.warn("Applying cache invalidation {} failed: {}", event.getId(), e.getMessage());
+        }
+    }
+}
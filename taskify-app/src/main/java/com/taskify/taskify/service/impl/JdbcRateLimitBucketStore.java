@@ -0,0 +1,113 @@
+package com.taskify.taskify.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.taskify.taskify.repository.RateLimitBucketRepository;
+import com.taskify.taskify.service.RateLimitBucketStore;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.distributed.ExpirationAfterWriteStrategy;
+import io.github.bucket4j.distributed.proxy.ClientSideConfig;
+import io.github.bucket4j.distributed.proxy.optimization.DelayParameters;
+import io.github.bucket4j.distributed.proxy.optimization.Optimization;
+import io.github.bucket4j.distributed.proxy.optimization.OptimizationListener;
+import io.github.bucket4j.distributed.proxy.optimization.Optimizations;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Cluster-wide bucket store: every replica reads and writes the same
+ * {@code rate_limit_buckets} rows, so the configured rate holds regardless of how
+ * many nodes are running.
+ *
+ * <p>
+ * To avoid a database round trip per request, each node keeps a proxy per hot key
+ * with Bucket4j's delaying optimization: up to
+ * {@code rate.limit.jdbc.max-unsynchronized-tokens} tokens are consumed locally and
+ * reconciled in one write once that count or
+ * {@code rate.limit.jdbc.max-unsynchronized-millis} is reached. The cluster can
+ * therefore overshoot by at most that many tokens per node per sync window.
+ */
+@Service
+@ConditionalOnProperty(name = "rate.limit.store", havingValue = "jdbc")
+public class JdbcRateLimitBucketStore implements RateLimitBucketStore {
+
+    private final JdbcBucketProxyManager proxyManager;
+    private final RateLimitBucketRepository bucketRepository;
+    private final Optimization optimization;
+    private final Cache<String, Bucket> proxies;
+
+    public JdbcRateLimitBucketStore(DataSource dataSource,
+            RateLimitBucketRepository bucketRepository,
+            MeterRegistry meterRegistry,
+            @Value("${rate.limit.jdbc.max-unsynchronized-tokens:5}") long maxUnsynchronizedTokens,
+            @Value("${rate.limit.jdbc.max-unsynchronized-millis:500}") long maxUnsynchronizedMillis,
+            @Value("${rate.limit.buckets.max-size:100000}") long maxBuckets,
+            @Value("${rate.limit.buckets.idle-expiry-seconds:600}") long idleExpirySeconds) {
+        this.bucketRepository = bucketRepository;
+        this.proxyManager = new JdbcBucketProxyManager(dataSource, ClientSideConfig.getDefault()
+                .withExpirationAfterWriteStrategy(
+                        ExpirationAfterWriteStrategy.basedOnTimeForRefillingBucketUpToMax(Duration.ofSeconds(10))));
+
+        Counter skipped = meterRegistry.counter("taskify.rate_limit.sync", "result", "skipped");
+        Counter merged = meterRegistry.counter("taskify.rate_limit.sync", "result", "merged");
+        this.optimization = Optimizations.delaying(new DelayParameters(maxUnsynchronizedTokens,
+                Duration.ofMillis(maxUnsynchronizedMillis)))
+                .withListener(new OptimizationListener() {
+                    @Override
+                    public void incrementSkipCount(int count) {
+                        skipped.increment(count);
+                    }
+
+                    @Override
+                    public void incrementMergeCount(int count) {
+                        merged.increment(count);
+                    }
+                });
+
+        // Proxies carry the locally prefetched tokens, so they must be reused per key
+        this.proxies = Caffeine.newBuilder()
+                .maximumSize(maxBuckets)
+                .expireAfterAccess(Duration.ofSeconds(idleExpirySeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, proxies, LocalRateLimitBucketStore.BUCKET_CACHE_NAME);
+    }
+
+    @Override
+    public Bucket resolve(String key, Supplier<BucketConfiguration> configuration) {
+        return proxies.get(key, k -> proxyManager.builder()
+                .withOptimization(optimization)
+                .build(k, configuration));
+    }
+
+    @Override
+    @Transactional
+    public void clear() {
+        proxies.invalidateAll();
+        bucketRepository.deleteAllInBatch();
+    }
+
+    /**
+     * Deletes at most {@code batchSize} expired buckets and returns how many went.
+     */
+    public int deleteExpiredBuckets(int batchSize) {
+        long now = System.currentTimeMillis();
+        List<String> expiredIds = bucketRepository.findExpiredIds(now, PageRequest.of(0, batchSize));
+        if (expiredIds.isEmpty()) {
+            return 0;
+        }
+        return bucketRepository.deleteExpiredByIds(expiredIds, now);
+    }
+}
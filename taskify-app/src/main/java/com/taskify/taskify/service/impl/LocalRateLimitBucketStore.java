@@ -0,0 +1,77 @@
+package com.taskify.taskify.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.taskify.taskify.service.RateLimitBucketStore;
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.local.LocalBucketBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+@Service
+@ConditionalOnProperty(name = "rate.limit.store", havingValue = "local", matchIfMissing = true)
+public class LocalRateLimitBucketStore implements RateLimitBucketStore {
+
+    static final String BUCKET_CACHE_NAME = "rateLimitBuckets";
+
+    /**
+     * Buckets are keyed by caller ({@code ip:} or {@code user:}) and every distinct
+     * key would otherwise stay on the heap forever. The store is bounded in size and
+     * drops buckets that have been idle for longer than the configured window.
+     *
+     * <p>Idle expiry is lossless: as long as the window is at least the refill
+     * period, an expired bucket would have been full again anyway. Size eviction is
+     * not. Once the store is full, a flood of new keys can push out a bucket that is
+     * still being drained, and that caller starts again with a full quota. Caffeine's
+     * admission policy favours keys with a history of frequent access, so a caller
+     * that is busy enough to be throttled rarely loses its bucket to one-off keys,
+     * but this is not guaranteed. Size {@code rate.limit.buckets.max-size} above the
+     * number of callers active within one idle window. IP keys are the connection's
+     * remote address, so a client cannot mint a new key per request.
+     */
+    private final Cache<String, Bucket> buckets;
+
+    public LocalRateLimitBucketStore(
+            @Value("${rate.limit.buckets.max-size:100000}") long maxBuckets,
+            @Value("${rate.limit.buckets.idle-expiry-seconds:600}") long idleExpirySeconds,
+            MeterRegistry meterRegistry) {
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxBuckets)
+                .expireAfterAccess(Duration.ofSeconds(idleExpirySeconds))
+                .recordStats()
+                .build();
+
+        // Publishes cache.size, cache.evictions, cache.gets etc. tagged cache=rateLimitBuckets
+        CaffeineCacheMetrics.monitor(meterRegistry, buckets, BUCKET_CACHE_NAME);
+    }
+
+    @Override
+    public Bucket resolve(String key, Supplier<BucketConfiguration> configuration) {
+        // Caffeine serves hits from a lock-free read path and only locks on a miss
+        return buckets.get(key, k -> {
+            LocalBucketBuilder builder = Bucket.builder();
+            for (Bandwidth bandwidth : configuration.get().getBandwidths()) {
+                builder.addLimit(bandwidth);
+            }
+            return builder.build();
+        });
+    }
+
+    @Override
+    public void clear() {
+        buckets.invalidateAll();
+    }
+
+    long bucketCount() {
+        buckets.cleanUp();
+        return buckets.estimatedSize();
+    }
+}
@@ -0,0 +1,39 @@
+package com.taskify.taskify.service.impl;
+
+import com.taskify.taskify.dto.CacheInvalidationMessage;
+import com.taskify.taskify.service.CacheInvalidationTransport;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * In-process transport: every message is handed synchronously to every subscriber
+ * of this instance. Several buses subscribed to one instance behave like nodes on
+ * a multicast group, which is what tests use to stand up extra nodes.
+ */
+@Service
+@ConditionalOnProperty(name = "app.cache.invalidation.transport", havingValue = "loopback")
+public class LoopbackCacheInvalidationTransport implements CacheInvalidationTransport {
+
+    private final List<Consumer<CacheInvalidationMessage>> subscribers = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(CacheInvalidationMessage message) {
+        for (Consumer<CacheInvalidationMessage> subscriber : subscribers) {
+            subscriber.accept(message);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidationMessage> handler) {
+        subscribers.add(handler);
+    }
+
+    @Override
+    public long lag() {
+        return 0;
+    }
+}
@@ -0,0 +1,57 @@
+package com.taskify.taskify.service.impl;
+
+import com.taskify.taskify.model.SchedulerLock;
+import com.taskify.taskify.repository.SchedulerLockRepository;
+import com.taskify.taskify.service.SchedulerLockService;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Service
+public class SchedulerLockServiceImpl implements SchedulerLockService {
+
+    private final SchedulerLockRepository repository;
+    private final String ownerId;
+
+    public SchedulerLockServiceImpl(SchedulerLockRepository repository) {
+        this.repository = repository;
+        this.ownerId = hostName() + ":" + UUID.randomUUID();
+    }
+
+    @Override
+    public boolean tryLock(String name, Duration lease) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime until = now.plus(lease);
+
+        if (repository.claim(name, ownerId, now, until) > 0) {
+            return true;
+        }
+
+        // No row yet (first run anywhere) or held by someone else; only the insert
+        // that wins the primary key gets the lock
+        try {
+            repository.saveAndFlush(new SchedulerLock(name, ownerId, now, until));
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public void unlock(String name) {
+        repository.unlock(name, ownerId, LocalDateTime.now());
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown";
+        }
+    }
+}
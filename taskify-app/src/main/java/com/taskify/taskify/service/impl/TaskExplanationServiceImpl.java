@@ -13,11 +13,16 @@ public class TaskExplanationServiceImpl implements TaskExplanationService {
 
     @Override
     public String generateFocusExplanation(Task task, LocalDateTime now) {
-        if (task.getDueDate() == null) {
+        return generateFocusExplanation(task.getDueDate(), now);
+    }
+
+    @Override
+    public String generateFocusExplanation(LocalDateTime dueDate, LocalDateTime now) {
+        if (dueDate == null) {
             return "High priority task requiring immediate attention";
         }
 
-        long daysDiff = ChronoUnit.DAYS.between(now.toLocalDate(), task.getDueDate().toLocalDate());
+        long daysDiff = ChronoUnit.DAYS.between(now.toLocalDate(), dueDate.toLocalDate());
 
         if (daysDiff < 0) {
             return String.format("Overdue by %d days and high priority", Math.abs(daysDiff));
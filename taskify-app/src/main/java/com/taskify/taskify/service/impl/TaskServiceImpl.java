@@ -1,5 +1,8 @@
 package com.taskify.taskify.service.impl;
 
+import com.taskify.taskify.config.CacheDependencyRegistry;
+import com.taskify.taskify.config.CacheGenerationRegistry;
+import com.taskify.taskify.config.CacheInput;
 import com.taskify.taskify.dto.TaskRequest;
 import com.taskify.taskify.dto.TaskResponse;
 import com.taskify.taskify.dto.TaskReviewResponse;
@@ -11,8 +14,10 @@ import com.taskify.taskify.repository.TaskRepository;
 import com.taskify.taskify.repository.TaskSpecification;
 import com.taskify.taskify.repository.UserRepository;
 import com.taskify.taskify.security.SecurityConstants;
+import com.taskify.taskify.security.TaskifyUserDetails;
 import com.taskify.taskify.repository.IntentBucketRepository;
 import com.taskify.taskify.service.AuditService;
+import com.taskify.taskify.service.CheckInStatsService;
 import com.taskify.taskify.service.TaskExplanationService;
 import com.taskify.taskify.service.TaskService;
 import io.micrometer.core.instrument.MeterRegistry;
@@ -23,11 +28,11 @@ import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.cache.annotation.Caching;
-import org.springframework.cache.Cache;
-import org.springframework.cache.CacheManager;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -48,24 +53,32 @@ public class TaskServiceImpl implements TaskService {
     private final UserRepository userRepository;
     private final AuditLogRepository auditLogRepository;
     private final AuditService auditService;
+    private final CacheGenerationRegistry cacheGenerations;
     private final CacheManager cacheManager;
+    private final CacheDependencyRegistry cacheDependencies;
     private final MeterRegistry meterRegistry;
     private final IntentBucketRepository intentBucketRepository;
     private final TaskExplanationService taskExplanationService;
+    private final CheckInStatsService checkInStats;
 
     public TaskServiceImpl(TaskRepository taskRepository, UserRepository userRepository,
             AuditLogRepository auditLogRepository, AuditService auditService,
-            CacheManager cacheManager, MeterRegistry meterRegistry,
+            CacheGenerationRegistry cacheGenerations, CacheManager cacheManager,
+            CacheDependencyRegistry cacheDependencies, MeterRegistry meterRegistry,
             IntentBucketRepository intentBucketRepository,
-            TaskExplanationService taskExplanationService) {
+            TaskExplanationService taskExplanationService,
+            CheckInStatsService checkInStats) {
         this.taskRepository = taskRepository;
         this.userRepository = userRepository;
         this.auditLogRepository = auditLogRepository;
         this.auditService = auditService;
+        this.cacheGenerations = cacheGenerations;
         this.cacheManager = cacheManager;
+        this.cacheDependencies = cacheDependencies;
         this.meterRegistry = meterRegistry;
         this.intentBucketRepository = intentBucketRepository;
         this.taskExplanationService = taskExplanationService;
+        this.checkInStats = checkInStats;
     }
 
     @Override
@@ -95,20 +108,47 @@ public class TaskServiceImpl implements TaskService {
 
         meterRegistry.counter("taskify.tasks.created").increment();
 
-        incrementTaskVersion(currentUser.getUsername());
+        incrementTaskVersion(currentUser);
 
         return mapToResponse(savedTask);
     }
 
+    /**
+     * Task details are cached together with the owner's id, so a hit is checked
+     * against the calling principal before it is returned, without reloading the
+     * task. Single-task writes evict their own entry; entries also carry the
+     * owner's detail generation, which only writes touching many tasks at once
+     * (such as deleting an intent bucket) advance.
+     *
+     * <p>The generation is read before the task is loaded, so a bulk write that
+     * commits in between leaves the entry behind its generation instead of
+     * caching pre-commit state under the new one. It is the caller's generation,
+     * so only owners populate the cache; admins reading other users' tasks are
+     * served from it but do not fill it.
+     */
     @Override
-    @Cacheable(value = "taskDetails", key = "#id", unless = "#result == null")
     public TaskResponse getTaskById(Long id) {
-        Task task = taskRepository.findById(id)
+        Cache detailCache = cacheManager.getCache("taskDetails");
+        CachedTaskDetail cached = detailCache != null ? detailCache.get(id, CachedTaskDetail.class) : null;
+        if (cached != null && cached.generation() == cacheGenerations.currentDetails(cached.ownerId())) {
+            validateCachedOwnership(cached.ownerId());
+            return cached.response();
+        }
+
+        User currentUser = getCurrentUser();
+        long generation = currentUser != null ? cacheGenerations.currentDetails(currentUser.getId()) : 0L;
+
+        Task task = taskRepository.findWithIntentBucketById(id)
                 .orElseThrow(() -> new TaskNotFoundException(id));
 
-        validateOwnership(task);
+        validateOwnership(task, currentUser);
 
-        return mapToResponse(task);
+        TaskResponse response = mapToResponse(task);
+        Long ownerId = task.getOwner().getId();
+        if (detailCache != null && currentUser != null && ownerId.equals(currentUser.getId())) {
+            detailCache.put(id, new CachedTaskDetail(ownerId, generation, response));
+        }
+        return response;
     }
 
     @Override
@@ -120,8 +160,11 @@ public class TaskServiceImpl implements TaskService {
         Task existingTask = taskRepository.findById(id)
                 .orElseThrow(() -> new TaskNotFoundException(id));
 
-        validateOwnership(existingTask);
+        // Resolved once; every lookup by username is another query
+        User currentUser = getCurrentUser();
+        validateOwnership(existingTask, currentUser);
 
+        Status previousStatus = existingTask.getStatus();
         existingTask.setTitle(request.getTitle());
         existingTask.setDescription(request.getDescription());
         existingTask.setStatus(request.getStatus());
@@ -130,7 +173,7 @@ public class TaskServiceImpl implements TaskService {
 
         if (request.getIntentBucketId() != null) {
             IntentBucket bucket = intentBucketRepository
-                    .findByIdAndUserId(request.getIntentBucketId(), getCurrentUser().getId())
+                    .findByIdAndUserId(request.getIntentBucketId(), currentUser.getId())
                     .orElseThrow(() -> new IllegalArgumentException(
                             "Invalid intentBucketId: " + request.getIntentBucketId()));
             existingTask.setIntentBucket(bucket);
@@ -140,16 +183,16 @@ public class TaskServiceImpl implements TaskService {
 
         try {
             Task updatedTask = taskRepository.save(existingTask);
+            checkInStats.recordStatusChange(updatedTask, previousStatus);
 
-            User currentUser = getCurrentUser();
             boolean isAdminAction = isAdmin(currentUser)
                     && existingTask.getOwner().getId().longValue() != currentUser.getId().longValue();
             auditService.logEvent(AuditAction.TASK_UPDATE, AuditTargetType.TASK, String.valueOf(updatedTask.getId()),
                     isAdminAction ? java.util.Map.of("adminAction", true) : null);
 
-            incrementTaskVersion(existingTask.getOwner().getUsername());
+            incrementTaskVersion(existingTask.getOwner());
             if (isAdminAction) {
-                incrementTaskVersion(currentUser.getUsername());
+                incrementTaskVersion(currentUser);
             }
 
             meterRegistry.counter("taskify.tasks.updated").increment();
@@ -176,20 +219,65 @@ public class TaskServiceImpl implements TaskService {
 
         task.setDeleted(true);
         taskRepository.save(task);
+        checkInStats.recordDeletion(task);
 
         auditService.logEvent(AuditAction.TASK_DELETE, AuditTargetType.TASK, String.valueOf(id),
                 isAdminAction ? java.util.Map.of("adminAction", true) : null);
 
-        incrementTaskVersion(task.getOwner().getUsername());
+        incrementTaskVersion(task.getOwner());
         if (isAdminAction) {
-            incrementTaskVersion(currentUser.getUsername());
+            incrementTaskVersion(currentUser);
         }
     }
 
+    /**
+     * The selection is cached under the caller's list generation; usage is still
+     * metered and audited on every call.
+     */
     @Override
     public List<TaskResponse> getFocusTasks() {
         User currentUser = getCurrentUser();
+        List<TaskResponse> focusTasks = selectFocusTasks(currentUser);
+
+        log.debug("Focus Mode used by user: {}. Selected {} tasks based on urgency and priority.",
+                currentUser.getUsername(), focusTasks.size());
+
+        meterRegistry.counter("taskify.tasks.focus_mode_usage").increment();
+        auditService.logEvent(AuditAction.FOCUS_MODE_USAGE, AuditTargetType.TASK, null, null);
+
+        return focusTasks;
+    }
+
+    @Override
+    public List<TaskResponse> suggestFocusTasks() {
+        return selectFocusTasks(getCurrentUser());
+    }
+
+    /**
+     * Only the selection is cached. Explanations say how many days a task is
+     * overdue or due in, so they are built from the clock on every read; a cached
+     * "Due today" must not outlive midnight.
+     */
+    private List<TaskResponse> selectFocusTasks(User currentUser) {
+        Cache focusCache = cacheManager.getCache("focusTasks");
+        List<Long> key = List.of(currentUser.getId(), cacheGenerations.current(currentUser.getId()));
+        @SuppressWarnings("unchecked")
+        List<TaskResponse> selection = focusCache != null ? focusCache.get(key, List.class) : null;
+        if (selection == null) {
+            selection = loadFocusSelection(currentUser);
+            if (focusCache != null) {
+                focusCache.put(key, selection);
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        return selection.stream()
+                .map(task -> withExplanation(task,
+                        taskExplanationService.generateFocusExplanation(task.getDueDate(), now)))
+                .collect(Collectors.toList());
+    }
 
+    private List<TaskResponse> loadFocusSelection(User currentUser) {
         Specification<Task> spec = Specification.allOf(
                 TaskSpecification.isNotDeleted(),
                 TaskSpecification.withOwner(currentUser),
@@ -200,17 +288,8 @@ public class TaskServiceImpl implements TaskService {
                 Sort.Order.asc("dueDate"),
                 Sort.Order.desc("priority")));
 
-        List<Task> focusTasks = taskRepository.findAll(spec, pageable).getContent();
-
-        log.debug("Focus Mode used by user: {}. Selected {} tasks based on urgency and priority.",
-                currentUser.getUsername(), focusTasks.size());
-
-        meterRegistry.counter("taskify.tasks.focus_mode_usage").increment();
-        auditService.logEvent(AuditAction.FOCUS_MODE_USAGE, AuditTargetType.TASK, null, null);
-
-        LocalDateTime now = LocalDateTime.now();
-        return focusTasks.stream()
-                .map(task -> mapToResponse(task, taskExplanationService.generateFocusExplanation(task, now)))
+        return taskRepository.findAll(spec, pageable).getContent().stream()
+                .map(this::mapToResponse)
                 .collect(Collectors.toList());
     }
 
@@ -246,9 +325,24 @@ public class TaskServiceImpl implements TaskService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Cached per list generation and refreshed ahead of expiry, so reads between
+     * writes get the last review while it is recomputed in the background.
+     */
     @Override
     public TaskReviewResponse getWeeklyReview() {
         User currentUser = getCurrentUser();
+        meterRegistry.counter("taskify.tasks.review_mode_usage").increment();
+
+        Cache reviewCache = cacheManager.getCache("weeklyReview");
+        if (reviewCache == null) {
+            return buildWeeklyReview(currentUser);
+        }
+        List<Long> key = List.of(currentUser.getId(), cacheGenerations.current(currentUser.getId()));
+        return reviewCache.get(key, () -> buildWeeklyReview(currentUser));
+    }
+
+    private TaskReviewResponse buildWeeklyReview(User currentUser) {
         LocalDateTime now = LocalDateTime.now();
         LocalDateTime sevenDaysAgo = now.minusDays(7);
 
@@ -288,8 +382,6 @@ public class TaskServiceImpl implements TaskService {
         log.debug("Weekly review generated for user: {}. Created: {}, Completed: {}",
                 currentUser.getUsername(), created, completed);
 
-        meterRegistry.counter("taskify.tasks.review_mode_usage").increment();
-
         return new TaskReviewResponse("last_7_days", summary, insights);
     }
 
@@ -373,6 +465,19 @@ public class TaskServiceImpl implements TaskService {
         return tasks.map(this::mapToResponse);
     }
 
+    @Override
+    public String getTaskListVersion() {
+        User currentUser = getCurrentUser();
+        if (currentUser == null) {
+            throw new AccessDeniedException("Authenticated user not found in database");
+        }
+        // Same generations the list cache keys are built from
+        long generation = isAdmin(currentUser)
+                ? cacheGenerations.currentGlobal()
+                : cacheGenerations.current(currentUser.getId());
+        return currentUser.getId() + "." + generation;
+    }
+
     private User getCurrentUser() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         if (authentication == null) {
@@ -383,11 +488,40 @@ public class TaskServiceImpl implements TaskService {
     }
 
     private void validateOwnership(Task task) {
-        User currentUser = getCurrentUser();
+        validateOwnership(task, getCurrentUser());
+    }
+
+    private void validateOwnership(Task task, User currentUser) {
         if (task.getOwner() == null) {
             throw new IllegalStateException("Task owner cannot be null");
         }
-        if (!isAdmin(currentUser) && task.getOwner().getId() != currentUser.getId()) {
+        if (!isAdmin(currentUser) && !task.getOwner().getId().equals(currentUser.getId())) {
+            throw new AccessDeniedException("You do not have permission to access this task");
+        }
+    }
+
+    /**
+     * Ownership check for cached details, decided from the authentication alone.
+     * Only principals that carry no id (e.g. test users) cost a user lookup.
+     */
+    private void validateCachedOwnership(Long ownerId) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null) {
+            throw new AccessDeniedException("You do not have permission to access this task");
+        }
+        boolean admin = authentication.getAuthorities().stream()
+                .anyMatch(authority -> SecurityConstants.ROLE_ADMIN.equals(authority.getAuthority()));
+        if (admin) {
+            return;
+        }
+        Long userId;
+        if (authentication.getPrincipal() instanceof TaskifyUserDetails principal) {
+            userId = principal.getId();
+        } else {
+            User currentUser = getCurrentUser();
+            userId = currentUser != null ? currentUser.getId() : null;
+        }
+        if (!ownerId.equals(userId)) {
             throw new AccessDeniedException("You do not have permission to access this task");
         }
     }
@@ -397,19 +531,33 @@ public class TaskServiceImpl implements TaskService {
                 .anyMatch(role -> role.getName().equals(SecurityConstants.ROLE_ADMIN));
     }
 
-    private void incrementTaskVersion(String username) {
-        Cache versionCache = cacheManager.getCache("taskVersions");
-        if (versionCache != null) {
-            String currentVersion = versionCache.get(username, String.class);
-            long nextVersion = (currentVersion == null) ? 1 : Long.parseLong(currentVersion) + 1;
-            versionCache.put(username, String.valueOf(nextVersion));
-        }
+    private void incrementTaskVersion(User user) {
+        cacheGenerations.advanceAfterCommit(user.getId());
+        cacheDependencies.invalidate(CacheInput.TASKS, user.getUsername());
+    }
+
+    private record CachedTaskDetail(Long ownerId, long generation, TaskResponse response) {
     }
 
     private TaskResponse mapToResponse(Task task) {
         return mapToResponse(task, null);
     }
 
+    private static TaskResponse withExplanation(TaskResponse task, String explanation) {
+        return new TaskResponse(
+                task.getId(),
+                task.getTitle(),
+                task.getDescription(),
+                task.getRationale(),
+                task.getStatus(),
+                task.getPriority(),
+                task.getDueDate(),
+                task.getCreatedAt(),
+                task.getIntentBucketId(),
+                task.getIntentBucketName(),
+                explanation);
+    }
+
     private TaskResponse mapToResponse(Task task, String explanation) {
         return new TaskResponse(
                 task.getId(),
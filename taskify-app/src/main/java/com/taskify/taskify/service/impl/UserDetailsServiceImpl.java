@@ -3,6 +3,7 @@ package com.taskify.taskify.service.impl;
 import com.taskify.taskify.model.Role;
 import com.taskify.taskify.model.User;
 import com.taskify.taskify.repository.UserRepository;
+import com.taskify.taskify.security.TaskifyUserDetails;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -38,9 +39,10 @@ public class UserDetailsServiceImpl implements UserDetailsService {
         // 2. Convert domain roles into GrantedAuthority collection
         Collection<GrantedAuthority> authorities = mapRolesToAuthorities(user.getRoles());
 
-        // 3. Build and return Spring Security User (implements UserDetails)
-        //    Note: we return username, password (already encoded), and authorities.
-        return new org.springframework.security.core.userdetails.User(
+        // 3. Build and return the principal (a Spring Security User that also keeps the id)
+        //    Note: we return id, username, password (already encoded), and authorities.
+        return new TaskifyUserDetails(
+                user.getId(),
                 user.getUsername(),
                 user.getPassword(),
                 authorities
@@ -0,0 +1,177 @@
+package com.taskify.taskify.audit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskify.taskify.model.AuditAction;
+import com.taskify.taskify.model.AuditLog;
+import com.taskify.taskify.model.AuditTargetType;
+import com.taskify.taskify.repository.AuditLogRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "app.audit.stream.batch-size=2")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class AdminAuditQueryIntegrationTest {
+
+    // Scope every query to a synthetic actor so async audit writes from other
+    // tests cannot leak into the assertions.
+    private static final long ACTOR_ID = 9001L;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private AuditLogRepository auditLogRepository;
+
+    private final List<Long> expectedIdsNewestFirst = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        auditLogRepository.deleteAll();
+        expectedIdsNewestFirst.clear();
+
+        LocalDateTime base = LocalDateTime.of(2026, 1, 10, 12, 0);
+        List<AuditLog> saved = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            // Two entries share each timestamp so the id tie-breaker is exercised
+            LocalDateTime timestamp = base.plusMinutes(i / 2);
+            AuditAction action = i % 3 == 0 ? AuditAction.TASK_DELETE : AuditAction.TASK_UPDATE;
+            saved.add(auditLogRepository.save(auditLog(action, String.valueOf(100 + i), timestamp)));
+        }
+
+        saved.stream()
+                .sorted((a, b) -> {
+                    int byTime = b.getTimestamp().compareTo(a.getTimestamp());
+                    return byTime != 0 ? byTime : Long.compare(b.getId(), a.getId());
+                })
+                .forEach(log -> expectedIdsNewestFirst.add(log.getId()));
+    }
+
+    private AuditLog auditLog(AuditAction action, String targetId, LocalDateTime timestamp) {
+        AuditLog log = new AuditLog();
+        log.setActorUserId(ACTOR_ID);
+        log.setActorRole("ROLE_USER");
+        log.setAction(action);
+        log.setTargetType(AuditTargetType.TASK);
+        log.setTargetId(targetId);
+        log.setTimestamp(timestamp);
+        return log;
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = "ADMIN")
+    void shouldWalkAllPagesWithCursorWithoutGapsOrDuplicates() throws Exception {
+        List<Long> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+
+        do {
+            var requestBuilder = get("/api/v1/admin/audit")
+                    .param("actorUserId", String.valueOf(ACTOR_ID))
+                    .param("limit", "3");
+            if (cursor != null) {
+                requestBuilder.param("cursor", cursor);
+            }
+
+            MvcResult result = mockMvc.perform(requestBuilder)
+                    .andExpect(status().isOk())
+                    .andReturn();
+
+            JsonNode body = objectMapper.readTree(result.getResponse().getContentAsString());
+            body.get("items").forEach(item -> seen.add(item.get("id").asLong()));
+            cursor = body.get("nextCursor").isNull() ? null : body.get("nextCursor").asText();
+            pages++;
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(seen).containsExactlyElementsOf(expectedIdsNewestFirst);
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = "ADMIN")
+    void shouldFilterByActionAndTarget() throws Exception {
+        mockMvc.perform(get("/api/v1/admin/audit")
+                .param("actorUserId", String.valueOf(ACTOR_ID))
+                .param("action", "TASK_DELETE"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(3))
+                .andExpect(jsonPath("$.nextCursor").isEmpty());
+
+        mockMvc.perform(get("/api/v1/admin/audit")
+                .param("targetType", "TASK")
+                .param("targetId", "103"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].targetId").value("103"));
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = "ADMIN")
+    void shouldFilterByTimeRange() throws Exception {
+        mockMvc.perform(get("/api/v1/admin/audit")
+                .param("actorUserId", String.valueOf(ACTOR_ID))
+                .param("from", "2026-01-10T12:01:00")
+                .param("to", "2026-01-10T12:02:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(4));
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = "ADMIN")
+    void shouldRejectMalformedCursor() throws Exception {
+        mockMvc.perform(get("/api/v1/admin/audit").param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = "ADMIN")
+    void shouldStreamAllMatchingEntriesAsNdjson() throws Exception {
+        MvcResult started = mockMvc.perform(get("/api/v1/admin/audit/stream")
+                .param("actorUserId", String.valueOf(ACTOR_ID)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        MvcResult result = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        assertThat(result.getResponse().getContentType()).startsWith("application/x-ndjson");
+        String[] lines = result.getResponse().getContentAsString().trim().split("\n");
+        List<Long> streamedIds = new ArrayList<>();
+        for (String line : lines) {
+            streamedIds.add(objectMapper.readTree(line).get("id").asLong());
+        }
+        assertThat(streamedIds).containsExactlyElementsOf(expectedIdsNewestFirst);
+    }
+
+    @Test
+    @WithMockUser(username = "user", roles = "USER")
+    void shouldForbidNonAdminUsers() throws Exception {
+        mockMvc.perform(get("/api/v1/admin/audit"))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/api/v1/admin/audit/stream"))
+                .andExpect(status().isForbidden());
+    }
+}
@@ -0,0 +1,170 @@
+package com.taskify.taskify.cache;
+
+import com.taskify.taskify.config.BroadcastingCache;
+import com.taskify.taskify.config.CacheGenerationRegistry;
+import com.taskify.taskify.model.CacheInvalidationEvent;
+import com.taskify.taskify.model.CacheInvalidationType;
+import com.taskify.taskify.repository.CacheInvalidationEventRepository;
+import com.taskify.taskify.service.CacheInvalidationBus;
+import com.taskify.taskify.service.impl.JdbcCacheInvalidationTransport;
+import com.taskify.taskify.service.impl.LoopbackCacheInvalidationTransport;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The Spring context is one node; a second node is assembled by hand on the same
+ * database and polled explicitly.
+ */
+@SpringBootTest(properties = {
+        "app.cache.invalidation.transport=jdbc",
+        "app.cache.invalidation.jdbc.poll-interval-ms=3600000"
+})
+@ActiveProfiles("test")
+public class CacheInvalidationBusIntegrationTest {
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private CacheGenerationRegistry cacheGenerations;
+
+    @Autowired
+    private CacheInvalidationEventRepository eventRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void shouldApplyEvictionsClearsAndGenerationsOnOtherNodes() {
+        RemoteNode remote = new RemoteNode(500);
+        remote.cacheManager.getCache("taskDetails").put(42L, "cached detail");
+        remote.cacheManager.getCache("taskDetails").put(43L, "other detail");
+        remote.cacheManager.getCache("dailyCheckIn").put("alice", "cached check-in");
+        remote.cacheManager.getCache("tasks").put("some page", "cached page");
+        long remoteGeneration = remote.generations.current(7L);
+
+        assertInstanceOf(BroadcastingCache.class, cacheManager.getCache("taskDetails"));
+        cacheManager.getCache("taskDetails").evict(42L);
+        cacheManager.getCache("dailyCheckIn").evict("alice");
+        cacheManager.getCache("tasks").clear();
+        cacheGenerations.advanceAfterCommit(7L);
+
+        // Nothing moves until the remote node polls
+        assertNotNull(remote.cacheManager.getCache("taskDetails").get(42L));
+        remote.transport.poll();
+
+        assertNull(remote.cacheManager.getCache("taskDetails").get(42L));
+        assertNotNull(remote.cacheManager.getCache("taskDetails").get(43L));
+        assertNull(remote.cacheManager.getCache("dailyCheckIn").get("alice"));
+        assertNull(remote.cacheManager.getCache("tasks").get("some page"));
+        assertEquals(remoteGeneration + 1, remote.generations.current(7L));
+    }
+
+    @Test
+    void shouldReportLagUntilTheNodeCatchesUp() {
+        RemoteNode remote = new RemoteNode(2);
+        for (long id = 1; id <= 5; id++) {
+            cacheManager.getCache("taskDetails").evict(id);
+        }
+
+        remote.transport.poll();
+        assertEquals(5.0, remote.lagGauge());
+        assertEquals(5.0, remote.meterRegistry.get("taskify.cache.invalidation.applied")
+                .tag("type", "EVICT").counter().count());
+
+        remote.transport.poll();
+        assertEquals(0.0, remote.lagGauge());
+    }
+
+    @Test
+    void shouldDeliverEventsThatCommitAfterALargerId() throws Exception {
+        RemoteNode remote = new RemoteNode(500);
+        remote.cacheManager.getCache("taskDetails").put(100L, "late");
+        remote.cacheManager.getCache("taskDetails").put(101L, "early");
+
+        // Hold an insert open so its id is taken but not yet visible
+        CountDownLatch inserted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        CompletableFuture<Void> slowWriter = CompletableFuture.runAsync(() -> tx.executeWithoutResult(status -> {
+            eventRepository.saveAndFlush(new CacheInvalidationEvent("slow-node", CacheInvalidationType.EVICT,
+                    "taskDetails", "100", true, null, LocalDateTime.now()));
+            inserted.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+
+        try {
+            assertTrue(inserted.await(10, TimeUnit.SECONDS));
+            cacheManager.getCache("taskDetails").evict(101L);
+
+            remote.transport.poll();
+            assertNull(remote.cacheManager.getCache("taskDetails").get(101L));
+            assertNotNull(remote.cacheManager.getCache("taskDetails").get(100L));
+        } finally {
+            release.countDown();
+        }
+        slowWriter.get(10, TimeUnit.SECONDS);
+
+        remote.transport.poll();
+        assertNull(remote.cacheManager.getCache("taskDetails").get(100L));
+    }
+
+    @Test
+    void loopbackShouldDeliverToEveryOtherSubscriber() {
+        LoopbackCacheInvalidationTransport transport = new LoopbackCacheInvalidationTransport();
+        CaffeineCacheManager firstCaches = new CaffeineCacheManager("taskDetails");
+        CaffeineCacheManager secondCaches = new CaffeineCacheManager("taskDetails");
+        CacheInvalidationBus first = new CacheInvalidationBus(transport, firstCaches, new CacheGenerationRegistry(),
+                new SimpleMeterRegistry());
+        new CacheInvalidationBus(transport, secondCaches, new CacheGenerationRegistry(), new SimpleMeterRegistry());
+
+        firstCaches.getCache("taskDetails").put(1L, "first");
+        secondCaches.getCache("taskDetails").put(1L, "second");
+
+        first.publishEviction("taskDetails", 1L);
+
+        // The publisher skips its own message; the other node applies it
+        assertNotNull(firstCaches.getCache("taskDetails").get(1L));
+        assertNull(secondCaches.getCache("taskDetails").get(1L));
+    }
+
+    private class RemoteNode {
+
+        final CaffeineCacheManager cacheManager = new CaffeineCacheManager("tasks", "taskDetails", "dailyCheckIn");
+        final CacheGenerationRegistry generations = new CacheGenerationRegistry();
+        final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        final JdbcCacheInvalidationTransport transport;
+
+        RemoteNode(int batchSize) {
+            transport = new JdbcCacheInvalidationTransport(eventRepository, transactionManager, batchSize, 5000);
+            new CacheInvalidationBus(transport, cacheManager, generations, meterRegistry);
+            // The first poll positions the cursor at the head of the log
+            transport.poll();
+        }
+
+        double lagGauge() {
+            return meterRegistry.get("taskify.cache.invalidation.lag").gauge().value();
+        }
+    }
+}
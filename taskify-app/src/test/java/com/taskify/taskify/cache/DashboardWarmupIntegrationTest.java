@@ -0,0 +1,241 @@
+package com.taskify.taskify.cache;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskify.taskify.config.BroadcastingCache;
+import com.taskify.taskify.config.CacheGenerationRegistry;
+import com.taskify.taskify.dto.LoginRequest;
+import com.taskify.taskify.dto.RegisterRequest;
+import com.taskify.taskify.dto.TaskRequest;
+import com.taskify.taskify.model.Priority;
+import com.taskify.taskify.model.Role;
+import com.taskify.taskify.model.Status;
+import com.taskify.taskify.repository.IntentBucketRepository;
+import com.taskify.taskify.repository.RefreshTokenRepository;
+import com.taskify.taskify.repository.RoleRepository;
+import com.taskify.taskify.repository.TaskRepository;
+import com.taskify.taskify.repository.UserRepository;
+import com.taskify.taskify.security.ConcurrencyLimitFilter;
+import com.taskify.taskify.security.SecurityConstants;
+import com.taskify.taskify.service.DailyCheckInService;
+import com.taskify.taskify.service.DashboardWarmupService;
+import com.taskify.taskify.service.IntentBucketService;
+import com.taskify.taskify.service.TaskService;
+import com.taskify.taskify.service.impl.DashboardWarmupServiceImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "app.warmup.enabled=true",
+        // The latency comparison replays the first screen many times
+        "rate.limit.api.capacity=100000",
+        "rate.limit.api.refill.tokens=100000"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class DashboardWarmupIntegrationTest {
+
+    private static final Logger log = LoggerFactory.getLogger(DashboardWarmupIntegrationTest.class);
+
+    private static final String USERNAME = "warmupuser";
+    private static final List<String> FIRST_SCREEN = List.of(
+            "/api/v1/day/today", "/api/v1/tasks/focus", "/api/v1/intents/overview", "/api/v1/tasks");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private CacheGenerationRegistry cacheGenerations;
+
+    @Autowired
+    private DashboardWarmupService dashboardWarmupService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private IntentBucketRepository intentBucketRepository;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    private String jwtToken;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        deleteTestData();
+        roleRepository.findByName(SecurityConstants.ROLE_USER)
+                .orElseGet(() -> roleRepository.save(new Role(SecurityConstants.ROLE_USER)));
+
+        mockMvc.perform(post("/api/v1/auth/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(
+                        new RegisterRequest(USERNAME, USERNAME + "@example.com", "password"))))
+                .andExpect(status().isCreated());
+
+        jwtToken = "Bearer " + login().get("token");
+        for (int i = 0; i < 3; i++) {
+            TaskRequest request = new TaskRequest();
+            request.setTitle("Warm-up task " + i);
+            request.setStatus(Status.PENDING);
+            request.setPriority(Priority.HIGH);
+            request.setDueDate(LocalDateTime.now().plusDays(i + 1));
+            mockMvc.perform(post("/api/v1/tasks")
+                    .header("Authorization", jwtToken)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isCreated());
+        }
+        // Let the warm-up started by this login finish before the tests start from cold caches
+        awaitWarmTaskPage();
+        clearCaches();
+    }
+
+    @AfterEach
+    void deleteTestData() {
+        taskRepository.deleteAll();
+        intentBucketRepository.deleteAll();
+        refreshTokenRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void loginShouldWarmTheFirstScreenCaches() throws Exception {
+        login();
+        awaitWarmTaskPage();
+
+        Long userId = userRepository.findByUsername(USERNAME).orElseThrow().getId();
+        assertEquals(1, cachedTaskPages());
+        assertNotNull(cacheManager.getCache("dailyCheckIn").get(USERNAME + "|" + LocalDate.now()));
+        assertNotNull(cacheManager.getCache("intentOverview").get(USERNAME));
+        assertNotNull(cacheManager.getCache("focusTasks").get(List.of(userId, cacheGenerations.current(userId))));
+
+        // The dashboard's own requests hit the warmed entries
+        for (String path : FIRST_SCREEN) {
+            mockMvc.perform(get(path).header("Authorization", jwtToken)).andExpect(status().isOk());
+        }
+        assertEquals(1, cachedTaskPages());
+    }
+
+    @Test
+    void shouldReportFirstScreenLatencyWithAndWithoutWarmUp() throws Exception {
+        int rounds = 15;
+        long[] cold = new long[rounds];
+        long[] warm = new long[rounds];
+        for (int i = 0; i < rounds; i++) {
+            clearCaches();
+            cold[i] = firstScreenNanos();
+
+            clearCaches();
+            dashboardWarmupService.warmUp(USERNAME).get(10, TimeUnit.SECONDS);
+            warm[i] = firstScreenNanos();
+        }
+        log.info("First-screen latency (median of {}): cold {} us, after warm-up {} us", rounds,
+                median(cold) / 1000, median(warm) / 1000);
+        assertEquals(1, cachedTaskPages());
+    }
+
+    @Test
+    void shouldSkipWarmUpWhenTheSystemIsUnderLoad() throws Exception {
+        ConcurrencyLimitFilter limiter = mock(ConcurrencyLimitFilter.class);
+        when(limiter.utilization()).thenReturn(0.9);
+        UserDetailsService userDetailsService = mock(UserDetailsService.class);
+        DailyCheckInService dailyCheckInService = mock(DailyCheckInService.class);
+        TaskService taskService = mock(TaskService.class);
+        IntentBucketService intentBucketService = mock(IntentBucketService.class);
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        DashboardWarmupServiceImpl warmup = new DashboardWarmupServiceImpl(userDetailsService, dailyCheckInService,
+                taskService, intentBucketService, limiter, mock(PlatformTransactionManager.class), meterRegistry,
+                true, 1, 1, 0.5);
+        warmup.warmUp(USERNAME).get(10, TimeUnit.SECONDS);
+
+        assertEquals(1.0, meterRegistry.get("taskify.warmup.skipped").tag("reason", "load").counter().count());
+        verifyNoInteractions(userDetailsService, dailyCheckInService, taskService, intentBucketService);
+    }
+
+    private Map<String, String> login() throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/v1/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new LoginRequest(USERNAME, "password"))))
+                .andExpect(status().isOk())
+                .andReturn();
+        return objectMapper.readValue(result.getResponse().getContentAsString(), new TypeReference<>() {
+        });
+    }
+
+    private long firstScreenNanos() throws Exception {
+        long start = System.nanoTime();
+        for (String path : FIRST_SCREEN) {
+            mockMvc.perform(get(path).header("Authorization", jwtToken)).andExpect(status().isOk());
+        }
+        return System.nanoTime() - start;
+    }
+
+    // The first task page is the warm-up's last view
+    private void awaitWarmTaskPage() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (cachedTaskPages() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+    }
+
+    private long cachedTaskPages() {
+        Cache tasks = ((BroadcastingCache) cacheManager.getCache("tasks")).getTargetCache();
+        com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache =
+                (com.github.benmanes.caffeine.cache.Cache<?, ?>) tasks.getNativeCache();
+        nativeCache.cleanUp();
+        return nativeCache.estimatedSize();
+    }
+
+    private void clearCaches() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+
+    private static long median(long[] samples) {
+        long[] sorted = samples.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+}
@@ -0,0 +1,157 @@
+package com.taskify.taskify.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.JsonPath;
+import com.taskify.taskify.dto.DailyCheckInRequest;
+import com.taskify.taskify.model.IntentBucket;
+import com.taskify.taskify.model.Priority;
+import com.taskify.taskify.model.Status;
+import com.taskify.taskify.model.Task;
+import com.taskify.taskify.model.User;
+import com.taskify.taskify.repository.DailyCheckInStatsRepository;
+import com.taskify.taskify.repository.DailyIntentRepository;
+import com.taskify.taskify.repository.IntentBucketRepository;
+import com.taskify.taskify.repository.TaskRepository;
+import com.taskify.taskify.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Forces refresh-ahead reloads of the aggregate views and checks what the
+ * background reload produced. The reload runs on the refresh executor, outside the
+ * request's transaction and security context, so a reload that lost either would
+ * fail and keep serving the stale value.
+ *
+ * <p>
+ * Data is changed through the repositories, bypassing the services and their
+ * cache evictions, so only a reload can bring the new state into the cache.
+ */
+@SpringBootTest(properties = "app.cache.aggregates.refresh-after-seconds=0")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class RefreshAheadReloadIntegrationTest {
+
+    private static final String USERNAME = "refreshUser";
+    private static final long RELOAD_TIMEOUT_MILLIS = 5_000;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private IntentBucketRepository intentBucketRepository;
+
+    @Autowired
+    private DailyIntentRepository dailyIntentRepository;
+
+    @Autowired
+    private DailyCheckInStatsRepository statsRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        deleteTestData();
+        user = userRepository.save(new User(USERNAME, USERNAME + "@example.com", "password"));
+    }
+
+    @AfterEach
+    void deleteTestData() {
+        dailyIntentRepository.deleteAll();
+        statsRepository.deleteAll();
+        taskRepository.deleteAll();
+        intentBucketRepository.deleteAll();
+        userRepository.findByUsername(USERNAME).ifPresent(userRepository::delete);
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+
+    @Test
+    @WithMockUser(username = USERNAME)
+    void shouldReloadTodayCheckInInTheBackground() throws Exception {
+        Task task = taskRepository.save(newTask("Before reload", null));
+        DailyCheckInRequest checkIn = new DailyCheckInRequest();
+        checkIn.setTaskIds(List.of(task.getId()));
+        mockMvc.perform(post("/api/v1/day/check-in")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(checkIn)))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/day/today"))
+                .andExpect(jsonPath("$.todayTasks[0].title").value("Before reload"));
+
+        task.setTitle("After reload");
+        taskRepository.save(task);
+
+        // Every hit is past the refresh interval: the stale view is served and reloaded
+        assertEquals("After reload", awaitReload("/api/v1/day/today", "$.todayTasks[0].title", "After reload"));
+        mockMvc.perform(get("/api/v1/day/today"))
+                .andExpect(jsonPath("$.todayTasks[0].id").value(task.getId()));
+    }
+
+    @Test
+    @WithMockUser(username = USERNAME)
+    void shouldReloadIntentOverviewInTheBackground() throws Exception {
+        IntentBucket bucket = intentBucketRepository.save(new IntentBucket(user.getId(), "Health", null, null));
+        taskRepository.save(newTask("First", bucket));
+        mockMvc.perform(get("/api/v1/intents/overview"))
+                .andExpect(jsonPath("$.insights[0].totalTasks").value(1));
+
+        taskRepository.save(newTask("Second", bucket));
+
+        assertEquals(2, awaitReload("/api/v1/intents/overview", "$.insights[0].totalTasks", 2));
+        mockMvc.perform(get("/api/v1/intents/overview"))
+                .andExpect(jsonPath("$.insights[0].id").value(bucket.getId()))
+                .andExpect(jsonPath("$.insights[0].focusPrevalence").value(1.0));
+    }
+
+    private Task newTask(String title, IntentBucket bucket) {
+        Task task = new Task(title, "Desc", Status.PENDING, Priority.HIGH, LocalDateTime.now().plusDays(1), user);
+        task.setIntentBucket(bucket);
+        return task;
+    }
+
+    private Object awaitReload(String path, String jsonPath, Object expected) throws Exception {
+        long deadline = System.currentTimeMillis() + RELOAD_TIMEOUT_MILLIS;
+        Object value;
+        do {
+            String body = mockMvc.perform(get(path))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            value = JsonPath.read(body, jsonPath);
+            if (Objects.equals(expected, value)) {
+                return value;
+            }
+            Thread.sleep(20);
+        } while (System.currentTimeMillis() < deadline);
+        return value;
+    }
+}
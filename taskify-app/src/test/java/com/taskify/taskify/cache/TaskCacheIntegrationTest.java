@@ -0,0 +1,327 @@
+package com.taskify.taskify.cache;
+
+import com.taskify.taskify.config.CacheGenerationRegistry;
+import com.taskify.taskify.config.TaskCacheKeyGenerator;
+import com.taskify.taskify.config.TaskListCacheKey;
+import com.taskify.taskify.dto.TaskRequest;
+import com.taskify.taskify.dto.TaskResponse;
+import com.taskify.taskify.model.*;
+import com.taskify.taskify.repository.IntentBucketRepository;
+import com.taskify.taskify.repository.RefreshTokenRepository;
+import com.taskify.taskify.repository.RoleRepository;
+import com.taskify.taskify.repository.TaskRepository;
+import com.taskify.taskify.repository.UserRepository;
+import com.taskify.taskify.security.SecurityConstants;
+import com.taskify.taskify.service.IntentBucketService;
+import com.taskify.taskify.service.TaskService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class TaskCacheIntegrationTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private CacheGenerationRegistry cacheGenerations;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private IntentBucketService intentBucketService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private IntentBucketRepository intentBucketRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private User user1;
+    private User user2;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository.deleteAll();
+        intentBucketRepository.deleteAll();
+        refreshTokenRepository.deleteAll();
+        userRepository.deleteAll();
+
+        // Clear caches
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+
+        Role userRole = roleRepository.findByName(SecurityConstants.ROLE_USER)
+                .orElseGet(() -> roleRepository.save(new Role(SecurityConstants.ROLE_USER)));
+
+        Role adminRole = roleRepository.findByName(SecurityConstants.ROLE_ADMIN)
+                .orElseGet(() -> roleRepository.save(new Role(SecurityConstants.ROLE_ADMIN)));
+
+        user1 = new User("user1", "user1@example.com", "password");
+        user1.setRoles(Set.of(userRole));
+        user1 = userRepository.save(user1);
+
+        user2 = new User("user2", "user2@example.com", "password");
+        user2.setRoles(Set.of(userRole));
+        user2 = userRepository.save(user2);
+
+        User adminUser = new User("adminuser", "admin@example.com", "password");
+        adminUser.setRoles(Set.of(adminRole));
+        userRepository.save(adminUser);
+    }
+
+    @Test
+    @WithMockUser(username = "user1", roles = "USER")
+    void shouldCacheAndInvalidateTaskDetails() {
+        Task task = new Task("Task 1", "Desc", Status.PENDING, Priority.MEDIUM, LocalDateTime.now().plusDays(1), user1);
+        task = taskRepository.save(task);
+        Long taskId = task.getId();
+
+        // First call - should populate cache
+        taskService.getTaskById(taskId);
+        Cache detailCache = cacheManager.getCache("taskDetails");
+        assertNotNull(detailCache.get(taskId));
+
+        // Update task - should invalidate cache
+        TaskRequest updateRequest = new TaskRequest();
+        updateRequest.setTitle("Updated Task");
+        updateRequest.setStatus(Status.IN_PROGRESS);
+        taskService.updateTask(taskId, updateRequest);
+
+        assertNull(detailCache.get(taskId));
+
+        // Second call - should re-populate
+        taskService.getTaskById(taskId);
+        assertNotNull(detailCache.get(taskId));
+    }
+
+    @Test
+    @WithMockUser(username = "user1", roles = "USER")
+    void shouldKeepOtherDetailsCachedAcrossSingleTaskWrites() {
+        Task edited = taskRepository.save(new Task("Edited", "Desc", Status.PENDING, Priority.MEDIUM,
+                LocalDateTime.now().plusDays(1), user1));
+        Task untouched = taskRepository.save(new Task("Untouched", "Desc", Status.PENDING, Priority.MEDIUM,
+                LocalDateTime.now().plusDays(1), user1));
+        taskService.getTaskById(edited.getId());
+        taskService.getTaskById(untouched.getId());
+        long listGeneration = cacheGenerations.current(user1.getId());
+        long detailGeneration = cacheGenerations.currentDetails(user1.getId());
+
+        TaskRequest updateRequest = new TaskRequest();
+        updateRequest.setTitle("Edited again");
+        updateRequest.setStatus(Status.IN_PROGRESS);
+        taskService.updateTask(edited.getId(), updateRequest);
+
+        // The write moves the list generation and evicts only its own detail
+        assertEquals(listGeneration + 1, cacheGenerations.current(user1.getId()));
+        assertEquals(detailGeneration, cacheGenerations.currentDetails(user1.getId()));
+        Cache detailCache = cacheManager.getCache("taskDetails");
+        assertNull(detailCache.get(edited.getId()));
+
+        // A change behind the service's back proves the untouched detail is still a hit
+        untouched.setTitle("Changed directly");
+        taskRepository.save(untouched);
+        assertEquals("Untouched", taskService.getTaskById(untouched.getId()).getTitle());
+    }
+
+    @Test
+    @WithMockUser(username = "user1", roles = "USER")
+    void shouldCacheAndInvalidateTaskLists() {
+        long initialGeneration = cacheGenerations.current(user1.getId());
+        taskService.getAllTasks(null, null, null, null, null, null, null, null, false, PageRequest.of(0, 10));
+
+        // Reading a list must not advance the generation
+        assertEquals(initialGeneration, cacheGenerations.current(user1.getId()));
+        assertEquals(1, listCacheKeys().size());
+
+        // A blank keyword normalizes to "no keyword" and hits the same entry
+        taskService.getAllTasks(null, null, null, null, null, null, null, " ", false, PageRequest.of(0, 10));
+        assertEquals(1, listCacheKeys().size());
+
+        // Create a task - should increment version
+        TaskRequest createRequest = new TaskRequest();
+        createRequest.setTitle("New Task");
+        createRequest.setStatus(Status.PENDING);
+        createRequest.setPriority(Priority.MEDIUM);
+        taskService.createTask(createRequest);
+
+        assertEquals(initialGeneration + 1, cacheGenerations.current(user1.getId()));
+
+        // The next read is keyed on the new generation, so the stale page is not served
+        taskService.getAllTasks(null, null, null, null, null, null, null, null, false, PageRequest.of(0, 10));
+        assertEquals(Set.of(initialGeneration, initialGeneration + 1), listCacheKeys().stream()
+                .map(TaskListCacheKey::generation)
+                .collect(Collectors.toSet()));
+    }
+
+    @Test
+    @WithMockUser(username = "user1", roles = "USER")
+    void shouldMaintainUserIsolationInCache() {
+        // user1 populates list cache
+        taskService.getAllTasks(null, null, null, null, null, null, null, null, false, PageRequest.of(0, 10));
+
+        TaskListCacheKey key = listCacheKeys().iterator().next();
+        assertEquals(user1.getId(), key.userId());
+
+        // We can't use @WithMockUser twice in one method easily,
+        // but we can verify that user1's writes leave user2's generation alone
+        long user2Generation = cacheGenerations.current(user2.getId());
+        TaskRequest createRequest = new TaskRequest();
+        createRequest.setTitle("New Task");
+        createRequest.setStatus(Status.PENDING);
+        createRequest.setPriority(Priority.MEDIUM);
+        taskService.createTask(createRequest);
+        assertEquals(user2Generation, cacheGenerations.current(user2.getId()));
+    }
+
+    @Test
+    @WithMockUser(username = "user1", roles = "USER")
+    void shouldDeleteIntentBucketWithoutFlushingOtherUsersLists() {
+        IntentBucket bucket = intentBucketRepository.save(new IntentBucket(user1.getId(), "Errands", null, null));
+        Task task = new Task("Groceries", "Desc", Status.PENDING, Priority.MEDIUM, LocalDateTime.now().plusDays(1),
+                user1);
+        task.setIntentBucket(bucket);
+        Long taskId = taskRepository.save(task).getId();
+
+        // Outside a request there is no open session to map the lazy bucket in
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        assertEquals("Errands", readOnly.execute(status -> taskService.getTaskById(taskId)).getIntentBucketName());
+        Authentication owner = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken("user2", null,
+                List.of(new SimpleGrantedAuthority(SecurityConstants.ROLE_USER))));
+        taskService.getAllTasks(null, null, null, null, null, null, null, null, false, PageRequest.of(0, 10));
+        SecurityContextHolder.getContext().setAuthentication(owner);
+        long ownerGeneration = cacheGenerations.current(user1.getId());
+
+        intentBucketService.deleteIntent(bucket.getId());
+
+        // Only the owner's generation moves; other users' pages stay cached
+        assertEquals(ownerGeneration + 1, cacheGenerations.current(user1.getId()));
+        assertTrue(listCacheKeys().stream().anyMatch(key -> key.userId() == user2.getId()));
+
+        // The detail cached before the delete no longer matches the generation
+        TaskResponse detail = readOnly.execute(status -> taskService.getTaskById(taskId));
+        assertNull(detail.getIntentBucketId());
+        assertEquals(task.getVersion() + 1, taskRepository.findById(taskId).orElseThrow().getVersion().intValue());
+    }
+
+    @Test
+    void shouldNotLoseConcurrentGenerationAdvances() {
+        long userId = user1.getId();
+        long before = cacheGenerations.current(userId);
+        long globalBefore = cacheGenerations.currentGlobal();
+
+        int threads = 8;
+        int advancesPerThread = 500;
+        CountDownLatch start = new CountDownLatch(1);
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            futures.add(CompletableFuture.runAsync(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                for (int j = 0; j < advancesPerThread; j++) {
+                    cacheGenerations.advance(userId);
+                }
+            }));
+        }
+        start.countDown();
+        futures.forEach(CompletableFuture::join);
+
+        assertEquals(before + threads * advancesPerThread, cacheGenerations.current(userId));
+        assertTrue(cacheGenerations.currentGlobal() >= globalBefore + threads * advancesPerThread);
+    }
+
+    @Test
+    @WithMockUser(username = "user1", roles = "USER")
+    void shouldAnswerNotModifiedUntilTasksChange() throws Exception {
+        String eTag = mockMvc.perform(get("/api/v1/tasks"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "no-cache, private"))
+                .andReturn().getResponse().getHeader("ETag");
+        assertNotNull(eTag);
+
+        mockMvc.perform(get("/api/v1/tasks").header("If-None-Match", eTag))
+                .andExpect(status().isNotModified());
+
+        // MockMvc clears the test thread's security context, so write through the API too
+        mockMvc.perform(post("/api/v1/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\":\"New Task\",\"status\":\"PENDING\",\"priority\":\"MEDIUM\"}"))
+                .andExpect(status().isCreated());
+
+        String newETag = mockMvc.perform(get("/api/v1/tasks").header("If-None-Match", eTag))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+        assertNotEquals(eTag, newETag);
+    }
+
+    @Test
+    @WithMockUser(username = "adminuser", roles = "ADMIN")
+    void adminShouldHaveSeparateCacheKey() {
+        taskService.getAllTasks(null, null, null, null, null, null, null, null, false, PageRequest.of(0, 10));
+
+        TaskListCacheKey key = listCacheKeys().iterator().next();
+        assertEquals(TaskCacheKeyGenerator.ROLE_ADMIN_BIT, key.roleBits());
+    }
+
+    @SuppressWarnings("unchecked")
+    private Set<TaskListCacheKey> listCacheKeys() {
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache =
+                (com.github.benmanes.caffeine.cache.Cache<Object, Object>) cacheManager.getCache("tasks")
+                        .getNativeCache();
+        return nativeCache.asMap().keySet().stream()
+                .map(TaskListCacheKey.class::cast)
+                .collect(Collectors.toSet());
+    }
+}
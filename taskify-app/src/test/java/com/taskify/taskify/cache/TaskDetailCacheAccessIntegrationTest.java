@@ -0,0 +1,181 @@
+package com.taskify.taskify.cache;
+
+import com.taskify.taskify.dto.TaskResponse;
+import com.taskify.taskify.model.*;
+import com.taskify.taskify.repository.RefreshTokenRepository;
+import com.taskify.taskify.repository.RoleRepository;
+import com.taskify.taskify.repository.TaskRepository;
+import com.taskify.taskify.repository.UserRepository;
+import com.taskify.taskify.security.SecurityConstants;
+import com.taskify.taskify.security.TaskifyUserDetails;
+import com.taskify.taskify.service.TaskService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class TaskDetailCacheAccessIntegrationTest {
+
+    private static final int READERS = 12;
+    private static final int READS_PER_READER = 50;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    private User owner;
+    private User otherUser;
+    private User admin;
+    private Long taskId;
+
+    @BeforeEach
+    void setUp() {
+        deleteTestData();
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+
+        Role userRole = roleRepository.findByName(SecurityConstants.ROLE_USER)
+                .orElseGet(() -> roleRepository.save(new Role(SecurityConstants.ROLE_USER)));
+        Role adminRole = roleRepository.findByName(SecurityConstants.ROLE_ADMIN)
+                .orElseGet(() -> roleRepository.save(new Role(SecurityConstants.ROLE_ADMIN)));
+
+        owner = saveUser("detailowner", userRole);
+        otherUser = saveUser("detailother", userRole);
+        admin = saveUser("detailadmin", adminRole);
+
+        taskId = taskRepository.save(new Task("Private Task", "Owner only", Status.PENDING, Priority.HIGH,
+                LocalDateTime.now().plusDays(1), owner)).getId();
+    }
+
+    @AfterEach
+    void deleteTestData() {
+        SecurityContextHolder.clearContext();
+        taskRepository.deleteAll();
+        refreshTokenRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    private User saveUser(String username, Role role) {
+        User user = new User(username, username + "@example.com", "password");
+        user.setRoles(Set.of(role));
+        return userRepository.save(user);
+    }
+
+    @Test
+    void shouldNotCacheDetailsForDeniedReader() {
+        runAs(principal(otherUser, SecurityConstants.ROLE_USER));
+        assertThrows(AccessDeniedException.class, () -> taskService.getTaskById(taskId));
+        assertNull(cacheManager.getCache("taskDetails").get(taskId));
+
+        runAs(principal(owner, SecurityConstants.ROLE_USER));
+        assertEquals("Private Task", taskService.getTaskById(taskId).getTitle());
+        assertNotNull(cacheManager.getCache("taskDetails").get(taskId));
+
+        // A hit is still checked against the caller
+        runAs(principal(otherUser, SecurityConstants.ROLE_USER));
+        assertThrows(AccessDeniedException.class, () -> taskService.getTaskById(taskId));
+    }
+
+    @Test
+    void shouldEnforceOwnershipOnCacheHitsUnderConcurrentReaders() throws Exception {
+        // Warm the cache as the owner so every read below is a hit
+        runAs(principal(owner, SecurityConstants.ROLE_USER));
+        taskService.getTaskById(taskId);
+        SecurityContextHolder.clearContext();
+
+        List<Authentication> readers = List.of(
+                principal(owner, SecurityConstants.ROLE_USER),
+                principal(otherUser, SecurityConstants.ROLE_USER),
+                principal(admin, SecurityConstants.ROLE_ADMIN),
+                // Principals without an id take the username lookup path
+                new UsernamePasswordAuthenticationToken(otherUser.getUsername(), null,
+                        List.of(new SimpleGrantedAuthority(SecurityConstants.ROLE_USER))));
+
+        Queue<String> violations = new ConcurrentLinkedQueue<>();
+        ExecutorService executor = Executors.newFixedThreadPool(READERS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < READERS; i++) {
+                Authentication reader = readers.get(i % readers.size());
+                boolean allowed = i % readers.size() == 0 || i % readers.size() == 2;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    runAs(reader);
+                    try {
+                        for (int j = 0; j < READS_PER_READER; j++) {
+                            try {
+                                TaskResponse response = taskService.getTaskById(taskId);
+                                if (!allowed) {
+                                    violations.add(reader.getName() + " read " + response.getTitle());
+                                }
+                            } catch (AccessDeniedException e) {
+                                if (allowed) {
+                                    violations.add(reader.getName() + " was denied");
+                                }
+                            }
+                        }
+                    } finally {
+                        SecurityContextHolder.clearContext();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertTrue(violations.isEmpty(), () -> "Access violations: " + violations);
+    }
+
+    private static Authentication principal(User user, String role) {
+        TaskifyUserDetails principal = new TaskifyUserDetails(user.getId(), user.getUsername(), "",
+                List.of(new SimpleGrantedAuthority(role)));
+        return new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+    }
+
+    private static void runAs(Authentication authentication) {
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+    }
+}
@@ -0,0 +1,148 @@
+package com.taskify.taskify.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RefreshAheadCacheTest {
+
+    private final ExecutorService reloadExecutor = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    void tearDown() {
+        reloadExecutor.shutdownNow();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void shouldLoadAColdKeyOnceForConcurrentCallers() throws Exception {
+        RefreshAheadCache cache = newCache(Duration.ofMinutes(1));
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        Callable<String> loader = () -> {
+            loads.incrementAndGet();
+            Thread.sleep(50);
+            return "overview";
+        };
+
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(callers.submit(() -> {
+                    start.await();
+                    return cache.get("alice", loader);
+                }));
+            }
+            start.countDown();
+            for (Future<String> result : results) {
+                assertEquals("overview", result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void shouldServeTheStaleValueWhileOneReloadRuns() throws Exception {
+        RefreshAheadCache cache = newCache(Duration.ZERO);
+        cache.put("alice", "v1");
+
+        AtomicInteger reloads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        Callable<String> loader = () -> {
+            reloads.incrementAndGet();
+            release.await(5, TimeUnit.SECONDS);
+            return "v2";
+        };
+
+        // Every hit is stale, but only the first starts a reload
+        for (int i = 0; i < 5; i++) {
+            assertEquals("v1", cache.get("alice", loader));
+        }
+        release.countDown();
+        awaitValue(cache, "alice", "v2");
+        assertEquals(1, reloads.get());
+    }
+
+    @Test
+    void shouldNotRepopulateAnEntryEvictedDuringItsReload() throws Exception {
+        RefreshAheadCache cache = newCache(Duration.ZERO);
+        cache.put("alice", "v1");
+
+        CountDownLatch reloading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        assertEquals("v1", cache.get("alice", () -> {
+            reloading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return "stale reload";
+        }));
+
+        assertTrue(reloading.await(5, TimeUnit.SECONDS));
+        cache.evict("alice");
+        release.countDown();
+        reloadExecutor.submit(() -> null).get(5, TimeUnit.SECONDS);
+
+        assertNull(cache.get("alice"));
+    }
+
+    @Test
+    void shouldKeepTheStaleValueAndRetryAfterAFailedReload() throws Exception {
+        RefreshAheadCache cache = newCache(Duration.ZERO);
+        cache.put("alice", "v1");
+
+        assertEquals("v1", cache.get("alice", () -> {
+            throw new IllegalStateException("database unavailable");
+        }));
+        reloadExecutor.submit(() -> null).get(5, TimeUnit.SECONDS);
+        assertEquals("v1", cache.get("alice").get());
+
+        assertEquals("v1", cache.get("alice", () -> "v2"));
+        awaitValue(cache, "alice", "v2");
+    }
+
+    @Test
+    void shouldReloadWithTheCallersSecurityContext() throws Exception {
+        RefreshAheadCache cache = newCache(Duration.ZERO);
+        cache.put("alice", "nobody");
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("alice", null, List.of()));
+
+        cache.get("alice", () -> SecurityContextHolder.getContext().getAuthentication().getName());
+
+        awaitValue(cache, "alice", "alice");
+    }
+
+    private RefreshAheadCache newCache(Duration refreshAfter) {
+        return new RefreshAheadCache("intentOverview", Caffeine.newBuilder().build(), refreshAfter,
+                reloadExecutor, TransactionOperations.withoutTransaction());
+    }
+
+    private static void awaitValue(RefreshAheadCache cache, Object key, Object expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            if (cache.get(key) != null && expected.equals(cache.get(key).get())) {
+                return;
+            }
+            Thread.sleep(10);
+        }
+        fail("Cache never held " + expected + " for " + key);
+    }
+}
@@ -0,0 +1,382 @@
+package com.taskify.taskify.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskify.taskify.dto.DailyCheckInRequest;
+import com.taskify.taskify.dto.TaskRequest;
+import com.taskify.taskify.model.*;
+import com.taskify.taskify.repository.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+public class DailyCheckInIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DailyIntentRepository dailyIntentRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private DailyCheckInStatsRepository statsRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private org.springframework.cache.CacheManager cacheManager;
+
+    @Autowired
+    private io.micrometer.core.instrument.MeterRegistry meterRegistry;
+
+    @Autowired
+    private org.springframework.jdbc.core.JdbcTemplate jdbcTemplate;
+
+    @jakarta.persistence.PersistenceContext
+    private jakarta.persistence.EntityManager entityManager;
+
+    private User testUser;
+    private Task task1;
+    private Task task2;
+
+    @BeforeEach
+    void setUp() {
+        testUser = userRepository.findByUsername("checkinUser").orElseGet(() -> {
+            User user = new User();
+            user.setUsername("checkinUser");
+            user.setEmail("checkin@example.com");
+            user.setPassword("password");
+            return userRepository.save(user);
+        });
+
+        taskRepository.deleteAll();
+        dailyIntentRepository.deleteAll();
+        statsRepository.deleteAll();
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+
+        task1 = createTask("Task 1", Status.PENDING, testUser);
+        task2 = createTask("Task 2", Status.IN_PROGRESS, testUser);
+    }
+
+    private Task createTask(String title, Status status, User owner) {
+        Task task = new Task(title, "Desc", status, Priority.MEDIUM, LocalDateTime.now().plusDays(1), owner);
+        return taskRepository.save(task);
+    }
+
+    @Test
+    @WithMockUser(username = "checkinUser")
+    void shouldCreateDailyCheckIn() throws Exception {
+        DailyCheckInRequest request = new DailyCheckInRequest();
+        request.setTaskIds(List.of(task1.getId()));
+        request.setNote("Today's focus");
+
+        mockMvc.perform(post("/api/v1/day/check-in")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.note").value("Today's focus"))
+                .andExpect(jsonPath("$.todayTasks", hasSize(1)))
+                .andExpect(jsonPath("$.todayTasks[0].id").value(task1.getId()));
+    }
+
+    @Test
+    @WithMockUser(username = "checkinUser")
+    void shouldReflectTaskWritesInTheCachedTodayView() throws Exception {
+        DailyCheckInRequest checkIn = new DailyCheckInRequest();
+        checkIn.setTaskIds(List.of(task1.getId()));
+        mockMvc.perform(post("/api/v1/day/check-in")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(checkIn)))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/day/today"))
+                .andExpect(jsonPath("$.todayTasks[0].title").value("Task 1"));
+
+        TaskRequest rename = new TaskRequest();
+        rename.setTitle("Task 1 renamed");
+        rename.setStatus(Status.PENDING);
+        rename.setDueDate(LocalDateTime.now().plusDays(1));
+        mockMvc.perform(put("/api/v1/tasks/" + task1.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(rename)))
+                .andExpect(status().isOk());
+
+        // The task write evicted the check-in entry built from it
+        mockMvc.perform(get("/api/v1/day/today"))
+                .andExpect(jsonPath("$.todayTasks[0].title").value("Task 1 renamed"));
+    }
+
+    @Test
+    @WithMockUser(username = "checkinUser")
+    void shouldReturnTheComposedViewFromCheckInWithoutRecordingFocusUsage() throws Exception {
+        DailyIntent yesterdayIntent = new DailyIntent();
+        yesterdayIntent.setUserId(testUser.getId());
+        yesterdayIntent.setDate(LocalDate.now().minusDays(1));
+        yesterdayIntent.setTaskIds(List.of(task1.getId()));
+        dailyIntentRepository.save(yesterdayIntent);
+        double focusUsage = meterRegistry.counter("taskify.tasks.focus_mode_usage").count();
+
+        DailyCheckInRequest request = new DailyCheckInRequest();
+        request.setTaskIds(List.of(task2.getId(), task1.getId()));
+        mockMvc.perform(post("/api/v1/day/check-in")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.todayTasks[*].id", contains((int) task2.getId(), (int) task1.getId())))
+                .andExpect(jsonPath("$.carryoverTasks[0].id").value(task1.getId()))
+                .andExpect(jsonPath("$.suggestedTasks", hasSize(2)));
+
+        mockMvc.perform(get("/api/v1/day/today"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.todayTasks", hasSize(2)));
+
+        // Suggestions inside the check-in view are not focus mode usage
+        org.junit.jupiter.api.Assertions.assertEquals(focusUsage,
+                meterRegistry.counter("taskify.tasks.focus_mode_usage").count());
+    }
+
+    @Test
+    @WithMockUser(username = "checkinUser")
+    void shouldStoreTaskIdsPackedInTheIntentRow() throws Exception {
+        DailyCheckInRequest request = new DailyCheckInRequest();
+        request.setTaskIds(List.of(task1.getId()));
+        mockMvc.perform(post("/api/v1/day/check-in")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk());
+
+        request.setTaskIds(List.of(task2.getId(), task1.getId()));
+        mockMvc.perform(post("/api/v1/day/check-in")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk());
+        dailyIntentRepository.flush();
+
+        // One row, two 8-byte ids, in the order they were chosen
+        byte[] packed = jdbcTemplate.queryForObject(
+                "SELECT task_ids FROM daily_intents WHERE user_id = ?", byte[].class, testUser.getId());
+        org.junit.jupiter.api.Assertions.assertEquals(2 * Long.BYTES, packed.length);
+        org.junit.jupiter.api.Assertions.assertEquals(List.of(task2.getId(), task1.getId()),
+                dailyIntentRepository.findByUserIdAndDate(testUser.getId(), LocalDate.now())
+                        .orElseThrow().getTaskIds());
+    }
+
+    @Test
+    @WithMockUser(username = "checkinUser")
+    void shouldReturnEmptyIntentWhenMissingButStillShowSuggestions() throws Exception {
+        mockMvc.perform(get("/api/v1/day/today"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.note").isEmpty())
+                .andExpect(jsonPath("$.todayTasks", hasSize(0)))
+                .andExpect(jsonPath("$.suggestedTasks", not(empty())));
+    }
+
+    @Test
+    @WithMockUser(username = "checkinUser")
+    void shouldCarryOverUnfinishedTasksFromYesterday() throws Exception {
+        // Create yesterday's intent
+        DailyIntent yesterdayIntent = new DailyIntent();
+        yesterdayIntent.setUserId(testUser.getId());
+        yesterdayIntent.setDate(LocalDate.now().minusDays(1));
+        yesterdayIntent.setTaskIds(List.of(task1.getId(), task2.getId()));
+        dailyIntentRepository.save(yesterdayIntent);
+
+        // Mark task 2 as completed
+        task2.setStatus(Status.COMPLETED);
+        taskRepository.save(task2);
+
+        mockMvc.perform(get("/api/v1/day/today"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.carryoverTasks", hasSize(1)))
+                .andExpect(jsonPath("$.carryoverTasks[0].id").value(task1.getId()));
+    }
+
+    @Test
+    @WithMockUser(username = "checkinUser")
+    void shouldNotCarryOverTasksFromMoreThanOneDayAgo() throws Exception {
+        DailyIntent oldIntent = new DailyIntent();
+        oldIntent.setUserId(testUser.getId());
+        oldIntent.setDate(LocalDate.now().minusDays(2));
+        oldIntent.setTaskIds(List.of(task1.getId()));
+        dailyIntentRepository.save(oldIntent);
+
+        mockMvc.perform(get("/api/v1/day/today"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.carryoverTasks", hasSize(0)));
+    }
+
+    @Test
+    @WithMockUser(username = "checkinUser")
+    void shouldTrackHistoryAndStreaksIncrementally() throws Exception {
+        LocalDate today = LocalDate.now();
+        statsRepository.save(new DailyCheckInStats(testUser.getId(), today.minusDays(5), 7));
+        statsRepository.save(new DailyCheckInStats(testUser.getId(), today.minusDays(1), 2));
+        DailyIntent yesterdayIntent = new DailyIntent();
+        yesterdayIntent.setUserId(testUser.getId());
+        yesterdayIntent.setDate(today.minusDays(1));
+        yesterdayIntent.setTaskIds(List.of(task1.getId()));
+        dailyIntentRepository.save(yesterdayIntent);
+
+        DailyCheckInRequest request = new DailyCheckInRequest();
+        request.setTaskIds(List.of(task1.getId(), task2.getId()));
+        mockMvc.perform(post("/api/v1/day/check-in")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk());
+
+        TaskRequest complete = new TaskRequest();
+        complete.setTitle("Task 2");
+        complete.setStatus(Status.COMPLETED);
+        complete.setDueDate(LocalDateTime.now().plusDays(1));
+        mockMvc.perform(put("/api/v1/tasks/" + task2.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(complete)))
+                .andExpect(status().isOk());
+        // Outside this test's transaction each request starts with a fresh persistence context
+        entityManager.clear();
+
+        mockMvc.perform(get("/api/v1/day/history")
+                .param("from", today.minusDays(2).toString())
+                .param("to", today.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.currentStreak").value(3))
+                .andExpect(jsonPath("$.longestStreak").value(7))
+                .andExpect(jsonPath("$.days", hasSize(2)))
+                .andExpect(jsonPath("$.days[1].date").value(today.toString()))
+                .andExpect(jsonPath("$.days[1].plannedTasks").value(2))
+                .andExpect(jsonPath("$.days[1].completedTasks").value(1))
+                .andExpect(jsonPath("$.days[1].carriedOverTasks").value(1))
+                .andExpect(jsonPath("$.days[1].carryoverRate").value(0.5));
+
+        mockMvc.perform(get("/api/v1/day/history")
+                .param("from", today.minusYears(2).toString()))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser(username = "checkinUser")
+    void shouldUncountDeletedCompletedTasksFromToday() throws Exception {
+        Task done = createTask("Done", Status.COMPLETED, testUser);
+        DailyCheckInRequest request = new DailyCheckInRequest();
+        request.setTaskIds(List.of(task1.getId(), done.getId()));
+        mockMvc.perform(post("/api/v1/day/check-in")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(delete("/api/v1/tasks/" + task1.getId()))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(delete("/api/v1/tasks/" + done.getId()))
+                .andExpect(status().isNoContent());
+        entityManager.clear();
+
+        DailyCheckInStats stats = statsRepository.findByUserIdAndDate(testUser.getId(), LocalDate.now())
+                .orElseThrow();
+        assertEquals(2, stats.getPlannedTasks());
+        assertEquals(0, stats.getCompletedTasks());
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void shouldAcceptConcurrentFirstCheckInsOfTheDay() throws Exception {
+        DailyCheckInRequest request = new DailyCheckInRequest();
+        request.setTaskIds(List.of(task1.getId(), task2.getId()));
+        String body = objectMapper.writeValueAsString(request);
+
+        int clients = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+        try {
+            List<Future<Integer>> statuses = new ArrayList<>();
+            for (int i = 0; i < clients; i++) {
+                Callable<Integer> checkIn = () -> {
+                    start.await();
+                    return mockMvc.perform(post("/api/v1/day/check-in")
+                            .with(user("checkinUser"))
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(body))
+                            .andReturn().getResponse().getStatus();
+                };
+                statuses.add(executor.submit(checkIn));
+            }
+            start.countDown();
+            for (Future<Integer> status : statuses) {
+                assertEquals(200, status.get());
+            }
+
+            assertEquals(1, dailyIntentRepository.findByUserIdAndDateIn(testUser.getId(),
+                    List.of(LocalDate.now())).size());
+            DailyCheckInStats stats = statsRepository.findByUserIdAndDate(testUser.getId(), LocalDate.now())
+                    .orElseThrow();
+            assertEquals(2, stats.getPlannedTasks());
+        } finally {
+            executor.shutdownNow();
+            dailyIntentRepository.deleteAll();
+            statsRepository.deleteAll();
+            taskRepository.deleteAll();
+        }
+    }
+
+    @Test
+    @WithMockUser(username = "checkinUser")
+    void shouldEnforceTaskOwnershipOnCheckIn() throws Exception {
+        User otherUser = userRepository.save(new User("other", "other@ex.com", "pass"));
+        Task otherTask = createTask("Other task", Status.PENDING, otherUser);
+
+        DailyCheckInRequest request = new DailyCheckInRequest();
+        request.setTaskIds(List.of(otherTask.getId()));
+
+        mockMvc.perform(post("/api/v1/day/check-in")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @WithMockUser(username = "checkinUser")
+    void shouldValidateTaskCount() throws Exception {
+        DailyCheckInRequest request = new DailyCheckInRequest();
+        request.setTaskIds(List.of(1L, 2L, 3L, 4L)); // Too many
+
+        mockMvc.perform(post("/api/v1/day/check-in")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -1,5 +1,7 @@
 package com.taskify.taskify.controller;
 
+import com.taskify.taskify.config.CacheGenerationRegistry;
+import com.taskify.taskify.dto.TaskResponse;
 import com.taskify.taskify.model.*;
 import com.taskify.taskify.repository.RoleRepository;
 import com.taskify.taskify.repository.TaskRepository;
@@ -10,6 +12,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
@@ -17,8 +20,10 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Set;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.hasSize;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -42,6 +47,12 @@ public class FocusModeIntegrationTest {
     @Autowired
     private RoleRepository roleRepository;
 
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private CacheGenerationRegistry cacheGenerations;
+
     private User testUser;
 
     @BeforeEach
@@ -58,6 +69,7 @@ public class FocusModeIntegrationTest {
         });
 
         taskRepository.deleteAll();
+        cacheManager.getCache("focusTasks").clear();
 
         // 1. Overdue task (Priority: Highest urgency)
         createTask("Overdue Task", Status.PENDING, Priority.MEDIUM, LocalDateTime.now().minusDays(1), testUser);
@@ -113,4 +125,25 @@ public class FocusModeIntegrationTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$", hasSize(0)));
     }
+
+    @Test
+    @WithMockUser(username = "focusUser", roles = "USER")
+    public void focusModeCachesSelectionAndExplainsOnEveryRead() throws Exception {
+        mockMvc.perform(get("/api/v1/tasks/focus")
+                .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].explanation").value("Overdue by 1 days and high priority"));
+
+        // The cached selection holds no clock-dependent text
+        List<Long> key = List.of(testUser.getId(), cacheGenerations.current(testUser.getId()));
+        @SuppressWarnings("unchecked")
+        List<TaskResponse> cached = cacheManager.getCache("focusTasks").get(key, List.class);
+        assertThat(cached).hasSize(5).extracting(TaskResponse::getExplanation).containsOnlyNulls();
+
+        // Served from the cache, explained again
+        mockMvc.perform(get("/api/v1/tasks/focus")
+                .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].explanation").value("Overdue by 1 days and high priority"));
+    }
 }
@@ -1,5 +1,6 @@
 package com.taskify.taskify.controller;
 
+import com.taskify.taskify.config.CacheGenerationRegistry;
 import com.taskify.taskify.dto.TaskReviewResponse;
 import com.taskify.taskify.model.AuditAction;
 import com.taskify.taskify.model.AuditLog;
@@ -56,6 +57,9 @@ public class TaskReviewIntegrationTest {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private CacheGenerationRegistry cacheGenerations;
+
     private User testUser;
 
     @BeforeEach
@@ -125,6 +129,25 @@ public class TaskReviewIntegrationTest {
                         jsonPath("$.insights", hasItem("Great velocity! You're clearing your backlog effectively.")));
     }
 
+    @Test
+    @WithMockUser(username = "reviewer")
+    void shouldServeCachedReviewUntilTheTaskListGenerationMoves() throws Exception {
+        createTask("Task 1", LocalDateTime.now().minusDays(1));
+
+        mockMvc.perform(get("/api/v1/tasks/review"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.summary.createdTasks").value(1));
+
+        // Written behind the service's back, so nothing advanced the generation
+        createTask("Task 2", LocalDateTime.now().minusDays(1));
+        mockMvc.perform(get("/api/v1/tasks/review"))
+                .andExpect(jsonPath("$.summary.createdTasks").value(1));
+
+        cacheGenerations.advance(testUser.getId());
+        mockMvc.perform(get("/api/v1/tasks/review"))
+                .andExpect(jsonPath("$.summary.createdTasks").value(2));
+    }
+
     private void createTask(String title, LocalDateTime createdAt) {
         Task task = new Task();
         task.setTitle(title);
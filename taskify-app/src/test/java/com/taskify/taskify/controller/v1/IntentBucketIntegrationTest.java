@@ -2,6 +2,7 @@ package com.taskify.taskify.controller.v1;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.taskify.taskify.dto.IntentBucketRequest;
+import com.taskify.taskify.dto.TaskRequest;
 import com.taskify.taskify.model.*;
 import com.taskify.taskify.repository.IntentBucketRepository;
 import com.taskify.taskify.repository.RoleRepository;
@@ -105,6 +106,35 @@ public class IntentBucketIntegrationTest {
                                 .andExpect(jsonPath("$[0].name").value("Career Growth"));
         }
 
+        @Test
+        @WithMockUser(username = "user1", roles = "USER")
+        void shouldReplayIntentCreationForRepeatedIdempotencyKey() throws Exception {
+                IntentBucketRequest request = new IntentBucketRequest();
+                request.setName("Health");
+                String body = objectMapper.writeValueAsString(request);
+                String key = java.util.UUID.randomUUID().toString();
+
+                String first = mockMvc.perform(post("/api/v1/intents")
+                                .header("Idempotency-Key", key)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(body))
+                                .andExpect(status().isCreated())
+                                .andExpect(header().doesNotExist("Idempotent-Replayed"))
+                                .andReturn().getResponse().getContentAsString();
+
+                // Without the key this would fail the per-user name uniqueness check
+                mockMvc.perform(post("/api/v1/intents")
+                                .header("Idempotency-Key", key)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(body))
+                                .andExpect(status().isCreated())
+                                .andExpect(header().string("Idempotent-Replayed", "true"))
+                                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                                .andExpect(content().string(first));
+
+                org.junit.jupiter.api.Assertions.assertEquals(1, intentBucketRepository.count());
+        }
+
         @Test
         @WithMockUser(username = "user1", roles = "USER")
         void shouldEnforceNameUniquenessPerUser() throws Exception {
@@ -206,6 +236,39 @@ public class IntentBucketIntegrationTest {
                                 .andExpect(jsonPath("$.insights[?(@.name=='Health')].stagnantTasks").value(1));
         }
 
+        @Test
+        @WithMockUser(username = "user1", roles = "USER")
+        void shouldRefreshCachedOverviewAfterIntentAndTaskWrites() throws Exception {
+                mockMvc.perform(get("/api/v1/intents/overview"))
+                                .andExpect(jsonPath("$.insights", hasSize(0)));
+
+                IntentBucketRequest intent = new IntentBucketRequest();
+                intent.setName("Career");
+                String created = mockMvc.perform(post("/api/v1/intents")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(intent)))
+                                .andExpect(status().isCreated())
+                                .andReturn().getResponse().getContentAsString();
+                Long intentId = objectMapper.readTree(created).get("id").asLong();
+
+                mockMvc.perform(get("/api/v1/intents/overview"))
+                                .andExpect(jsonPath("$.insights", hasSize(1)))
+                                .andExpect(jsonPath("$.insights[0].totalTasks").value(0));
+
+                TaskRequest task = new TaskRequest();
+                task.setTitle("Study");
+                task.setStatus(Status.PENDING);
+                task.setDueDate(LocalDateTime.now().plusDays(1));
+                task.setIntentBucketId(intentId);
+                mockMvc.perform(post("/api/v1/tasks")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(task)))
+                                .andExpect(status().isCreated());
+
+                mockMvc.perform(get("/api/v1/intents/overview"))
+                                .andExpect(jsonPath("$.insights[0].totalTasks").value(1));
+        }
+
         private Task createTaskWithIntent(String title, Status status, IntentBucket intent) {
                 Task task = new Task(title, "Desc", status, Priority.MEDIUM, LocalDateTime.now().plusDays(1), user1);
                 task.setIntentBucket(intent);
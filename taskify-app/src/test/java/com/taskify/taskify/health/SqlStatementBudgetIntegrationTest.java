@@ -0,0 +1,195 @@
+package com.taskify.taskify.health;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskify.taskify.dto.DailyCheckInRequest;
+import com.taskify.taskify.dto.TaskRequest;
+import com.taskify.taskify.model.*;
+import com.taskify.taskify.repository.*;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Statement budgets for the hot read and write paths. Budgets are set at the
+ * current statement counts; raising one should come with a reason.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class SqlStatementBudgetIntegrationTest {
+
+    private static final int BUCKETS = 4;
+    private static final int TASKS_PER_BUCKET = 3;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private IntentBucketRepository intentBucketRepository;
+
+    @Autowired
+    private DailyIntentRepository dailyIntentRepository;
+
+    @Autowired
+    private DailyCheckInStatsRepository statsRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private SqlStatementRecorder recorder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<Task> tasks = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.findByUsername("budgetUser").orElseGet(() -> {
+            User created = new User();
+            created.setUsername("budgetUser");
+            created.setEmail("budget@example.com");
+            created.setPassword("password");
+            return userRepository.save(created);
+        });
+
+        taskRepository.deleteAll();
+        intentBucketRepository.deleteAll();
+        dailyIntentRepository.deleteAll();
+        statsRepository.deleteAll();
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+
+        tasks.clear();
+        for (int b = 0; b < BUCKETS; b++) {
+            IntentBucket bucket = intentBucketRepository.save(
+                    new IntentBucket(user.getId(), "Bucket " + b, "Budget bucket", "#000000"));
+            for (int t = 0; t < TASKS_PER_BUCKET; t++) {
+                Task task = new Task("Task " + b + "-" + t, "Desc", Status.PENDING, Priority.MEDIUM,
+                        LocalDateTime.now().plusDays(1), user);
+                task.setIntentBucket(bucket);
+                tasks.add(taskRepository.save(task));
+            }
+        }
+    }
+
+    @Test
+    @WithMockUser(username = "budgetUser")
+    @StatementBudget(value = 3, endpoint = "GET /api/v1/tasks/{id}")
+    void taskDetailShouldStayWithinBudget() throws Exception {
+        mockMvc.perform(get("/api/v1/tasks/" + tasks.get(0).getId()))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @WithMockUser(username = "budgetUser")
+    @StatementBudget(value = 5, endpoint = "PUT /api/v1/tasks/{id}")
+    void taskUpdateShouldStayWithinBudget() throws Exception {
+        TaskRequest update = new TaskRequest();
+        update.setTitle("Renamed");
+        update.setStatus(Status.COMPLETED);
+        update.setPriority(Priority.HIGH);
+
+        mockMvc.perform(put("/api/v1/tasks/" + tasks.get(0).getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(update)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @WithMockUser(username = "budgetUser")
+    @StatementBudget(value = 6, endpoint = "GET /api/v1/intents/overview")
+    void intentOverviewShouldNotGrowWithBuckets() throws Exception {
+        mockMvc.perform(get("/api/v1/intents/overview"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @WithMockUser(username = "budgetUser")
+    @StatementBudget(value = 7, endpoint = "GET /api/v1/day/today")
+    void todayViewShouldNotGrowWithPlannedTasks() throws Exception {
+        DailyCheckInRequest checkIn = new DailyCheckInRequest();
+        // One task from each of three buckets, the most a check-in allows
+        checkIn.setTaskIds(List.of(tasks.get(0).getId(), tasks.get(TASKS_PER_BUCKET).getId(),
+                tasks.get(2 * TASKS_PER_BUCKET).getId()));
+        mockMvc.perform(post("/api/v1/day/check-in")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(checkIn)))
+                .andExpect(status().isOk());
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+
+        mockMvc.perform(get("/api/v1/day/today"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @WithMockUser(username = "budgetUser")
+    void shouldRecordStatementMetricsByEndpoint() throws Exception {
+        long before = meterRegistry.find("taskify.http.sql.statements")
+                .tags("method", "GET", "uri", "/api/v1/tasks/{id}").summaries().stream()
+                .mapToLong(summary -> summary.count()).sum();
+
+        mockMvc.perform(get("/api/v1/tasks/" + tasks.get(0).getId()))
+                .andExpect(status().isOk());
+
+        var statements = meterRegistry.get("taskify.http.sql.statements")
+                .tags("method", "GET", "uri", "/api/v1/tasks/{id}").summary();
+        assertEquals(before + 1, statements.count());
+        assertTrue(statements.totalAmount() > 0);
+        assertTrue(meterRegistry.get("taskify.http.sql.rows")
+                .tags("method", "GET", "uri", "/api/v1/tasks/{id}").summary().totalAmount() > 0);
+        assertNotNull(meterRegistry.get("taskify.http.sql.time")
+                .tags("method", "GET", "uri", "/api/v1/tasks/{id}").timer());
+    }
+
+    @Test
+    void shouldCountRowsAndRepeatedStatementsPerRequest() {
+        recorder.begin();
+        for (Task task : tasks) {
+            jdbcTemplate.queryForObject("SELECT title FROM tasks WHERE id = ?", String.class, task.getId());
+        }
+        jdbcTemplate.update("UPDATE tasks SET description = 'Touched' WHERE id IN (?, ?)",
+                tasks.get(0).getId(), tasks.get(1).getId());
+        SqlRequestStats stats = recorder.end("TEST");
+
+        assertEquals(tasks.size() + 1, stats.getStatements());
+        assertEquals(tasks.size() + 2, stats.getRows());
+        assertEquals(tasks.size(), stats.getExecutions().get("SELECT title FROM tasks WHERE id = ?"));
+        assertEquals("TEST", stats.getEndpoint());
+
+        // Nothing is attributed once the request has ended
+        jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tasks", Long.class);
+        assertNull(recorder.end("TEST"));
+    }
+}
@@ -0,0 +1,31 @@
+package com.taskify.taskify.health;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Fails a Spring integration test when any HTTP request it makes to
+ * {@link #endpoint()} executes more SQL statements than {@link #value()}.
+ * Statements issued outside a request (test setup, async work) do not count.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(StatementBudgetExtension.class)
+public @interface StatementBudget {
+
+    /**
+     * Maximum statements per request.
+     */
+    int value();
+
+    /**
+     * Method and path pattern as mapped, e.g. {@code GET /api/v1/tasks/{id}}.
+     * Empty applies the budget to every request in the test. At least one
+     * matching request must be made.
+     */
+    String endpoint() default "";
+}
@@ -0,0 +1,63 @@
+package com.taskify.taskify.health;
+
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Collects the {@link SqlRequestStats} of every request made during a test
+ * annotated with {@link StatementBudget} and checks them once it finishes.
+ */
+public class StatementBudgetExtension implements BeforeEachCallback, AfterEachCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE =
+            ExtensionContext.Namespace.create(StatementBudgetExtension.class);
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        StatementBudget budget = context.getRequiredTestMethod().getAnnotation(StatementBudget.class);
+        SqlStatementRecorder recorder = SpringExtension.getApplicationContext(context)
+                .getBean(SqlStatementRecorder.class);
+
+        List<SqlRequestStats> requests = new CopyOnWriteArrayList<>();
+        AutoCloseable registration = recorder.onRequestCompleted(stats -> {
+            if (budget.endpoint().isEmpty() || budget.endpoint().equals(stats.getEndpoint())) {
+                requests.add(stats);
+            }
+        });
+        context.getStore(NAMESPACE).put("requests", requests);
+        context.getStore(NAMESPACE).put("registration", registration);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void afterEach(ExtensionContext context) throws Exception {
+        StatementBudget budget = context.getRequiredTestMethod().getAnnotation(StatementBudget.class);
+        context.getStore(NAMESPACE).remove("registration", AutoCloseable.class).close();
+        List<SqlRequestStats> requests = context.getStore(NAMESPACE).remove("requests", List.class);
+
+        String endpoint = budget.endpoint().isEmpty() ? "any endpoint" : budget.endpoint();
+        if (requests.isEmpty()) {
+            fail("No request to " + endpoint + " was made, so its statement budget was not checked");
+        }
+        for (SqlRequestStats stats : requests) {
+            if (stats.getStatements() > budget.value()) {
+                fail(stats.getEndpoint() + " executed " + stats.getStatements() + " SQL statements, over its budget of "
+                        + budget.value() + ":\n" + describe(stats));
+            }
+        }
+    }
+
+    private static String describe(SqlRequestStats stats) {
+        return stats.getExecutions().entrySet().stream()
+                .map(execution -> "  " + execution.getValue() + "x " + execution.getKey())
+                .collect(Collectors.joining("\n"));
+    }
+}
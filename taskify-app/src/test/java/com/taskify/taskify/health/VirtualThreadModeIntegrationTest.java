@@ -0,0 +1,66 @@
+package com.taskify.taskify.health;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "app.virtual-threads.pinning.threshold-ms=10")
+@ActiveProfiles({ "test", "virtual" })
+public class VirtualThreadModeIntegrationTest {
+
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    private AsyncTaskExecutor taskExecutor;
+
+    @Autowired
+    private TaskScheduler taskScheduler;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void shouldRunAsyncAndScheduledWorkOnVirtualThreads() throws Exception {
+        assertTrue(taskExecutor.submit(() -> Thread.currentThread().isVirtual()).get(5, TimeUnit.SECONDS));
+
+        CompletableFuture<Boolean> scheduled = new CompletableFuture<>();
+        taskScheduler.schedule(() -> scheduled.complete(Thread.currentThread().isVirtual()), Instant.now());
+        assertTrue(scheduled.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void shouldReportPinnedCarrierThreads() throws Exception {
+        Object monitor = new Object();
+        Thread pinned = Thread.ofVirtual().start(() -> {
+            synchronized (monitor) {
+                try {
+                    Thread.sleep(100);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+        pinned.join();
+
+        // Flight recorder streams deliver events about once a second
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(15);
+        Counter counter = null;
+        while (counter == null && System.nanoTime() < deadline) {
+            counter = meterRegistry.find("taskify.virtual_threads.pinned").tag("source", "application").counter();
+            Thread.sleep(100);
+        }
+        assertNotNull(counter, "No pinning event was reported");
+        assertTrue(counter.count() >= 1);
+    }
+}
@@ -0,0 +1,147 @@
+package com.taskify.taskify.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ConcurrencyLimitFilterTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(200);
+
+    @Test
+    void shouldGrowLimitWhileLatencyIsStableAndShrinkWhenItRises() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 5, 100, 0.2, 1.5, 600, 1);
+
+        for (int i = 0; i < 500; i++) {
+            limiter.onSample(FAST, limiter.getLimit());
+        }
+        assertEquals(100, limiter.getLimit());
+
+        // Database slows down: requests queue and latency climbs well above the baseline
+        for (int i = 0; i < 50; i++) {
+            limiter.onSample(SLOW, limiter.getLimit());
+        }
+        assertTrue(limiter.getLimit() < 20, "Limit should back off, was " + limiter.getLimit());
+    }
+
+    @Test
+    void shouldIgnoreSamplesWhenFarBelowTheLimit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 5, 100, 0.2, 1.5, 600, 1);
+
+        for (int i = 0; i < 100; i++) {
+            limiter.onSample(FAST, 1);
+        }
+        assertEquals(20, limiter.getLimit());
+    }
+
+    @Test
+    void shouldRecomputeLimitOncePerSampleWindow() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(50, 5, 100, 0.2, 1.5, 600, 10);
+
+        for (int i = 0; i < 9; i++) {
+            limiter.onSample(FAST, 50);
+        }
+        assertEquals(50, limiter.getLimit());
+
+        limiter.onSample(FAST, 50);
+        assertTrue(limiter.getLimit() > 50, "Limit should grow once the window closes, was " + limiter.getLimit());
+    }
+
+    @Test
+    void shouldAcceptSamplesFromManyThreads() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 5, 100, 0.2, 1.5, 600, 10);
+        int threads = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                workers.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < 2_000; i++) {
+                        limiter.onSample(FAST, limiter.getLimit());
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> worker : workers) {
+                worker.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Stable latency at the limit keeps growing it, whichever threads closed the windows
+        assertEquals(100, limiter.getLimit());
+    }
+
+    @Test
+    void shouldShedOverLimitRequestsButAdmitHealthAndAuth() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(4, 4, 4, 0.2, 1.5, 600, 10);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(limiter, meterRegistry, true, 1.25);
+
+        // Saturate the limit with requests that are still running
+        for (int i = 0; i < 4; i++) {
+            assertTrue(limiter.tryAcquire(1.0));
+        }
+
+        MockHttpServletResponse shed = perform(filter, "/api/v1/tasks", new AtomicBoolean());
+        assertEquals(503, shed.getStatus());
+        assertEquals("1", shed.getHeader("Retry-After"));
+
+        AtomicBoolean authReached = new AtomicBoolean();
+        assertEquals(200, perform(filter, "/api/v1/auth/login", authReached).getStatus());
+        assertTrue(authReached.get());
+
+        AtomicBoolean healthReached = new AtomicBoolean();
+        assertEquals(200, perform(filter, "/actuator/health", healthReached).getStatus());
+        assertTrue(healthReached.get());
+
+        assertEquals(1.0, meterRegistry.get("taskify.concurrency.rejections").counter().count());
+        assertEquals(4.0, meterRegistry.get("taskify.concurrency.limit").gauge().value());
+        assertEquals(4.0, meterRegistry.get("taskify.concurrency.in_flight").gauge().value());
+    }
+
+    @Test
+    void shouldReleaseSlotWhenDownstreamThrows() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1, 1, 0.2, 1.5, 600, 10);
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(limiter, new SimpleMeterRegistry(), true, 1.25);
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/tasks");
+        FilterChain failing = (req, res) -> {
+            throw new IllegalStateException("boom");
+        };
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), failing);
+        } catch (Exception expected) {
+            // propagated to the container
+        }
+
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    private MockHttpServletResponse perform(ConcurrencyLimitFilter filter, String uri, AtomicBoolean reached)
+            throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, (req, res) -> reached.set(true));
+        return response;
+    }
+}
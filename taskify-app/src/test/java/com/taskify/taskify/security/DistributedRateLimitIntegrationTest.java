@@ -0,0 +1,155 @@
+package com.taskify.taskify.security;
+
+import com.taskify.taskify.TaskifyApplication;
+import com.taskify.taskify.model.RateLimitBucketState;
+import com.taskify.taskify.model.SchedulerLock;
+import com.taskify.taskify.repository.RateLimitBucketRepository;
+import com.taskify.taskify.repository.SchedulerLockRepository;
+import com.taskify.taskify.service.RateLimitBucketCleanupTask;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs two application nodes against one shared H2 database with the JDBC bucket
+ * store and checks that they enforce a single, cluster-wide limit.
+ */
+public class DistributedRateLimitIntegrationTest {
+
+    private static final int API_CAPACITY = 20;
+    private static final int MAX_UNSYNCHRONIZED_TOKENS = 2;
+    private static final int CLEANUP_BATCH_SIZE = 10;
+    private static final String CLEANUP_LOCK = "rate-limit-bucket-cleanup";
+
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+    private static final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @BeforeAll
+    static void startNodes() {
+        nodeA = startNode();
+        nodeB = startNode();
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        if (nodeB != null) {
+            nodeB.close();
+        }
+        if (nodeA != null) {
+            nodeA.close();
+        }
+    }
+
+    private static ConfigurableApplicationContext startNode() {
+        return new SpringApplicationBuilder(TaskifyApplication.class)
+                .profiles("test")
+                .run(
+                        "--server.port=0",
+                        "--spring.jmx.enabled=false",
+                        "--spring.datasource.url=jdbc:h2:mem:ratelimit_cluster;DB_CLOSE_DELAY=-1",
+                        // The second node must not drop the schema the first one created
+                        "--spring.jpa.hibernate.ddl-auto=update",
+                        "--spring.jpa.show-sql=false",
+                        "--rate.limit.store=jdbc",
+                        "--rate.limit.api.capacity=" + API_CAPACITY,
+                        "--rate.limit.api.refill.tokens=" + API_CAPACITY,
+                        "--rate.limit.api.refill.seconds=60",
+                        "--rate.limit.jdbc.max-unsynchronized-tokens=" + MAX_UNSYNCHRONIZED_TOKENS,
+                        "--rate.limit.jdbc.max-unsynchronized-millis=200",
+                        "--rate.limit.jdbc.cleanup.batch-size=" + CLEANUP_BATCH_SIZE,
+                        "--rate.limit.jdbc.cleanup.pause-ms=1");
+    }
+
+    private static int get(ConfigurableApplicationContext node, String path) throws Exception {
+        int port = ((WebServerApplicationContext) node).getWebServer().getPort();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).GET().build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    @Test
+    void shouldShareOneLimitAcrossNodes() throws Exception {
+        int allowed = 0;
+        int rejected = 0;
+
+        // Alternate between the nodes as a round-robin load balancer would
+        for (int i = 0; i < API_CAPACITY * 2; i++) {
+            int status = get(i % 2 == 0 ? nodeA : nodeB, "/api/v1/tasks");
+            if (status == 429) {
+                rejected++;
+            } else {
+                assertThat(status).isEqualTo(401); // passed the limiter, stopped by security
+                allowed++;
+            }
+        }
+
+        // Per-node buckets would let 2x capacity through; the shared bucket allows the
+        // configured capacity plus at most the locally prefetched tokens of each node
+        assertThat(allowed).isBetween(API_CAPACITY - 2 * MAX_UNSYNCHRONIZED_TOKENS,
+                API_CAPACITY + 2 * MAX_UNSYNCHRONIZED_TOKENS);
+        assertThat(rejected).isPositive();
+
+        // Some consumptions were served from the local prefetch without a database write
+        double skipped = nodeA.getBean(MeterRegistry.class)
+                .get("taskify.rate_limit.sync").tag("result", "skipped").counter().count();
+        assertThat(skipped).isPositive();
+    }
+
+    @Test
+    void shouldPurgeExpiredBucketsInChunksOnOneNode() {
+        RateLimitBucketRepository repository = nodeA.getBean(RateLimitBucketRepository.class);
+        SchedulerLockRepository lockRepository = nodeA.getBean(SchedulerLockRepository.class);
+        lockRepository.deleteById(CLEANUP_LOCK);
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < 25; i++) {
+            saveBucket(repository, "cleanup-expired-" + i, now - 1_000 - i);
+        }
+        saveBucket(repository, "cleanup-live", now + 60_000);
+
+        // Another node holds the lease: this one leaves the table alone
+        LocalDateTime leaseStart = LocalDateTime.now();
+        lockRepository.save(new SchedulerLock(CLEANUP_LOCK, "other-node", leaseStart, leaseStart.plusMinutes(5)));
+        nodeB.getBean(RateLimitBucketCleanupTask.class).cleanup();
+        assertThat(repository.findAllById(bucketIds())).hasSize(26);
+
+        lockRepository.deleteById(CLEANUP_LOCK);
+        nodeB.getBean(RateLimitBucketCleanupTask.class).cleanup();
+
+        assertThat(repository.findAllById(bucketIds()))
+                .extracting(RateLimitBucketState::getId)
+                .containsExactly("cleanup-live");
+        // 10 + 10 + 5: the short chunk ends the run
+        assertThat(nodeB.getBean(MeterRegistry.class).timer("taskify.rate_limit.cleanup.chunk").count())
+                .isEqualTo(3);
+    }
+
+    private static void saveBucket(RateLimitBucketRepository repository, String id, long expiresAt) {
+        RateLimitBucketState bucket = new RateLimitBucketState();
+        bucket.setId(id);
+        bucket.setExpiresAt(expiresAt);
+        repository.save(bucket);
+    }
+
+    private static List<String> bucketIds() {
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            ids.add("cleanup-expired-" + i);
+        }
+        ids.add("cleanup-live");
+        return ids;
+    }
+}
@@ -0,0 +1,140 @@
+package com.taskify.taskify.security;
+
+import com.taskify.taskify.model.Role;
+import com.taskify.taskify.model.User;
+import com.taskify.taskify.repository.RefreshTokenRepository;
+import com.taskify.taskify.repository.RoleRepository;
+import com.taskify.taskify.repository.TaskRepository;
+import com.taskify.taskify.repository.UserRepository;
+import com.taskify.taskify.service.RateLimitService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.atMost;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+@SpringBootTest(properties = {
+        "rate.limit.preauth.capacity=20",
+        "rate.limit.preauth.refill.tokens=20",
+        "rate.limit.preauth.refill.seconds=60"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class PreAuthRateLimitIntegrationTest {
+
+    private static final int PRE_AUTH_CAPACITY = 20;
+    private static final int FLOOD_SIZE = 200;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private RateLimitService rateLimitService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @MockitoSpyBean
+    private UserDetailsService userDetailsService;
+
+    @MockitoSpyBean
+    private JwtService jwtService;
+
+    private String validToken;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository.deleteAll();
+        refreshTokenRepository.deleteAll();
+        userRepository.deleteAll();
+        rateLimitService.clearBuckets();
+
+        Role userRole = roleRepository.findByName(SecurityConstants.ROLE_USER)
+                .orElseGet(() -> roleRepository.save(new Role(SecurityConstants.ROLE_USER)));
+        User user = new User("sprayed", "sprayed@example.com", "password");
+        user.setRoles(Set.of(userRole));
+        userRepository.save(user);
+
+        validToken = jwtService.generateToken(userDetailsService.loadUserByUsername("sprayed"));
+        clearInvocations(userDetailsService, jwtService);
+    }
+
+    @Test
+    void shouldRejectGarbageTokenFloodBeforeParsing() throws Exception {
+        int unauthorized = 0;
+        int limited = 0;
+
+        for (int i = 0; i < FLOOD_SIZE; i++) {
+            int status = mockMvc.perform(get("/api/v1/tasks")
+                    .header("Authorization", "Bearer garbage." + i + ".token"))
+                    .andReturn().getResponse().getStatus();
+            if (status == 429) {
+                limited++;
+            } else if (status == 401) {
+                unauthorized++;
+            }
+        }
+
+        assertEquals(PRE_AUTH_CAPACITY, unauthorized);
+        assertEquals(FLOOD_SIZE - PRE_AUTH_CAPACITY, limited);
+        verify(jwtService, atMost(PRE_AUTH_CAPACITY)).extractUsername(anyString());
+    }
+
+    @Test
+    void shouldIgnoreClientSuppliedForwardedFor() throws Exception {
+        int limited = 0;
+
+        // A new X-Forwarded-For value per request must not mint a new bucket
+        for (int i = 0; i < FLOOD_SIZE; i++) {
+            int status = mockMvc.perform(get("/api/v1/tasks")
+                    .header("X-Forwarded-For", "203.0.113." + (i % 250))
+                    .header("Authorization", "Bearer garbage." + i + ".token"))
+                    .andReturn().getResponse().getStatus();
+            if (status == 429) {
+                limited++;
+            }
+        }
+
+        assertEquals(FLOOD_SIZE - PRE_AUTH_CAPACITY, limited);
+    }
+
+    @Test
+    void shouldBoundUserLookupsForSprayedValidToken() throws Exception {
+        int limited = 0;
+
+        for (int i = 0; i < FLOOD_SIZE; i++) {
+            int status = mockMvc.perform(get("/api/v1/tasks")
+                    .header("Authorization", "Bearer " + validToken))
+                    .andReturn().getResponse().getStatus();
+            if (status == 429) {
+                limited++;
+            }
+        }
+
+        // Without the pre-auth limiter every request would load the user from the database
+        verify(userDetailsService, atMost(PRE_AUTH_CAPACITY)).loadUserByUsername(anyString());
+        assertEquals(FLOOD_SIZE - PRE_AUTH_CAPACITY, limited);
+    }
+}
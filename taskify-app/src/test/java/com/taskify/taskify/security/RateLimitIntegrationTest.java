@@ -6,6 +6,7 @@ import com.taskify.taskify.dto.RegisterRequest;
 import com.taskify.taskify.model.Role;
 import com.taskify.taskify.repository.RefreshTokenRepository;
 import com.taskify.taskify.repository.RoleRepository;
+import com.taskify.taskify.repository.TaskRepository;
 import com.taskify.taskify.repository.UserRepository;
 import com.taskify.taskify.service.RateLimitService;
 import org.junit.jupiter.api.BeforeEach;
@@ -47,8 +48,12 @@ public class RateLimitIntegrationTest {
     @Autowired
     private RefreshTokenRepository refreshTokenRepository;
 
+    @Autowired
+    private TaskRepository taskRepository;
+
     @BeforeEach
     void setUp() {
+        taskRepository.deleteAll();
         refreshTokenRepository.deleteAll();
         userRepository.deleteAll();
         roleRepository.findByName("ROLE_USER")
@@ -0,0 +1,103 @@
+package com.taskify.taskify.security;
+
+import com.taskify.taskify.model.Role;
+import com.taskify.taskify.model.User;
+import com.taskify.taskify.repository.RefreshTokenRepository;
+import com.taskify.taskify.repository.RoleRepository;
+import com.taskify.taskify.repository.TaskRepository;
+import com.taskify.taskify.repository.UserRepository;
+import com.taskify.taskify.service.RateLimitService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class RateLimitPolicyIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private RateLimitService rateLimitService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository.deleteAll();
+        refreshTokenRepository.deleteAll();
+        userRepository.deleteAll();
+        rateLimitService.clearBuckets();
+
+        Role userRole = roleRepository.findByName(SecurityConstants.ROLE_USER)
+                .orElseGet(() -> roleRepository.save(new Role(SecurityConstants.ROLE_USER)));
+        User user = new User("policyuser", "policy@example.com", "password");
+        user.setRoles(Set.of(userRole));
+        userRepository.save(user);
+    }
+
+    @Test
+    @WithMockUser(username = "policyuser", roles = "USER")
+    void shouldChargeReviewAgainstSeparateReportingBucket() throws Exception {
+        // reporting bucket: capacity 30, review costs 5
+        for (int i = 0; i < 6; i++) {
+            mockMvc.perform(get("/api/v1/tasks/review"))
+                    .andExpect(status().isOk());
+        }
+        mockMvc.perform(get("/api/v1/tasks/review"))
+                .andExpect(status().isTooManyRequests());
+
+        // The general api bucket is untouched
+        mockMvc.perform(get("/api/v1/tasks"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @WithMockUser(username = "policyuser", roles = "USER")
+    void shouldChargeWeightedCostAgainstApiBucket() throws Exception {
+        // api bucket: capacity 50, focus costs 3 -> 16 calls use 48 tokens
+        for (int i = 0; i < 16; i++) {
+            mockMvc.perform(get("/api/v1/tasks/focus"))
+                    .andExpect(status().isOk());
+        }
+        mockMvc.perform(get("/api/v1/tasks/focus"))
+                .andExpect(status().isTooManyRequests());
+
+        // The two remaining tokens still cover cheap reads
+        mockMvc.perform(get("/api/v1/tasks"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/tasks"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/tasks"))
+                .andExpect(status().isTooManyRequests());
+    }
+
+    @Test
+    void shouldRejectPoliciesThatCanNeverBeSatisfied() {
+        assertThrows(IllegalStateException.class, () -> rateLimitService.validatePolicy("reporting", 31));
+        assertThrows(IllegalStateException.class, () -> rateLimitService.validatePolicy("undefined", 1));
+    }
+}
@@ -0,0 +1,115 @@
+package com.taskify.taskify.service;
+
+import com.taskify.taskify.model.DailyCheckInStats;
+import com.taskify.taskify.model.DailyIntent;
+import com.taskify.taskify.model.Priority;
+import com.taskify.taskify.model.Status;
+import com.taskify.taskify.model.Task;
+import com.taskify.taskify.model.User;
+import com.taskify.taskify.repository.DailyCheckInStatsRepository;
+import com.taskify.taskify.repository.DailyIntentRepository;
+import com.taskify.taskify.repository.SchedulerLockRepository;
+import com.taskify.taskify.repository.TaskRepository;
+import com.taskify.taskify.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class CheckInStatsBackfillIntegrationTest {
+
+    private static final String USERNAME = "statsBackfillUser";
+
+    @Autowired
+    private CheckInStatsBackfill backfill;
+
+    @Autowired
+    private DailyIntentRepository dailyIntentRepository;
+
+    @Autowired
+    private DailyCheckInStatsRepository statsRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SchedulerLockRepository schedulerLockRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        deleteTestData();
+        schedulerLockRepository.deleteAll();
+        user = userRepository.save(new User(USERNAME, USERNAME + "@example.com", "password"));
+    }
+
+    @AfterEach
+    void deleteTestData() {
+        dailyIntentRepository.deleteAll();
+        statsRepository.deleteAll();
+        taskRepository.deleteAll();
+        userRepository.findByUsername(USERNAME).ifPresent(userRepository::delete);
+    }
+
+    @Test
+    void shouldBuildStatsForEarlierCheckInsAndRechainStreaks() {
+        LocalDate today = LocalDate.now();
+        Task doneEarly = saveTask("Done early", Status.COMPLETED, today.minusDays(3).atTime(12, 0));
+        Task doneToday = saveTask("Done today", Status.COMPLETED, today.atStartOfDay().plusHours(1));
+        Task pending = saveTask("Pending", Status.PENDING, today.minusDays(3).atTime(9, 0));
+
+        saveIntent(today.minusDays(3), List.of(doneEarly.getId(), pending.getId()));
+        saveIntent(today.minusDays(2), List.of(pending.getId(), doneToday.getId()));
+        saveIntent(today.minusDays(1), List.of());
+        // Recorded after the deploy, before its earlier days had stats
+        saveIntent(today, List.of(pending.getId()));
+        DailyCheckInStats recorded = new DailyCheckInStats(user.getId(), today, 1);
+        recorded.setPlannedTasks(1);
+        statsRepository.save(recorded);
+
+        assertThat(backfill.backfill()).isEqualTo(3);
+
+        List<DailyCheckInStats> stats = statsRepository.findByUserIdOrderByDateAsc(user.getId());
+        assertThat(stats).extracting(DailyCheckInStats::getStreak).containsExactly(1, 2, 3, 4);
+        assertThat(stats).extracting(DailyCheckInStats::getPlannedTasks).containsExactly(2, 2, 0, 1);
+        // Completed by the end of the day; a later completion is not credited back
+        assertThat(stats).extracting(DailyCheckInStats::getCompletedTasks).containsExactly(1, 0, 0, 0);
+        assertThat(stats).extracting(DailyCheckInStats::getCarriedOverTasks).containsExactly(0, 1, 0, 0);
+
+        // Later startups find nothing to do
+        assertThat(backfill.backfill()).isZero();
+    }
+
+    private Task saveTask(String title, Status status, LocalDateTime lastModifiedAt) {
+        Task task = taskRepository.save(new Task(title, "Desc", status, Priority.MEDIUM, null, user));
+        // Entity callbacks stamp the current time; set the historic one directly
+        jdbcTemplate.update("UPDATE tasks SET last_modified_at = ? WHERE id = ?", lastModifiedAt, task.getId());
+        return task;
+    }
+
+    private void saveIntent(LocalDate date, List<Long> taskIds) {
+        DailyIntent intent = new DailyIntent();
+        intent.setUserId(user.getId());
+        intent.setDate(date);
+        intent.setTaskIds(taskIds);
+        dailyIntentRepository.save(intent);
+    }
+}
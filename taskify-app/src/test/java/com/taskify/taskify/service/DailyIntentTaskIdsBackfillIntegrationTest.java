@@ -0,0 +1,98 @@
+package com.taskify.taskify.service;
+
+import com.taskify.taskify.model.DailyIntent;
+import com.taskify.taskify.repository.DailyIntentRepository;
+import com.taskify.taskify.repository.SchedulerLockRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class DailyIntentTaskIdsBackfillIntegrationTest {
+
+    private static final long USER_ID = 4242L;
+
+    @Autowired
+    private DailyIntentTaskIdsBackfill backfill;
+
+    @Autowired
+    private DailyIntentRepository dailyIntentRepository;
+
+    @Autowired
+    private SchedulerLockRepository schedulerLockRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        dailyIntentRepository.deleteAll();
+        schedulerLockRepository.deleteAll();
+        // The join table as the element collection mapping created it
+        jdbcTemplate.execute("CREATE TABLE daily_intent_tasks (daily_intent_id BIGINT NOT NULL, task_id BIGINT)");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS daily_intent_tasks");
+        dailyIntentRepository.deleteAll();
+    }
+
+    @Test
+    void shouldPackJoinRowsIntoTaskIdsAndDropTheJoinTable() {
+        DailyIntent legacy = saveLegacyIntent(LocalDate.now().minusDays(1), List.of(10L, 11L));
+        DailyIntent withoutTasks = saveLegacyIntent(LocalDate.now().minusDays(2), List.of());
+        // Checked in again after the deploy: the column already holds the newer ids
+        DailyIntent rewritten = saveIntent(LocalDate.now(), List.of(99L));
+        insertJoinRows(rewritten.getId(), List.of(20L));
+
+        assertThat(backfill.backfill()).isEqualTo(1);
+
+        assertThat(taskIds(legacy)).containsExactly(10L, 11L);
+        assertThat(taskIds(withoutTasks)).isEmpty();
+        assertThat(taskIds(rewritten)).containsExactly(99L);
+        assertThatThrownBy(() -> jdbcTemplate.queryForObject("SELECT COUNT(*) FROM daily_intent_tasks", Long.class))
+                .isInstanceOf(BadSqlGrammarException.class);
+
+        // Later startups find nothing to do
+        assertThat(backfill.backfill()).isZero();
+    }
+
+    private DailyIntent saveLegacyIntent(LocalDate date, List<Long> taskIds) {
+        DailyIntent intent = saveIntent(date, List.of());
+        jdbcTemplate.update("UPDATE daily_intents SET task_ids = NULL WHERE id = ?", intent.getId());
+        insertJoinRows(intent.getId(), taskIds);
+        return intent;
+    }
+
+    private DailyIntent saveIntent(LocalDate date, List<Long> taskIds) {
+        DailyIntent intent = new DailyIntent();
+        intent.setUserId(USER_ID);
+        intent.setDate(date);
+        intent.setTaskIds(taskIds);
+        return dailyIntentRepository.save(intent);
+    }
+
+    private void insertJoinRows(Long intentId, List<Long> taskIds) {
+        for (Long taskId : taskIds) {
+            jdbcTemplate.update("INSERT INTO daily_intent_tasks (daily_intent_id, task_id) VALUES (?, ?)",
+                    intentId, taskId);
+        }
+    }
+
+    private List<Long> taskIds(DailyIntent intent) {
+        return dailyIntentRepository.findById(intent.getId()).orElseThrow().getTaskIds();
+    }
+}
@@ -0,0 +1,107 @@
+package com.taskify.taskify.service;
+
+import com.taskify.taskify.model.IdempotencyKey;
+import com.taskify.taskify.model.SchedulerLock;
+import com.taskify.taskify.repository.IdempotencyKeyRepository;
+import com.taskify.taskify.repository.SchedulerLockRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class IdempotencyCleanupTaskIntegrationTest {
+
+    @Autowired
+    private IdempotencyService idempotencyService;
+
+    @Autowired
+    private SchedulerLockService lockService;
+
+    @Autowired
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+
+    @Autowired
+    private SchedulerLockRepository schedulerLockRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private IdempotencyCleanupTask cleanupTask;
+
+    @BeforeEach
+    void setUp() {
+        idempotencyKeyRepository.deleteAll();
+        schedulerLockRepository.deleteAll();
+
+        meterRegistry = new SimpleMeterRegistry();
+        cleanupTask = new IdempotencyCleanupTask(idempotencyService, lockService, meterRegistry, 10, 1, 60);
+    }
+
+    @Test
+    void shouldDeleteExpiredKeysInChunksAndKeepLiveOnes() {
+        saveKeys(25, true);
+        List<IdempotencyKey> live = saveKeys(3, false);
+
+        cleanupTask.cleanup();
+
+        assertThat(idempotencyKeyRepository.findAll())
+                .extracting(IdempotencyKey::getId)
+                .containsExactlyInAnyOrderElementsOf(live.stream().map(IdempotencyKey::getId).toList());
+        assertThat(meterRegistry.counter("taskify.idempotency.expired.deleted").count()).isEqualTo(25);
+        // 10 + 10 + 5: the short chunk ends the run
+        assertThat(meterRegistry.timer("taskify.idempotency.expiry.chunk").count()).isEqualTo(3);
+
+        // The lease is handed back so the next run, on any node, can proceed
+        assertThat(schedulerLockRepository.findById(IdempotencyCleanupTask.LOCK_NAME))
+                .get()
+                .extracting(SchedulerLock::getLockedUntil)
+                .matches(until -> !until.isAfter(LocalDateTime.now()));
+    }
+
+    @Test
+    void shouldSkipRunWhileAnotherNodeHoldsTheLease() {
+        saveKeys(5, true);
+        LocalDateTime now = LocalDateTime.now();
+        schedulerLockRepository.save(new SchedulerLock(
+                IdempotencyCleanupTask.LOCK_NAME, "other-node", now, now.plusMinutes(5)));
+
+        cleanupTask.cleanup();
+
+        assertThat(idempotencyKeyRepository.count()).isEqualTo(5);
+        assertThat(meterRegistry.timer("taskify.idempotency.expiry.chunk").count()).isZero();
+    }
+
+    @Test
+    void shouldTakeOverALapsedLease() {
+        saveKeys(5, true);
+        LocalDateTime now = LocalDateTime.now();
+        schedulerLockRepository.save(new SchedulerLock(
+                IdempotencyCleanupTask.LOCK_NAME, "crashed-node", now.minusMinutes(10), now.minusMinutes(5)));
+
+        cleanupTask.cleanup();
+
+        assertThat(idempotencyKeyRepository.count()).isZero();
+    }
+
+    private List<IdempotencyKey> saveKeys(int count, boolean expired) {
+        List<IdempotencyKey> keys = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            IdempotencyKey key = new IdempotencyKey(
+                    UUID.randomUUID().toString(), 1L, "POST /api/v1/tasks", "hash", 60);
+            if (expired) {
+                key.setExpiresAt(LocalDateTime.now().minusMinutes(i + 1));
+            }
+            keys.add(idempotencyKeyRepository.save(key));
+        }
+        return keys;
+    }
+}
@@ -1,5 +1,8 @@
 package com.taskify.taskify.service;
 
+import com.taskify.taskify.config.CacheDependencyRegistry;
+import com.taskify.taskify.config.CacheGenerationRegistry;
+import com.taskify.taskify.config.CacheInput;
 import com.taskify.taskify.dto.TaskRequest;
 import com.taskify.taskify.dto.TaskResponse;
 import com.taskify.taskify.exception.TaskNotFoundException;
@@ -48,11 +51,14 @@ public class TaskServiceTest {
     @Mock
     private AuditService auditService;
 
+    @Mock
+    private CacheGenerationRegistry cacheGenerations;
+
     @Mock
     private org.springframework.cache.CacheManager cacheManager;
 
     @Mock
-    private org.springframework.cache.Cache cache;
+    private CacheDependencyRegistry cacheDependencies;
 
     @Mock
     private MeterRegistry meterRegistry;
@@ -60,6 +66,9 @@ public class TaskServiceTest {
     @Mock
     private Counter counter;
 
+    @Mock
+    private CheckInStatsService checkInStats;
+
     @InjectMocks
     private TaskServiceImpl taskService;
 
@@ -91,9 +100,6 @@ public class TaskServiceTest {
         when(authentication.getName()).thenReturn(username);
         when(userRepository.findByUsername(username)).thenReturn(Optional.of(user));
 
-        // Mock cache for incrementTaskVersion
-        lenient().when(cacheManager.getCache("taskVersions")).thenReturn(cache);
-
         // Mock Micrometer
         lenient().when(meterRegistry.counter(anyString(), any(String[].class))).thenReturn(counter);
     }
@@ -108,12 +114,14 @@ public class TaskServiceTest {
         assertNotNull(response);
         assertEquals(task.getTitle(), response.getTitle());
         verify(taskRepository, times(1)).save(any(Task.class));
+        verify(cacheGenerations).advanceAfterCommit(1L);
+        verify(cacheDependencies).invalidate(CacheInput.TASKS, "testuser");
     }
 
     @Test
     void shouldGetTaskByIdSuccessfully() {
         mockAuthentication("testuser");
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+        when(taskRepository.findWithIntentBucketById(1L)).thenReturn(Optional.of(task));
 
         TaskResponse response = taskService.getTaskById(1L);
 
@@ -123,7 +131,7 @@ public class TaskServiceTest {
 
     @Test
     void shouldThrowExceptionWhenTaskNotFound() {
-        when(taskRepository.findById(1L)).thenReturn(Optional.empty());
+        when(taskRepository.findWithIntentBucketById(1L)).thenReturn(Optional.empty());
 
         assertThrows(TaskNotFoundException.class, () -> taskService.getTaskById(1L));
     }
@@ -138,6 +146,7 @@ public class TaskServiceTest {
 
         assertNotNull(response);
         assertEquals(taskRequest.getTitle(), response.getTitle());
+        verify(checkInStats).recordStatusChange(task, Status.PENDING);
     }
 
     @Test
@@ -159,7 +168,7 @@ public class TaskServiceTest {
         otherOwner.setId(2L);
         task.setOwner(otherOwner);
 
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+        when(taskRepository.findWithIntentBucketById(1L)).thenReturn(Optional.of(task));
 
         assertThrows(AccessDeniedException.class, () -> taskService.getTaskById(1L));
     }
@@ -0,0 +1,35 @@
+package com.taskify.taskify.service.impl;
+
+import com.taskify.taskify.model.IdempotencyKey;
+import com.taskify.taskify.repository.IdempotencyKeyRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class IdempotencyServiceImplTest {
+
+    @Test
+    void shouldFreeTheClaimWhenTheReservationInsertFails() {
+        IdempotencyKeyRepository repository = mock(IdempotencyKeyRepository.class);
+        when(repository.saveAndFlush(any(IdempotencyKey.class)))
+                .thenThrow(new QueryTimeoutException("Reservation insert timed out"))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        IdempotencyServiceImpl service = new IdempotencyServiceImpl(repository, 1440, new SimpleMeterRegistry(),
+                100, 10, 200, 60);
+
+        assertThrows(QueryTimeoutException.class,
+                () -> service.reserve("key-1", 42L, "POST /api/v1/tasks", "hash"));
+
+        // A leaked claim would make the retry wait for it and fail as still in flight
+        assertTrue(service.reserve("key-1", 42L, "POST /api/v1/tasks", "hash").isEmpty());
+        verify(repository, times(2)).saveAndFlush(any(IdempotencyKey.class));
+    }
+}
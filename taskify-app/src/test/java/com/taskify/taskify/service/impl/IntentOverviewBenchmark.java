@@ -0,0 +1,153 @@
+package com.taskify.taskify.service.impl;
+
+import com.taskify.taskify.TaskifyApplication;
+import com.taskify.taskify.model.IntentBucket;
+import com.taskify.taskify.model.Status;
+import com.taskify.taskify.model.Task;
+import com.taskify.taskify.model.User;
+import com.taskify.taskify.repository.IntentBucketRepository;
+import com.taskify.taskify.repository.TaskRepository;
+import com.taskify.taskify.repository.TaskSpecification;
+import com.taskify.taskify.repository.UserRepository;
+import com.taskify.taskify.service.IntentBucketService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Intent overview counts for one user with 100 buckets and 50,000 tasks (H2, test
+ * profile): the previous three counts per bucket against the single grouped query,
+ * and the whole uncached overview.
+ *
+ * <p>Run with {@code mvn test-compile} and then this class's {@code main} method
+ * (test classpath), or from the IDE.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IntentOverviewBenchmark {
+
+    private static final int BUCKETS = 100;
+    private static final int TASKS = 50_000;
+
+    private ConfigurableApplicationContext context;
+    private TaskRepository taskRepository;
+    private IntentBucketService intentBucketService;
+    private CacheManager cacheManager;
+    private User user;
+    private List<Long> bucketIds;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(TaskifyApplication.class)
+                .profiles("test")
+                .properties("spring.jpa.show-sql=false", "logging.level.root=WARN")
+                .run();
+        taskRepository = context.getBean(TaskRepository.class);
+        intentBucketService = context.getBean(IntentBucketService.class);
+        cacheManager = context.getBean(CacheManager.class);
+
+        user = context.getBean(UserRepository.class).save(new User("bench", "bench@example.com", "password"));
+        IntentBucketRepository bucketRepository = context.getBean(IntentBucketRepository.class);
+        bucketIds = new ArrayList<>();
+        for (int i = 0; i < BUCKETS; i++) {
+            bucketIds.add(bucketRepository.save(new IntentBucket(user.getId(), "Bucket " + i, null, null)).getId());
+        }
+
+        // Spread statuses, due dates and modification times so every CASE branch is hit
+        LocalDateTime now = LocalDateTime.now();
+        Status[] statuses = Status.values();
+        List<Object[]> rows = new ArrayList<>(TASKS);
+        for (int i = 0; i < TASKS; i++) {
+            rows.add(new Object[] { "Task " + i, statuses[i % statuses.length].name(),
+                    Timestamp.valueOf(now.plusDays(i % 20 - 10)), Timestamp.valueOf(now.minusDays(i % 30)),
+                    Timestamp.valueOf(now.minusDays(i % 14)), user.getId(), bucketIds.get(i % BUCKETS) });
+        }
+        context.getBean(JdbcTemplate.class).batchUpdate(
+                "INSERT INTO tasks (title, status, priority, due_date, created_at, last_modified_at, user_id, "
+                        + "intent_bucket_id, deleted, version) VALUES (?, ?, 'MEDIUM', ?, ?, ?, ?, ?, false, 0)",
+                rows);
+
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user.getUsername(), null, List.of()));
+    }
+
+    @TearDown
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+        context.close();
+    }
+
+    /**
+     * The counts as computed before: three queries per bucket.
+     */
+    @Benchmark
+    public long perBucketCounts() {
+        LocalDateTime now = LocalDateTime.now();
+        long sum = 0;
+        for (Long bucketId : bucketIds) {
+            sum += taskRepository.count(Specification.allOf(
+                    TaskSpecification.withOwner(user),
+                    TaskSpecification.isNotDeleted(),
+                    TaskSpecification.withIntent(bucketId)));
+            sum += taskRepository.count(Specification.allOf(
+                    TaskSpecification.withOwner(user),
+                    TaskSpecification.isNotDeleted(),
+                    TaskSpecification.withIntent(bucketId),
+                    TaskSpecification.withStatus(Status.COMPLETED)));
+            sum += taskRepository.count(Specification.allOf(
+                    TaskSpecification.withOwner(user),
+                    TaskSpecification.isNotDeleted(),
+                    TaskSpecification.withIntent(bucketId),
+                    TaskSpecification.isNotStatus(Status.COMPLETED),
+                    TaskSpecification.isStagnant(now, now.minusDays(2), now.minusDays(3), now.minusDays(7))));
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public Object groupedCounts() {
+        LocalDateTime now = LocalDateTime.now();
+        return taskRepository.countByIntentBucket(user.getId(), now, now.minusDays(2), now.minusDays(3),
+                now.minusDays(7), Status.COMPLETED, Status.IN_PROGRESS, Status.PENDING);
+    }
+
+    @Benchmark
+    public Object overviewUncached() {
+        cacheManager.getCache("intentOverview").clear();
+        return intentBucketService.getOverview();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(IntentOverviewBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
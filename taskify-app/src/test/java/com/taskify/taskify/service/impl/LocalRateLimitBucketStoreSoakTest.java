@@ -0,0 +1,100 @@
+package com.taskify.taskify.service.impl;
+
+import io.github.bucket4j.BucketConfiguration;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.Reference;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LocalRateLimitBucketStoreSoakTest {
+
+    private static final int MAX_BUCKETS = 1_000;
+    private static final int UNIQUE_KEYS = 50_000;
+    private static final int SOAK_KEYS = 1_000_000;
+    // 1M unbounded buckets take hundreds of MB; a bounded store should retain what 1k keys do
+    private static final long RETAINED_HEAP_SLACK_BYTES = 32L * 1024 * 1024;
+
+    private static BucketConfiguration configuration(int capacity) {
+        return BucketConfiguration.builder()
+                .addLimit(limit -> limit.capacity(capacity).refillIntervally(capacity, Duration.ofMinutes(1)))
+                .build();
+    }
+
+    @Test
+    void shouldStayWithinItsBoundUnderManyUniqueKeys() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        LocalRateLimitBucketStore store = new LocalRateLimitBucketStore(MAX_BUCKETS, 600, meterRegistry);
+        BucketConfiguration configuration = configuration(50);
+
+        // Simulates a client rotating keys: every request carries a new one
+        for (int i = 0; i < UNIQUE_KEYS; i++) {
+            store.resolve("ip:" + i, () -> configuration).tryConsume(1);
+        }
+
+        assertTrue(store.bucketCount() <= MAX_BUCKETS,
+                "Bucket store exceeded its bound: " + store.bucketCount());
+        double evictions = meterRegistry.get("cache.evictions")
+                .tag("cache", LocalRateLimitBucketStore.BUCKET_CACHE_NAME)
+                .functionCounter().count();
+        assertTrue(evictions >= UNIQUE_KEYS - MAX_BUCKETS, "Expected evictions to be recorded, got " + evictions);
+        assertEquals((double) store.bucketCount(), meterRegistry.get("cache.size")
+                .tag("cache", LocalRateLimitBucketStore.BUCKET_CACHE_NAME)
+                .gauge().value());
+    }
+
+    @Test
+    void shouldRetainAsMuchHeapAfterMillionsOfKeysAsAfterAThousand() throws InterruptedException {
+        long baseline = retainedHeapAfter(MAX_BUCKETS);
+        long soaked = retainedHeapAfter(SOAK_KEYS);
+
+        assertTrue(soaked - baseline < RETAINED_HEAP_SLACK_BYTES,
+                "Heap grew by " + (soaked - baseline) / 1024 + " KB after " + SOAK_KEYS + " unique keys");
+    }
+
+    @Test
+    void shouldReuseBucketForHotKey() {
+        LocalRateLimitBucketStore store = new LocalRateLimitBucketStore(MAX_BUCKETS, 600, new SimpleMeterRegistry());
+        BucketConfiguration configuration = configuration(3);
+
+        for (int i = 0; i < 3; i++) {
+            assertTrue(store.resolve("user:hot", () -> configuration).tryConsume(1));
+        }
+        assertFalse(store.resolve("user:hot", () -> configuration).tryConsume(1));
+        assertEquals(1, store.bucketCount());
+    }
+
+    /**
+     * Used heap after a full GC, with a store that has seen the given number of
+     * unique keys still reachable.
+     */
+    private static long retainedHeapAfter(int uniqueKeys) throws InterruptedException {
+        LocalRateLimitBucketStore store = new LocalRateLimitBucketStore(MAX_BUCKETS, 600, new SimpleMeterRegistry());
+        BucketConfiguration configuration = configuration(50);
+        for (int i = 0; i < uniqueKeys; i++) {
+            store.resolve("ip:" + i, () -> configuration).tryConsume(1);
+        }
+        // Runs the evictions Caffeine still has pending
+        store.bucketCount();
+
+        long used = usedHeapAfterGc();
+        Reference.reachabilityFence(store);
+        return used;
+    }
+
+    private static long usedHeapAfterGc() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        long used = Long.MAX_VALUE;
+        // System.gc() is only a hint; take the lowest of a few collections
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+            Thread.sleep(50);
+            used = Math.min(used, runtime.totalMemory() - runtime.freeMemory());
+        }
+        return used;
+    }
+}
@@ -0,0 +1,201 @@
+package com.taskify.taskify.task;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskify.taskify.dto.TaskRequest;
+import com.taskify.taskify.model.IdempotencyKey;
+import com.taskify.taskify.model.IdempotencyStatus;
+import com.taskify.taskify.model.Priority;
+import com.taskify.taskify.model.Role;
+import com.taskify.taskify.model.Status;
+import com.taskify.taskify.model.User;
+import com.taskify.taskify.repository.IdempotencyKeyRepository;
+import com.taskify.taskify.repository.RefreshTokenRepository;
+import com.taskify.taskify.repository.RoleRepository;
+import com.taskify.taskify.repository.TaskRepository;
+import com.taskify.taskify.repository.UserRepository;
+import com.taskify.taskify.security.SecurityConstants;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Exercises the reservation path outside a test transaction, so concurrent
+ * requests really race on the unique (key, user) index.
+ */
+@SpringBootTest(properties = {
+        "app.idempotency.wait-timeout-ms=1000",
+        "app.idempotency.in-flight-timeout-seconds=60"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class TaskIdempotencyConcurrencyIntegrationTest {
+
+    private static final int CONCURRENT_REQUESTS = 8;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        deleteTestData();
+
+        Role userRole = roleRepository.findByName(SecurityConstants.ROLE_USER)
+                .orElseGet(() -> roleRepository.save(new Role(SecurityConstants.ROLE_USER)));
+
+        user = new User("testuser", "test@example.com", "password");
+        user.setRoles(Set.of(userRole));
+        user = userRepository.save(user);
+    }
+
+    // Nothing here runs in a test transaction, so leave no committed rows behind for
+    // transactional tests that recreate the same username
+    @AfterEach
+    void deleteTestData() {
+        taskRepository.deleteAll();
+        idempotencyKeyRepository.deleteAll();
+        refreshTokenRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void concurrentDuplicatesCreateExactlyOneTask() throws Exception {
+        String idempotencyKey = UUID.randomUUID().toString();
+        String body = objectMapper.writeValueAsString(taskRequest("Concurrent Task"));
+
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_REQUESTS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<MvcResult>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return mockMvc.perform(createRequest(idempotencyKey, body))
+                            .andExpect(status().isCreated())
+                            .andReturn();
+                }));
+            }
+            start.countDown();
+
+            Set<Long> returnedIds = new HashSet<>();
+            for (Future<MvcResult> result : results) {
+                JsonNode response = objectMapper.readTree(
+                        result.get(30, TimeUnit.SECONDS).getResponse().getContentAsString());
+                returnedIds.add(response.get("id").asLong());
+            }
+
+            assertThat(returnedIds).hasSize(1);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(taskRepository.count()).isEqualTo(1);
+        assertThat(idempotencyKeyRepository.findAll())
+                .singleElement()
+                .extracting(IdempotencyKey::getStatus)
+                .isEqualTo(IdempotencyStatus.COMPLETED);
+    }
+
+    @Test
+    void requestWaitingOnForeignReservationTimesOutWithConflict() throws Exception {
+        String idempotencyKey = UUID.randomUUID().toString();
+        TaskRequest request = taskRequest("Held Elsewhere");
+
+        // Simulates a reservation held by a request still running on another node
+        idempotencyKeyRepository.save(new IdempotencyKey(
+                idempotencyKey, user.getId(), "POST /api/v1/tasks", hashOf(request), 1440));
+
+        mockMvc.perform(createRequest(idempotencyKey, objectMapper.writeValueAsString(request)))
+                .andExpect(status().isConflict());
+
+        assertThat(taskRepository.count()).isZero();
+    }
+
+    @Test
+    void abandonedReservationIsReclaimed() throws Exception {
+        String idempotencyKey = UUID.randomUUID().toString();
+        TaskRequest request = taskRequest("Reclaimed");
+
+        IdempotencyKey abandoned = new IdempotencyKey(
+                idempotencyKey, user.getId(), "POST /api/v1/tasks", hashOf(request), 1440);
+        abandoned.setCreatedAt(LocalDateTime.now().minusMinutes(5));
+        idempotencyKeyRepository.save(abandoned);
+
+        mockMvc.perform(createRequest(idempotencyKey, objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated());
+
+        assertThat(taskRepository.count()).isEqualTo(1);
+        assertThat(idempotencyKeyRepository.findAll())
+                .singleElement()
+                .extracting(IdempotencyKey::getStatus)
+                .isEqualTo(IdempotencyStatus.COMPLETED);
+    }
+
+    private MockHttpServletRequestBuilder createRequest(String idempotencyKey, String body) {
+        return post("/api/v1/tasks")
+                .with(user("testuser").roles("USER"))
+                .header("Idempotency-Key", idempotencyKey)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body);
+    }
+
+    private TaskRequest taskRequest(String title) {
+        TaskRequest request = new TaskRequest();
+        request.setTitle(title);
+        request.setDescription("Desc");
+        request.setStatus(Status.PENDING);
+        request.setPriority(Priority.MEDIUM);
+        return request;
+    }
+
+    private String hashOf(TaskRequest request) throws Exception {
+        byte[] json = objectMapper.writeValueAsString(request).getBytes(java.nio.charset.StandardCharsets.UTF_8);
+        byte[] hash = java.security.MessageDigest.getInstance("SHA-256").digest(json);
+        return java.util.Base64.getEncoder().encodeToString(hash);
+    }
+}
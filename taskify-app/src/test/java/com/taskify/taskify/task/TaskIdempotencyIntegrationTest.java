@@ -222,4 +222,24 @@ public class TaskIdempotencyIntegrationTest {
 
                 assertEquals(2, taskRepository.count());
         }
+
+        @Test
+        @WithMockUser(username = "testuser", roles = "USER")
+        void shouldRejectOversizedBodyBeforeReservingTheKey() throws Exception {
+                TaskRequest request = new TaskRequest();
+                request.setTitle("Too Big");
+                request.setDescription("x".repeat(1_048_576));
+                request.setStatus(Status.PENDING);
+                request.setPriority(Priority.MEDIUM);
+
+                mockMvc.perform(post("/api/v1/tasks")
+                                .header("Idempotency-Key", UUID.randomUUID().toString())
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(request)))
+                                .andExpect(status().isPayloadTooLarge())
+                                .andExpect(jsonPath("$.status", is(413)));
+
+                assertEquals(0, idempotencyKeyRepository.count());
+                assertEquals(0, taskRepository.count());
+        }
 }
@@ -0,0 +1,138 @@
+#!/usr/bin/env python3
+"""Compares a JMH JSON result file with a stored baseline.
+
+Each benchmark (with its parameters) is matched by name. Its score and its
+allocation per operation (gc.alloc.rate.norm, from -prof gc) are compared with
+the baseline. The script exits with status 1 when any of them got worse by more
+than the allowed percentage. Benchmarks missing from either file are listed
+but do not fail the run.
+
+The baseline keeps only the name, score, unit and B/op of each benchmark;
+--update writes it from a result file instead of comparing.
+
+    compare-baseline.py baseline.json result.json [--time-tolerance 10] [--alloc-tolerance 5]
+    compare-baseline.py --update baseline.json result.json
+"""
+
+import argparse
+import json
+import sys
+
+ALLOC_METRIC = "gc.alloc.rate.norm"
+
+
+def key(entry):
+    params = entry.get("params") or {}
+    suffix = ",".join(f"{name}={value}" for name, value in sorted(params.items()))
+    return f"{entry['benchmark']}({suffix})" if suffix else entry["benchmark"]
+
+
+def summarize(entries):
+    """Name, score, unit and B/op of each benchmark in a JMH result."""
+    summary = []
+    for entry in entries:
+        alloc = entry.get("secondaryMetrics", {}).get(ALLOC_METRIC, {}).get("score")
+        summary.append({
+            "name": key(entry),
+            "score": round(entry["primaryMetric"]["score"], 3),
+            "unit": entry["primaryMetric"]["scoreUnit"],
+            "bytesPerOp": round(alloc, 1) if alloc is not None else None,
+        })
+    return summary
+
+
+def load(path):
+    with open(path) as f:
+        return {entry["name"]: entry for entry in json.load(f)}
+
+
+def load_result(path):
+    with open(path) as f:
+        return {entry["name"]: entry for entry in summarize(json.load(f))}
+
+
+def write_baseline(path, result_path):
+    with open(result_path) as f:
+        entries = sorted(summarize(json.load(f)), key=lambda entry: entry["name"])
+    with open(path, "w") as f:
+        json.dump(entries, f, indent=2)
+        f.write("\n")
+    print(f"Baseline {path} updated from {result_path}")
+
+
+def change(baseline, current, higher_is_better):
+    """Percentage by which current is worse than baseline (negative: better)."""
+    if baseline == 0:
+        return 0.0 if current == 0 else float("inf")
+    delta = (current - baseline) / baseline * 100
+    return -delta if higher_is_better else delta
+
+
+def main():
+    parser = argparse.ArgumentParser(description=__doc__, formatter_class=argparse.RawDescriptionHelpFormatter)
+    parser.add_argument("baseline")
+    parser.add_argument("result")
+    parser.add_argument("--time-tolerance", type=float, default=10.0,
+                        help="allowed score regression in percent (default 10)")
+    parser.add_argument("--alloc-tolerance", type=float, default=5.0,
+                        help="allowed B/op regression in percent (default 5)")
+    parser.add_argument("--update", action="store_true",
+                        help="store the result as the new baseline instead of comparing")
+    args = parser.parse_args()
+
+    if args.update:
+        write_baseline(args.baseline, args.result)
+        return 0
+
+    baseline = load(args.baseline)
+    result = load_result(args.result)
+    regressions = []
+
+    print(f"{'benchmark':<90} {'baseline':>12} {'current':>12} {'worse':>8}   {'B/op base':>10} {'B/op now':>10}")
+    for name in sorted(result):
+        current = result[name]
+        if name not in baseline:
+            print(f"{name:<90} {'(new)':>12}")
+            continue
+        base = baseline[name]
+
+        # Throughput is reported as ops per time unit; every other mode as time per op
+        higher_is_better = current["unit"].startswith("ops/")
+        time_change = change(base["score"], current["score"], higher_is_better)
+
+        base_alloc = base["bytesPerOp"]
+        alloc = current["bytesPerOp"]
+        alloc_change = change(base_alloc, alloc, False) if base_alloc is not None and alloc is not None else None
+
+        flags = []
+        if time_change > args.time_tolerance:
+            flags.append("SLOWER")
+            regressions.append(f"{name}: score {time_change:+.1f}% worse")
+        # Allocation below a few bytes per op is noise from the profiler itself
+        if alloc_change is not None and alloc_change > args.alloc_tolerance and alloc - base_alloc > 16:
+            flags.append("ALLOCATES MORE")
+            regressions.append(f"{name}: {alloc - base_alloc:+.0f} B/op ({alloc_change:+.1f}%)")
+
+        unit = current["unit"]
+        print(f"{name:<90} {base['score']:>9.3f} {unit:<2} {current['score']:>9.3f} {unit:<2}"
+              f" {time_change:>+7.1f}%"
+              f"   {fmt(base_alloc):>10} {fmt(alloc):>10}  {' '.join(flags)}")
+
+    for name in sorted(set(baseline) - set(result)):
+        print(f"{name:<90} {'(not run)':>12}")
+
+    if regressions:
+        print("\nRegressions against the baseline:")
+        for regression in regressions:
+            print(f"  {regression}")
+        return 1
+    print("\nNo regressions against the baseline.")
+    return 0
+
+
+def fmt(value):
+    return "-" if value is None else f"{value:.0f}"
+
+
+if __name__ == "__main__":
+    sys.exit(main())
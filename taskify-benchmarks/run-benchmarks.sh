@@ -0,0 +1,28 @@
+#!/usr/bin/env bash
+# Builds the application and the benchmarks, runs JMH with the GC profiler and
+# compares the results with baseline/jmh-baseline.json.
+#
+#   ./run-benchmarks.sh                     all benchmarks
+#   ./run-benchmarks.sh JwtServiceBenchmark  benchmarks matching a JMH include pattern
+#   UPDATE_BASELINE=1 ./run-benchmarks.sh    store the results as the new baseline
+#
+# Extra JMH options go in JMH_OPTS, e.g. JMH_OPTS="-wi 1 -i 2 -f 1" for a quick run.
+set -euo pipefail
+
+cd "$(dirname "$0")"
+MVN="../mvnw"
+
+# The reactor builds the application first; the benchmarks compile against its plain jar
+"$MVN" -B -q -f ../pom.xml -pl taskify-benchmarks -am -DskipTests package \
+    dependency:build-classpath -Dmdep.outputFile=target/classpath.txt
+
+RESULT=target/jmh-result.json
+# shellcheck disable=SC2086
+java -cp "target/classes:$(cat target/classpath.txt)" org.openjdk.jmh.Main \
+    -prof gc -rf json -rff "$RESULT" ${JMH_OPTS:-} "$@"
+
+if [[ "${UPDATE_BASELINE:-0}" == "1" ]]; then
+    python3 compare-baseline.py --update baseline/jmh-baseline.json "$RESULT"
+else
+    python3 compare-baseline.py baseline/jmh-baseline.json "$RESULT"
+fi
@@ -0,0 +1,21 @@
+#!/usr/bin/env bash
+# Builds the application, boots it against a local H2 file database and replays
+# the LoadTest request mix, then compares per-endpoint latency and throughput with
+# baseline/load-baseline.json. Exits with status 1 when the run drifts past it.
+#
+#   ./run-load-test.sh                                  default run (16 users, 60 s)
+#   ./run-load-test.sh --load.duration=120 --load.workers=32
+#   ./run-load-test.sh --load.update-baseline=true      store this run as the baseline
+#
+# Options other than --load.* are passed to the application, e.g.
+# --spring.datasource.url=jdbc:mysql://localhost:3306/taskify_load for a local MySQL.
+set -euo pipefail
+
+cd "$(dirname "$0")"
+MVN="../mvnw"
+
+# The reactor builds the application first; the benchmarks compile against its plain jar
+"$MVN" -B -q -f ../pom.xml -pl taskify-benchmarks -am -DskipTests package \
+    dependency:build-classpath -Dmdep.outputFile=target/classpath.txt
+
+java ${JAVA_OPTS:-} -cp "target/classes:$(cat target/classpath.txt)" com.taskify.taskify.load.LoadTest "$@"
@@ -0,0 +1,133 @@
+package com.taskify.taskify.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.taskify.taskify.model.Priority;
+import com.taskify.taskify.model.Status;
+import com.taskify.taskify.security.SecurityConstants;
+import com.taskify.taskify.security.TaskifyUserDetails;
+import com.taskify.taskify.service.TaskService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.lang.reflect.Method;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Compares the previous string-concatenating list cache key with
+ * {@link TaskListCacheKey}: key generation alone, and generation plus a lookup in
+ * a warm Caffeine cache.
+ *
+ * <p>Run with {@code taskify-benchmarks/run-benchmarks.sh TaskCacheKeyBenchmark},
+ * this class's {@code main} method, or from the IDE.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskCacheKeyBenchmark {
+
+    private static final int CACHED_ENTRIES = 10_000;
+
+    private TaskCacheKeyGenerator generator;
+    private Method method;
+    private Object[] params;
+    private Authentication authentication;
+
+    private Cache<Object, Object> legacyCache;
+    private Cache<Object, Object> structuredCache;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        // The principal carries its id, so the repository is never consulted
+        generator = new TaskCacheKeyGenerator(new CacheGenerationRegistry(), null);
+        method = TaskService.class.getMethod("getAllTasks", Status.class, Priority.class, LocalDateTime.class,
+                LocalDateTime.class, LocalDateTime.class, LocalDateTime.class, Long.class, String.class,
+                boolean.class, Pageable.class);
+
+        TaskifyUserDetails principal = new TaskifyUserDetails(42L, "benchmark-user", "",
+                List.of(new SimpleGrantedAuthority(SecurityConstants.ROLE_USER)));
+        authentication = new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+
+        params = new Object[] { Status.PENDING, Priority.HIGH, null, null, null, null, 7L, "report", false,
+                PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt")) };
+
+        legacyCache = Caffeine.newBuilder().maximumSize(CACHED_ENTRIES * 2L).build();
+        structuredCache = Caffeine.newBuilder().maximumSize(CACHED_ENTRIES * 2L).build();
+        for (int page = 0; page < CACHED_ENTRIES; page++) {
+            Object[] pageParams = params.clone();
+            pageParams[9] = PageRequest.of(page, 20, Sort.by(Sort.Direction.DESC, "createdAt"));
+            legacyCache.put(legacyKey(authentication, method, pageParams), Boolean.TRUE);
+            structuredCache.put(generator.generate(this, method, pageParams), Boolean.TRUE);
+        }
+    }
+
+    @Benchmark
+    public Object legacyKeyGeneration() {
+        return legacyKey(authentication, method, params);
+    }
+
+    @Benchmark
+    public Object structuredKeyGeneration() {
+        return generator.generate(this, method, params);
+    }
+
+    @Benchmark
+    public Object legacyKeyLookup() {
+        return legacyCache.getIfPresent(legacyKey(authentication, method, params));
+    }
+
+    @Benchmark
+    public Object structuredKeyLookup() {
+        return structuredCache.getIfPresent(generator.generate(this, method, params));
+    }
+
+    /**
+     * The key format used before {@link TaskListCacheKey}, minus its cache write.
+     */
+    private static String legacyKey(Authentication authentication, Method method, Object[] params) {
+        String roles = authentication.getAuthorities().stream()
+                .map(a -> a.getAuthority())
+                .collect(Collectors.joining(","));
+
+        StringBuilder key = new StringBuilder();
+        key.append(authentication.getName()).append(":");
+        key.append(roles).append(":");
+        key.append("0").append(":");
+        key.append(method.getName()).append(":");
+        for (Object param : params) {
+            key.append(param != null ? param.toString() : "null").append("|");
+        }
+        return key.toString();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(TaskCacheKeyBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
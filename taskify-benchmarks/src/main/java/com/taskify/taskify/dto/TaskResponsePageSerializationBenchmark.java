@@ -0,0 +1,78 @@
+package com.taskify.taskify.dto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskify.taskify.model.Task;
+import com.taskify.taskify.service.impl.BenchmarkTasks;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serializing the {@code Page<TaskResponse>} body of {@code GET /api/v1/tasks}
+ * with an {@link ObjectMapper} configured like the application's (Java time as
+ * ISO strings).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskResponsePageSerializationBenchmark {
+
+    @Param({ "10", "100" })
+    private int pageSize;
+
+    private ObjectMapper objectMapper;
+    private Page<TaskResponse> page;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        List<TaskResponse> responses = BenchmarkTasks.page(pageSize, LocalDateTime.now()).stream()
+                .map(TaskResponsePageSerializationBenchmark::toResponse)
+                .toList();
+        page = new PageImpl<>(responses, PageRequest.of(0, pageSize, Sort.by(Sort.Direction.DESC, "createdAt")),
+                pageSize * 10L);
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    private static TaskResponse toResponse(Task task) {
+        return new TaskResponse(task.getId(), task.getTitle(), task.getDescription(), task.getRationale(),
+                task.getStatus(), task.getPriority(), task.getDueDate(), task.getCreatedAt(),
+                task.getIntentBucket() != null ? task.getIntentBucket().getId() : null,
+                task.getIntentBucket() != null ? task.getIntentBucket().getName() : null);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(TaskResponsePageSerializationBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
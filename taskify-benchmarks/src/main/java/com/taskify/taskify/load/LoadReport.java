@@ -0,0 +1,67 @@
+package com.taskify.taskify.load;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Result of one load run, written as JSON and compared against a stored
+ * baseline from an earlier run on the same machine.
+ */
+record LoadReport(int workers, double measuredSeconds, double throughput, Map<String, EndpointStats> endpoints) {
+
+    record EndpointStats(long requests, long errors, double throughput, double p50Ms, double p95Ms, double p99Ms) {
+
+        double errorRate() {
+            return requests == 0 ? 0 : (double) errors / requests;
+        }
+    }
+
+    /**
+     * Allowed drift from the baseline. Latency may grow by {@code latency} (a
+     * fraction) plus {@code latencySlackMs}, so endpoints that answer in a
+     * millisecond or two do not fail on scheduler noise; throughput may drop by
+     * {@code throughput}; the error rate may rise by {@code errorRate}.
+     */
+    record Tolerance(double latency, double latencySlackMs, double throughput, double errorRate) {
+    }
+
+    /**
+     * Every way this run is worse than the baseline beyond the tolerance; empty
+     * when it is within bounds.
+     */
+    List<String> driftFrom(LoadReport baseline, Tolerance tolerance) {
+        List<String> drift = new ArrayList<>();
+        if (throughput < baseline.throughput * (1 - tolerance.throughput())) {
+            drift.add(String.format("total throughput %.1f req/s, baseline %.1f req/s", throughput,
+                    baseline.throughput));
+        }
+        baseline.endpoints.forEach((endpoint, base) -> {
+            EndpointStats current = endpoints.get(endpoint);
+            if (current == null || current.requests() == 0) {
+                drift.add(endpoint + ": no requests completed");
+                return;
+            }
+            checkLatency(drift, endpoint, "p95", current.p95Ms(), base.p95Ms(), tolerance);
+            checkLatency(drift, endpoint, "p99", current.p99Ms(), base.p99Ms(), tolerance);
+            if (current.throughput() < base.throughput() * (1 - tolerance.throughput())) {
+                drift.add(String.format("%s: throughput %.1f req/s, baseline %.1f req/s", endpoint,
+                        current.throughput(), base.throughput()));
+            }
+            if (current.errorRate() > base.errorRate() + tolerance.errorRate()) {
+                drift.add(String.format("%s: error rate %.2f%%, baseline %.2f%%", endpoint,
+                        current.errorRate() * 100, base.errorRate() * 100));
+            }
+        });
+        return drift;
+    }
+
+    private static void checkLatency(List<String> drift, String endpoint, String percentile, double current,
+            double baseline, Tolerance tolerance) {
+        double limit = baseline * (1 + tolerance.latency()) + tolerance.latencySlackMs();
+        if (current > limit) {
+            drift.add(String.format("%s: %s %.2f ms, baseline %.2f ms (limit %.2f ms)", endpoint, percentile, current,
+                    baseline, limit));
+        }
+    }
+}
@@ -0,0 +1,368 @@
+package com.taskify.taskify.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.taskify.taskify.TaskifyApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * End-to-end load driver. Boots the application in this JVM against a local H2
+ * file database, seeds users, intent buckets and tasks through the API, and has
+ * a fixed number of virtual users replay the {@link Operation} mix back to back
+ * for a set duration. Reports throughput and p50/p95/p99 latency per endpoint,
+ * writes them as JSON, and exits with status 1 when they drift past the stored
+ * baseline.
+ *
+ * <p>Driver options start with {@code --load.} (see {@link Options}); every other
+ * argument is passed to the application, so {@code --spring.datasource.url=...}
+ * points it at another local database.
+ */
+public final class LoadTest {
+
+    private static final ObjectMapper JSON = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private static final String[] STATUSES = { "PENDING", "IN_PROGRESS", "COMPLETED" };
+    private static final String[] PRIORITIES = { "LOW", "MEDIUM", "HIGH" };
+
+    private final Options options;
+    private final URI baseUri;
+    private final HttpClient client;
+
+    private LoadTest(Options options, int port) {
+        this.options = options;
+        this.baseUri = URI.create("http://localhost:" + port);
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = Options.parse(args);
+        int exitCode;
+        try (ConfigurableApplicationContext app = new SpringApplicationBuilder(TaskifyApplication.class)
+                .run(applicationArgs(args))) {
+            int port = ((WebServerApplicationContext) app).getWebServer().getPort();
+            LoadTest loadTest = new LoadTest(options, port);
+            List<VirtualUser> users = loadTest.seed();
+            LoadReport report = loadTest.run(users);
+            exitCode = loadTest.report(report);
+        }
+        System.exit(exitCode);
+    }
+
+    /**
+     * Settings for a self-contained run, followed by the caller's own arguments
+     * (later arguments win).
+     */
+    private static String[] applicationArgs(String[] args) {
+        List<String> appArgs = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--spring.main.banner-mode=off",
+                // Per-request INFO logging to the console would dominate a single box
+                "--logging.level.root=WARN",
+                "--logging.level.com.taskify.taskify=WARN",
+                "--spring.datasource.url=jdbc:h2:file:./target/load-db/taskify;DB_CLOSE_ON_EXIT=FALSE",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.jpa.show-sql=false",
+                // One node: nothing to invalidate across
+                "--app.cache.invalidation.transport=loopback"));
+        // Every virtual user would otherwise hit its per-user quota within seconds
+        for (String limit : List.of("auth", "api", "reporting", "preauth")) {
+            appArgs.add("--rate.limit." + limit + ".capacity=100000000");
+            appArgs.add("--rate.limit." + limit + ".refill.tokens=100000000");
+        }
+        for (String arg : args) {
+            if (!arg.startsWith("--load.")) {
+                appArgs.add(arg);
+            }
+        }
+        return appArgs.toArray(String[]::new);
+    }
+
+    private List<VirtualUser> seed() throws IOException, InterruptedException {
+        List<VirtualUser> users = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        for (int u = 0; u < options.workers(); u++) {
+            VirtualUser user = new VirtualUser("load-user-" + u, "load-password-" + u, new Random(options.seed() + u));
+            expectSuccess(send("POST", "/api/v1/auth/register", null, Map.of(
+                    "username", user.username, "email", user.username + "@example.com", "password", user.password)));
+            user.token = login(user);
+
+            for (int b = 0; b < options.bucketsPerUser(); b++) {
+                JsonNode bucket = expectSuccess(send("POST", "/api/v1/intents", user.token, Map.of(
+                        "name", "Bucket " + b, "description", "Load test bucket", "color", "#3366ff")));
+                user.bucketIds.add(bucket.get("id").asLong());
+            }
+            for (int t = 0; t < options.tasksPerUser(); t++) {
+                Map<String, Object> task = new HashMap<>();
+                task.put("title", "Task " + t);
+                task.put("description", "Seeded for the load test");
+                task.put("status", STATUSES[t % 2]);
+                task.put("priority", PRIORITIES[t % PRIORITIES.length]);
+                task.put("dueDate", now.plusDays(1 + t % 14).toString());
+                task.put("intentBucketId", user.bucketIds.get(t % user.bucketIds.size()));
+                user.taskIds.add(expectSuccess(send("POST", "/api/v1/tasks", user.token, task)).get("id").asLong());
+            }
+            users.add(user);
+        }
+        return users;
+    }
+
+    private LoadReport run(List<VirtualUser> users) throws Exception {
+        long start = System.nanoTime();
+        long measureFrom = start + options.warmup().toNanos();
+        long until = measureFrom + options.duration().toNanos();
+
+        ExecutorService executor = Executors.newFixedThreadPool(users.size());
+        List<Future<Map<Operation, LatencyRecorder>>> workers = new ArrayList<>();
+        try {
+            for (VirtualUser user : users) {
+                workers.add(executor.submit(() -> replay(user, measureFrom, until)));
+            }
+            Map<Operation, LatencyRecorder> merged = new EnumMap<>(Operation.class);
+            for (Future<Map<Operation, LatencyRecorder>> worker : workers) {
+                worker.get().forEach((operation, recorder) ->
+                        merged.computeIfAbsent(operation, o -> new LatencyRecorder()).addAll(recorder));
+            }
+
+            double seconds = options.duration().toMillis() / 1000.0;
+            Map<String, LoadReport.EndpointStats> endpoints = new LinkedHashMap<>();
+            long total = 0;
+            for (Operation operation : Operation.values()) {
+                LoadReport.EndpointStats stats = merged.getOrDefault(operation, new LatencyRecorder())
+                        .summarize(seconds);
+                endpoints.put(operation.endpoint(), stats);
+                total += stats.requests();
+            }
+            return new LoadReport(users.size(), seconds, total / seconds, endpoints);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Map<Operation, LatencyRecorder> replay(VirtualUser user, long measureFrom, long until)
+            throws IOException, InterruptedException {
+        Map<Operation, LatencyRecorder> recorders = new EnumMap<>(Operation.class);
+        while (System.nanoTime() < until) {
+            Operation operation = Operation.pick(user.random.nextDouble());
+            long started = System.nanoTime();
+            boolean success = execute(user, operation);
+            long latency = System.nanoTime() - started;
+            if (started >= measureFrom) {
+                recorders.computeIfAbsent(operation, o -> new LatencyRecorder()).record(latency, success);
+            }
+            if (!options.think().isZero()) {
+                Thread.sleep(options.think());
+            }
+        }
+        return recorders;
+    }
+
+    private boolean execute(VirtualUser user, Operation operation) throws IOException, InterruptedException {
+        Random random = user.random;
+        HttpResponse<String> response = switch (operation) {
+            case LOGIN -> {
+                HttpResponse<String> login = send("POST", "/api/v1/auth/login", null,
+                        Map.of("username", user.username, "password", user.password));
+                if (isSuccess(login)) {
+                    user.token = JSON.readTree(login.body()).get("token").asText();
+                }
+                yield login;
+            }
+            case LIST -> send("GET", "/api/v1/tasks?page=" + random.nextInt(3) + "&size=10", user.token, null);
+            case FOCUS -> send("GET", "/api/v1/tasks/focus", user.token, null);
+            case UPDATE -> {
+                Map<String, Object> update = new HashMap<>();
+                update.put("title", "Task updated " + random.nextInt(1000));
+                update.put("description", "Updated by the load test");
+                update.put("status", STATUSES[random.nextInt(STATUSES.length)]);
+                update.put("priority", PRIORITIES[random.nextInt(PRIORITIES.length)]);
+                update.put("dueDate", LocalDateTime.now().plusDays(1 + random.nextInt(14))
+                        .truncatedTo(ChronoUnit.SECONDS).toString());
+                update.put("intentBucketId", user.bucketIds.get(random.nextInt(user.bucketIds.size())));
+                yield send("PUT", "/api/v1/tasks/" + user.randomTask(), user.token, update);
+            }
+            case CHECK_IN -> {
+                List<Long> taskIds = new ArrayList<>();
+                for (int i = 1 + random.nextInt(3); i > 0; i--) {
+                    taskIds.add(user.randomTask());
+                }
+                yield send("POST", "/api/v1/day/check-in", user.token,
+                        Map.of("taskIds", taskIds.stream().distinct().toList(), "note", "Load test focus"));
+            }
+            case REVIEW -> send("GET", "/api/v1/tasks/review", user.token, null);
+            case OVERVIEW -> send("GET", "/api/v1/intents/overview", user.token, null);
+        };
+        return isSuccess(response);
+    }
+
+    private int report(LoadReport report) throws IOException {
+        System.out.printf("%nLoad test: %d virtual users, %.0f s measured after %d s warm-up%n%n", report.workers(),
+                report.measuredSeconds(), options.warmup().toSeconds());
+        System.out.printf("%-32s %9s %7s %9s %9s %9s %9s%n", "endpoint", "requests", "errors", "req/s", "p50 ms",
+                "p95 ms", "p99 ms");
+        report.endpoints().forEach((endpoint, stats) -> System.out.printf("%-32s %9d %7d %9.1f %9.2f %9.2f %9.2f%n",
+                endpoint, stats.requests(), stats.errors(), stats.throughput(), stats.p50Ms(), stats.p95Ms(),
+                stats.p99Ms()));
+        System.out.printf("%-32s %9s %7s %9.1f%n%n", "total", "", "", report.throughput());
+
+        File result = new File(options.result());
+        result.getParentFile().mkdirs();
+        JSON.writeValue(result, report);
+        System.out.println("Results written to " + result);
+
+        File baselineFile = new File(options.baseline());
+        if (options.updateBaseline()) {
+            baselineFile.getParentFile().mkdirs();
+            JSON.writeValue(baselineFile, report);
+            System.out.println("Baseline updated: " + baselineFile);
+            return 0;
+        }
+        if (!baselineFile.exists()) {
+            System.out.println("No baseline at " + baselineFile + "; run with --load.update-baseline=true to store one");
+            return 0;
+        }
+
+        LoadReport baseline = JSON.readValue(baselineFile, LoadReport.class);
+        List<String> drift = report.driftFrom(baseline, options.tolerance());
+        if (drift.isEmpty()) {
+            System.out.println("Within the baseline in " + baselineFile);
+            return 0;
+        }
+        System.out.println("Drifted past the baseline in " + baselineFile + ":");
+        drift.forEach(line -> System.out.println("  " + line));
+        return 1;
+    }
+
+    private HttpResponse<String> send(String method, String path, String token, Object body)
+            throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(Duration.ofSeconds(30))
+                .method(method, body == null
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofString(JSON.writeValueAsString(body)));
+        if (body != null) {
+            request.header("Content-Type", "application/json");
+        }
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private String login(VirtualUser user) throws IOException, InterruptedException {
+        return expectSuccess(send("POST", "/api/v1/auth/login", null,
+                Map.of("username", user.username, "password", user.password))).get("token").asText();
+    }
+
+    private static JsonNode expectSuccess(HttpResponse<String> response) throws IOException {
+        if (!isSuccess(response)) {
+            throw new IllegalStateException("Seeding request " + response.request().method() + " "
+                    + response.request().uri() + " failed with " + response.statusCode() + ": " + response.body());
+        }
+        return response.body().startsWith("{") ? JSON.readTree(response.body()) : null;
+    }
+
+    private static boolean isSuccess(HttpResponse<String> response) {
+        return response.statusCode() / 100 == 2;
+    }
+
+    /**
+     * One seeded account, driven by a single worker thread.
+     */
+    private static final class VirtualUser {
+
+        final String username;
+        final String password;
+        final Random random;
+        final List<Long> bucketIds = new ArrayList<>();
+        final List<Long> taskIds = new ArrayList<>();
+        String token;
+
+        VirtualUser(String username, String password, Random random) {
+            this.username = username;
+            this.password = password;
+            this.random = random;
+        }
+
+        long randomTask() {
+            return taskIds.get(random.nextInt(taskIds.size()));
+        }
+    }
+
+    /**
+     * Driver options, given as {@code --load.<name>=<value>}:
+     * <ul>
+     * <li>{@code workers} (16): virtual users, one thread and one account each</li>
+     * <li>{@code warmup} (20) and {@code duration} (60): seconds</li>
+     * <li>{@code think-ms} (0): pause between a user's requests</li>
+     * <li>{@code buckets-per-user} (3) and {@code tasks-per-user} (40): seeded data</li>
+     * <li>{@code seed} (42): random seed for the request mix</li>
+     * <li>{@code baseline} ({@code baseline/load-baseline.json}) and
+     * {@code result} ({@code target/load-result.json})</li>
+     * <li>{@code update-baseline} (false): store this run as the baseline</li>
+     * <li>{@code latency-tolerance} (0.25), {@code latency-slack-ms} (2),
+     * {@code throughput-tolerance} (0.15), {@code error-rate-tolerance} (0.001):
+     * see {@link LoadReport.Tolerance}</li>
+     * </ul>
+     */
+    record Options(int workers, Duration warmup, Duration duration, Duration think, int bucketsPerUser,
+            int tasksPerUser, long seed, String baseline, String result, boolean updateBaseline,
+            LoadReport.Tolerance tolerance) {
+
+        static Options parse(String[] args) {
+            Map<String, String> values = new HashMap<>();
+            for (String arg : args) {
+                if (arg.startsWith("--load.")) {
+                    int separator = arg.indexOf('=');
+                    if (separator < 0) {
+                        throw new IllegalArgumentException("Expected --load.<name>=<value>: " + arg);
+                    }
+                    values.put(arg.substring("--load.".length(), separator), arg.substring(separator + 1));
+                }
+            }
+            return new Options(
+                    Integer.parseInt(values.getOrDefault("workers", "16")),
+                    Duration.ofSeconds(Long.parseLong(values.getOrDefault("warmup", "20"))),
+                    Duration.ofSeconds(Long.parseLong(values.getOrDefault("duration", "60"))),
+                    Duration.ofMillis(Long.parseLong(values.getOrDefault("think-ms", "0"))),
+                    Integer.parseInt(values.getOrDefault("buckets-per-user", "3")),
+                    Integer.parseInt(values.getOrDefault("tasks-per-user", "40")),
+                    Long.parseLong(values.getOrDefault("seed", "42")),
+                    values.getOrDefault("baseline", "baseline/load-baseline.json"),
+                    values.getOrDefault("result", "target/load-result.json"),
+                    Boolean.parseBoolean(values.getOrDefault("update-baseline", "false")),
+                    new LoadReport.Tolerance(
+                            Double.parseDouble(values.getOrDefault("latency-tolerance", "0.25")),
+                            Double.parseDouble(values.getOrDefault("latency-slack-ms", "2")),
+                            Double.parseDouble(values.getOrDefault("throughput-tolerance", "0.15")),
+                            Double.parseDouble(values.getOrDefault("error-rate-tolerance", "0.001"))));
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.taskify.taskify.load;
+
+/**
+ * The request mix a virtual user replays. Weights are relative: most traffic is
+ * reading lists and dashboards, a fifth is task edits, and logins and weekly
+ * reviews are occasional.
+ */
+enum Operation {
+
+    LOGIN("POST /api/v1/auth/login", 2),
+    LIST("GET /api/v1/tasks", 30),
+    FOCUS("GET /api/v1/tasks/focus", 15),
+    UPDATE("PUT /api/v1/tasks/{id}", 20),
+    CHECK_IN("POST /api/v1/day/check-in", 8),
+    REVIEW("GET /api/v1/tasks/review", 5),
+    OVERVIEW("GET /api/v1/intents/overview", 20);
+
+    private static final int TOTAL_WEIGHT;
+
+    static {
+        int total = 0;
+        for (Operation operation : values()) {
+            total += operation.weight;
+        }
+        TOTAL_WEIGHT = total;
+    }
+
+    private final String endpoint;
+    private final int weight;
+
+    Operation(String endpoint, int weight) {
+        this.endpoint = endpoint;
+        this.weight = weight;
+    }
+
+    String endpoint() {
+        return endpoint;
+    }
+
+    /**
+     * Picks an operation for a uniform draw in {@code [0, 1)}.
+     */
+    static Operation pick(double draw) {
+        int target = (int) (draw * TOTAL_WEIGHT);
+        for (Operation operation : values()) {
+            target -= operation.weight;
+            if (target < 0) {
+                return operation;
+            }
+        }
+        return OVERVIEW;
+    }
+}
@@ -0,0 +1,125 @@
+package com.taskify.taskify.security;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Request hashing for idempotent POST and PATCH requests:
+ * {@link IdempotencyFilter#readBody} reads the body once through a digest stream,
+ * against a plain SHA-256 of bytes already in memory.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IdempotencyBodyHashBenchmark {
+
+    // The application's default app.idempotency.max-body-bytes
+    private static final int MAX_BODY_BYTES = 1_048_576;
+
+    /**
+     * Body size in bytes: a typical task create, and one near the field limits.
+     */
+    @Param({ "256", "4096" })
+    private int bodySize;
+
+    private byte[] body;
+    private HttpServletRequest request;
+
+    @Setup
+    public void setUp() {
+        StringBuilder json = new StringBuilder("{\"title\":\"Benchmark task\",\"description\":\"");
+        while (json.length() < bodySize - 2) {
+            json.append('x');
+        }
+        body = json.append("\"}").toString().getBytes(StandardCharsets.UTF_8);
+
+        // Every read gets a fresh stream over the same bytes
+        request = new HttpServletRequestWrapper(new MockHttpServletRequest("POST", "/api/v1/tasks")) {
+            @Override
+            public ServletInputStream getInputStream() {
+                return new BodyInputStream(body);
+            }
+        };
+    }
+
+    @Benchmark
+    public Object readAndHashBody() throws IOException {
+        return IdempotencyFilter.readBody(request, MAX_BODY_BYTES);
+    }
+
+    @Benchmark
+    public byte[] hashBufferedBody() throws NoSuchAlgorithmException {
+        return MessageDigest.getInstance("SHA-256").digest(body);
+    }
+
+    /**
+     * Reads in bulk like the container's stream does; the mock request's stream
+     * reads a byte at a time, which would dominate the measurement.
+     */
+    private static final class BodyInputStream extends ServletInputStream {
+
+        private final ByteArrayInputStream in;
+
+        BodyInputStream(byte[] body) {
+            this.in = new ByteArrayInputStream(body);
+        }
+
+        @Override
+        public int read() {
+            return in.read();
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            return in.read(b, off, len);
+        }
+
+        @Override
+        public boolean isFinished() {
+            return in.available() == 0;
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(IdempotencyBodyHashBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,155 @@
+package com.taskify.taskify.service;
+
+import com.taskify.taskify.TaskifyApplication;
+import com.taskify.taskify.dto.TaskResponse;
+import com.taskify.taskify.model.IntentBucket;
+import com.taskify.taskify.model.Priority;
+import com.taskify.taskify.model.Status;
+import com.taskify.taskify.model.Task;
+import com.taskify.taskify.model.User;
+import com.taskify.taskify.repository.IntentBucketRepository;
+import com.taskify.taskify.repository.TaskRepository;
+import com.taskify.taskify.repository.UserRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link TaskService#getAllTasks} for the first page of a user's list, the call
+ * behind {@code GET /api/v1/tasks}, on the application booted against in-memory
+ * H2. A miss runs the query, the count and the {@code TaskResponse} mapping; a hit
+ * builds the cache key and reads the cached page.
+ *
+ * <p>
+ * Calls run in a read-only transaction, as the request-scoped session does for
+ * the controller, so the intent bucket of each task can be loaded.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskListBenchmark {
+
+    private static final int TASKS = 500;
+
+    @Param({ "10", "100" })
+    private int pageSize;
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private TransactionTemplate readOnlyTransaction;
+    private Cache taskListCache;
+    private Pageable firstPage;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(TaskifyApplication.class)
+                .run(
+                        "--server.port=0",
+                        "--spring.main.banner-mode=off",
+                        "--logging.level.root=WARN",
+                        "--spring.datasource.url=jdbc:h2:mem:task-list-benchmark;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--spring.jpa.show-sql=false",
+                        "--app.cache.invalidation.transport=loopback",
+                        "--app.warmup.enabled=false");
+        taskService = context.getBean(TaskService.class);
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+        taskListCache = context.getBean(CacheManager.class).getCache("tasks");
+        firstPage = PageRequest.of(0, pageSize, Sort.by("dueDate"));
+
+        User user = context.getBean(UserRepository.class)
+                .save(new User("benchmark-user", "benchmark@example.com", "password"));
+        IntentBucket bucket = context.getBean(IntentBucketRepository.class)
+                .save(new IntentBucket(user.getId(), "Deep work", "Long focus blocks", "#3366ff"));
+        seedTasks(user, bucket);
+
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user.getUsername(), null, List.of()));
+    }
+
+    @TearDown
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+        context.close();
+    }
+
+    @Benchmark
+    public Page<TaskResponse> firstPageUncached() {
+        taskListCache.clear();
+        return firstPage();
+    }
+
+    @Benchmark
+    public Page<TaskResponse> firstPageCached() {
+        return firstPage();
+    }
+
+    private Page<TaskResponse> firstPage() {
+        return readOnlyTransaction.execute(status -> taskService.getAllTasks(
+                null, null, null, null, null, null, null, null, false, firstPage));
+    }
+
+    /**
+     * A mix of statuses, priorities and due dates, half of the tasks in an
+     * intent bucket.
+     */
+    private void seedTasks(User user, IntentBucket bucket) {
+        LocalDateTime now = LocalDateTime.now();
+        Status[] statuses = Status.values();
+        Priority[] priorities = Priority.values();
+        List<Task> tasks = new ArrayList<>(TASKS);
+        for (int i = 0; i < TASKS; i++) {
+            // Due dates run from a week overdue to a week out, with some unset
+            LocalDateTime dueDate = i % 5 == 4 ? null : now.plusDays(i % 15 - 7);
+            Task task = new Task("Task " + i, "Description of task " + i, "Because it matters " + i,
+                    statuses[i % statuses.length], priorities[i % priorities.length], dueDate, user);
+            if (i % 2 == 0) {
+                task.setIntentBucket(bucket);
+            }
+            tasks.add(task);
+        }
+        context.getBean(TaskRepository.class).saveAll(tasks);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(TaskListBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
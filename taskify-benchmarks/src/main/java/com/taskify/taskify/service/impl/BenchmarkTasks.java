@@ -0,0 +1,46 @@
+package com.taskify.taskify.service.impl;
+
+import com.taskify.taskify.model.IntentBucket;
+import com.taskify.taskify.model.Priority;
+import com.taskify.taskify.model.Status;
+import com.taskify.taskify.model.Task;
+import com.taskify.taskify.model.User;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Detached tasks shaped like a real list page: a mix of statuses, priorities
+ * and due dates, half of them in an intent bucket.
+ */
+public final class BenchmarkTasks {
+
+    private BenchmarkTasks() {
+    }
+
+    public static List<Task> page(int size, LocalDateTime now) {
+        User owner = new User("benchmark-user", "benchmark@example.com", "");
+        owner.setId(42L);
+        IntentBucket bucket = new IntentBucket(42L, "Deep work", "Long focus blocks", "#3366ff");
+        bucket.setId(7L);
+
+        Status[] statuses = Status.values();
+        Priority[] priorities = Priority.values();
+        List<Task> tasks = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            // Due dates run from a week overdue to a week out, with some unset
+            LocalDateTime dueDate = i % 5 == 4 ? null : now.plusDays(i % 15 - 7);
+            Task task = new Task("Task " + i, "Description of task " + i, "Because it matters " + i,
+                    statuses[i % statuses.length], priorities[i % priorities.length], dueDate, owner);
+            task.setId(i + 1L);
+            task.setCreatedAt(now.minusDays(30));
+            task.setLastModifiedAt(now.minusDays(i % 20));
+            if (i % 2 == 0) {
+                task.setIntentBucket(bucket);
+            }
+            tasks.add(task);
+        }
+        return tasks;
+    }
+}
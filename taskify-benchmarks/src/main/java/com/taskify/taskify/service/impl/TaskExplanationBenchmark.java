@@ -0,0 +1,66 @@
+package com.taskify.taskify.service.impl;
+
+import com.taskify.taskify.model.Task;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Explanation messages for one focus list and one stagnant list, each built for
+ * a page of {@value #PAGE_SIZE} tasks covering every message branch.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskExplanationBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    private final TaskExplanationServiceImpl explanationService = new TaskExplanationServiceImpl();
+    private LocalDateTime now;
+    private List<Task> tasks;
+
+    @Setup
+    public void setUp() {
+        now = LocalDateTime.now();
+        tasks = BenchmarkTasks.page(PAGE_SIZE, now);
+    }
+
+    @Benchmark
+    public void focusExplanations(Blackhole blackhole) {
+        for (Task task : tasks) {
+            blackhole.consume(explanationService.generateFocusExplanation(task, now));
+        }
+    }
+
+    @Benchmark
+    public void stagnantExplanations(Blackhole blackhole) {
+        for (Task task : tasks) {
+            blackhole.consume(explanationService.generateStagnantExplanation(task, now));
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(TaskExplanationBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}